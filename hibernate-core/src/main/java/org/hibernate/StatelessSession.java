@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.List;
+
 import jakarta.persistence.EntityGraph;
 import org.hibernate.graph.GraphSemantic;
 
@@ -101,6 +103,78 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	void delete(String entityName, Object entity);
 
+	/**
+	 * Insert a row for each of the given entities.
+	 * <p>
+	 * Within an active transaction, consecutive inserts of the same
+	 * entity type are sent to the database as JDBC batches, of the
+	 * {@linkplain #getJdbcBatchSize() configured JDBC batch size}, or
+	 * of the size of the list if no batch size has been configured.
+	 * The entities are processed in the order they occur in the list,
+	 * unless {@value org.hibernate.cfg.AvailableSettings#ORDER_INSERTS}
+	 * is enabled, in which case they are grouped by entity type. This
+	 * grouping does not take associations between the entities into
+	 * account. All statements have been executed when this method
+	 * returns.
+	 *
+	 * @param entities a list of new transient instances
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
+	/**
+	 * Update a row for each of the given entities.
+	 * <p>
+	 * The entities are grouped by entity type if
+	 * {@value org.hibernate.cfg.AvailableSettings#ORDER_UPDATES}
+	 * is enabled.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @see #insertMultiple(List) for the handling of JDBC batching
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
+	/**
+	 * Delete a row for each of the given entities.
+	 * <p>
+	 * The entities are grouped by entity type if
+	 * {@value org.hibernate.cfg.AvailableSettings#ORDER_UPDATES}
+	 * is enabled.
+	 *
+	 * @param entities a list of detached entity instances
+	 *
+	 * @see #insertMultiple(List) for the handling of JDBC batching
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void deleteMultiple(List<?> entities);
+
+	/**
+	 * Insert a row for each of the given entities, using the native bulk
+	 * loading facility of the database, if the {@linkplain
+	 * org.hibernate.dialect.Dialect#getBulkInsertStrategy dialect} has
+	 * one, for example, {@code copy ... from stdin} on PostgreSQL.
+	 * <p>
+	 * The entities are grouped by entity type. Entity types which cannot
+	 * be bulk loaded, for example, because they are mapped to more than
+	 * one table, or because their identifiers are generated by the
+	 * database, are inserted {@linkplain #insertMultiple(List) using
+	 * JDBC batches} instead.
+	 *
+	 * @param entities a list of new transient instances
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void bulkInsert(List<?> entities);
+
 	/**
 	 * Use a SQL {@code merge into} statement to perform an upsert.
 	 *
@@ -124,6 +198,25 @@ public interface StatelessSession extends SharedSessionContract {
 	@Incubating
 	void upsert(String entityName, Object entity);
 
+	/**
+	 * Use a SQL {@code merge into} statement to perform an upsert of
+	 * each of the given entities.
+	 * <p>
+	 * The entities are grouped by entity type if
+	 * {@value org.hibernate.cfg.AvailableSettings#ORDER_UPDATES}
+	 * is enabled.
+	 *
+	 * @param entities a list of detached entity instances
+	 * @throws TransientObjectException is one of the entities is transient
+	 *
+	 * @see #upsert(Object)
+	 * @see #insertMultiple(List) for the handling of JDBC batching
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	void upsertMultiple(List<?> entities);
+
 	/**
 	 * Retrieve a row.
 	 *
@@ -146,7 +146,9 @@ public interface MetadataBuilder {
 	 * this Jandex index already contains all entries for all classes. No additional indexing
 	 * will be done in this case.
 	 *
-	 * @apiNote Here for future expansion. At the moment the passed Jandex index is not used.
+	 * @apiNote At the moment the passed Jandex index is only used during scanning, where the
+	 * classes it contains are discovered without reading their class files. The discovered
+	 * classes are still loaded to bind their annotations.
 	 *
 	 * @param jandexView The Jandex index to use.
 	 *
@@ -329,7 +329,7 @@ public class MetadataSources implements Serializable {
 	public MetadataSources addResource(String name) {
 		final XmlSource xmlSource = XmlSources.fromResource( name, classLoaderService );
 		final XmlMappingBinderAccess binderAccess = getXmlMappingBinderAccess();
-		getXmlBindingsForWrite().add( xmlSource.doBind( binderAccess.getMappingBinder()  ) );
+		getXmlBindingsForWrite().add( binderAccess.bind( xmlSource ) );
 		return this;
 	}
 
@@ -359,7 +359,7 @@ public class MetadataSources implements Serializable {
 	public MetadataSources addFile(File file) {
 		final XmlSource xmlSource = XmlSources.fromFile( file );
 		final XmlMappingBinderAccess binderAccess = getXmlMappingBinderAccess();
-		getXmlBindingsForWrite().add( xmlSource.doBind( binderAccess.getMappingBinder()  ) );
+		getXmlBindingsForWrite().add( binderAccess.bind( xmlSource ) );
 		return this;
 	}
 
@@ -444,7 +444,7 @@ public class MetadataSources implements Serializable {
 	public MetadataSources addCacheableFile(File file, File cacheDirectory) {
 		final XmlSource xmlSource = XmlSources.fromCacheableFile( file, cacheDirectory );
 		final XmlMappingBinderAccess binderAccess = getXmlMappingBinderAccess();
-		getXmlBindingsForWrite().add( xmlSource.doBind( binderAccess.getMappingBinder()  ) );
+		getXmlBindingsForWrite().add( binderAccess.bind( xmlSource ) );
 		return this;
 	}
 
@@ -464,7 +464,7 @@ public class MetadataSources implements Serializable {
 	public MetadataSources addCacheableFileStrictly(File file) throws SerializationException {
 		final XmlSource xmlSource = XmlSources.fromCacheableFile( file, true );
 		final XmlMappingBinderAccess binderAccess = getXmlMappingBinderAccess();
-		getXmlBindingsForWrite().add( xmlSource.doBind( binderAccess.getMappingBinder()  ) );
+		getXmlBindingsForWrite().add( binderAccess.bind( xmlSource ) );
 		return this;
 	}
 
@@ -484,7 +484,7 @@ public class MetadataSources implements Serializable {
 	public MetadataSources addCacheableFileStrictly(File file, File cacheDir) throws SerializationException {
 		final XmlSource xmlSource = XmlSources.fromCacheableFile( file, cacheDir, true );
 		final XmlMappingBinderAccess binderAccess = getXmlMappingBinderAccess();
-		getXmlBindingsForWrite().add( xmlSource.doBind( binderAccess.getMappingBinder()  ) );
+		getXmlBindingsForWrite().add( binderAccess.bind( xmlSource ) );
 		return this;
 	}
 
@@ -498,7 +498,7 @@ public class MetadataSources implements Serializable {
 	public MetadataSources addInputStream(InputStreamAccess xmlInputStreamAccess) {
 		final XmlSource xmlSource = XmlSources.fromStream( xmlInputStreamAccess );
 		final XmlMappingBinderAccess binderAccess = getXmlMappingBinderAccess();
-		getXmlBindingsForWrite().add( xmlSource.doBind( binderAccess.getMappingBinder()  ) );
+		getXmlBindingsForWrite().add( binderAccess.bind( xmlSource ) );
 		return this;
 	}
 
@@ -512,7 +512,7 @@ public class MetadataSources implements Serializable {
 	public MetadataSources addInputStream(InputStream xmlInputStream) {
 		final XmlSource xmlSource = XmlSources.fromStream( xmlInputStream );
 		final XmlMappingBinderAccess binderAccess = getXmlMappingBinderAccess();
-		getXmlBindingsForWrite().add( xmlSource.doBind( binderAccess.getMappingBinder()  ) );
+		getXmlBindingsForWrite().add( binderAccess.bind( xmlSource ) );
 		return this;
 	}
 
@@ -526,7 +526,7 @@ public class MetadataSources implements Serializable {
 	public MetadataSources addURL(URL url) {
 		final XmlSource xmlSource = XmlSources.fromUrl( url );
 		final XmlMappingBinderAccess binderAccess = getXmlMappingBinderAccess();
-		getXmlBindingsForWrite().add( xmlSource.doBind( binderAccess.getMappingBinder()  ) );
+		getXmlBindingsForWrite().add( binderAccess.bind( xmlSource ) );
 		return this;
 	}
 
@@ -544,7 +544,7 @@ public class MetadataSources implements Serializable {
 		final XmlMappingBinderAccess binderAccess = getXmlMappingBinderAccess();
 		XmlSources.fromJar(
 				jar,
-				xmlSource -> getXmlBindingsForWrite().add( xmlSource.doBind( binderAccess.getMappingBinder() ) )
+				xmlSource -> getXmlBindingsForWrite().add( binderAccess.bind( xmlSource ) )
 		);
 		return this;
 	}
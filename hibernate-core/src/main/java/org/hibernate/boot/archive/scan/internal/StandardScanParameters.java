@@ -8,6 +8,8 @@ package org.hibernate.boot.archive.scan.internal;
 
 import org.hibernate.boot.archive.scan.spi.ScanParameters;
 
+import org.jboss.jandex.IndexView;
+
 /**
  * @author Steve Ebersole
  */
@@ -15,8 +17,23 @@ public class StandardScanParameters implements ScanParameters {
 	/**
 	 * Singleton access
 	 */
-	public static final StandardScanParameters INSTANCE = new StandardScanParameters();
+	public static final StandardScanParameters INSTANCE = new StandardScanParameters( null );
+
+	private final IndexView jandexView;
+
+	/**
+	 * Creates scan parameters with a pre-built Jandex index of the classes to be scanned.
+	 *
+	 * @param jandexView The index, or {@code null} if the class files should be read.
+	 *
+	 * @since 6.4
+	 */
+	public StandardScanParameters(IndexView jandexView) {
+		this.jandexView = jandexView;
+	}
 
-	private StandardScanParameters() {
+	@Override
+	public IndexView getJandexView() {
+		return jandexView;
 	}
 }
@@ -20,13 +20,19 @@ import org.hibernate.boot.archive.spi.ArchiveEntry;
 import org.hibernate.boot.archive.spi.ArchiveEntryHandler;
 import org.hibernate.boot.archive.spi.ArchiveException;
 
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.ClassSummary;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 
 /**
- * Defines handling and filtering for class file entries within an archive
+ * Defines handling and filtering for class file entries within an archive.
+ * <p>
+ * If a pre-built Jandex index is available, a class contained in the index is
+ * categorized from the index, without reading its class file. Other classes are
+ * categorized by indexing their class file.
  *
  * @author Steve Ebersole
  */
@@ -41,10 +47,22 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 	};
 
 	private final ScanResultCollector resultCollector;
+	private final IndexView jandexView;
 	private final Indexer indexer;
 
 	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector) {
+		this( resultCollector, null );
+	}
+
+	/**
+	 * @param resultCollector The collector of the discovered classes
+	 * @param jandexView A pre-built index of the classes, or {@code null}
+	 *
+	 * @since 6.4
+	 */
+	public ClassFileArchiveEntryHandler(ScanResultCollector resultCollector, IndexView jandexView) {
 		this.resultCollector = resultCollector;
+		this.jandexView = jandexView;
 		this.indexer = new Indexer();
 	}
 
@@ -61,6 +79,13 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 	}
 
 	private ClassDescriptor toClassDescriptor(ArchiveEntry entry) {
+		if ( jandexView != null ) {
+			final ClassInfo classInfo = jandexView.getClassByName( toClassName( entry.getNameWithinArchive() ) );
+			if ( classInfo != null ) {
+				return toClassDescriptor( classInfo, entry );
+			}
+		}
+
 		try (InputStream inputStream = entry.getStreamAccess().accessInputStream()) {
 			ClassSummary classSummary = indexer.indexWithSummary( inputStream );
 			Index index = indexer.complete();
@@ -84,6 +109,25 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 		return new ClassDescriptorImpl( classSummary.name().toString(), categorization, entry.getStreamAccess() );
 	}
 
+	private ClassDescriptor toClassDescriptor(ClassInfo classInfo, ArchiveEntry entry) {
+		ClassDescriptor.Categorization categorization = ClassDescriptor.Categorization.OTHER;
+
+		if ( isModel( classInfo ) ) {
+			categorization = ClassDescriptor.Categorization.MODEL;
+		}
+		else if ( classInfo.hasAnnotation( CONVERTER ) ) {
+			categorization = ClassDescriptor.Categorization.CONVERTER;
+		}
+
+		return new ClassDescriptorImpl( classInfo.name().toString(), categorization, entry.getStreamAccess() );
+	}
+
+	private static String toClassName(String nameWithinArchive) {
+		final int start = nameWithinArchive.startsWith( "/" ) ? 1 : 0;
+		final int end = nameWithinArchive.length() - ".class".length();
+		return nameWithinArchive.substring( start, end ).replace( '/', '.' );
+	}
+
 	private boolean isConverter(Index index) {
 		return !index.getAnnotations( CONVERTER ).isEmpty();
 	}
@@ -96,4 +140,13 @@ public class ClassFileArchiveEntryHandler implements ArchiveEntryHandler {
 		}
 		return false;
 	}
+
+	private boolean isModel(ClassInfo classInfo) {
+		for ( DotName model : MODELS ) {
+			if ( classInfo.hasAnnotation( model ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.boot.archive.scan.spi;
 
+import org.jboss.jandex.IndexView;
+
 /**
  * A "parameter object" passed to {@link Scanner#scan} to help support future
  * changes in terms of needing to pass additional stuff to scanning.
@@ -13,4 +15,17 @@ package org.hibernate.boot.archive.scan.spi;
  * @author Steve Ebersole
  */
 public interface ScanParameters {
+	/**
+	 * A pre-built Jandex index of the classes to be scanned, if one is available.
+	 * <p>
+	 * Classes contained in the index are categorized from the index, rather than by
+	 * reading and indexing their class file.
+	 *
+	 * @return The index, or {@code null} if the class files should be read.
+	 *
+	 * @since 6.4
+	 */
+	default IndexView getJandexView() {
+		return null;
+	}
 }
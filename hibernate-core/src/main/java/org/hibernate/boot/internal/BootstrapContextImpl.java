@@ -29,6 +29,7 @@ import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.boot.spi.BootstrapPhaseListener;
 import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
 import org.hibernate.cfg.AvailableSettings;
@@ -79,6 +80,7 @@ public class BootstrapContextImpl implements BootstrapContext {
 	private HashMap<Class<?>, ConverterDescriptor> attributeConverterDescriptorMap;
 	private ArrayList<CacheRegionDefinition> cacheRegionDefinitions;
 	private final ManagedTypeRepresentationResolver representationStrategySelector;
+	private final Collection<BootstrapPhaseListener> bootstrapPhaseListeners;
 
 	public BootstrapContextImpl(
 			StandardServiceRegistry serviceRegistry,
@@ -111,6 +113,8 @@ public class BootstrapContextImpl implements BootstrapContext {
 		this.typeConfiguration = new TypeConfiguration();
 		this.beanInstanceProducer = new TypeBeanInstanceProducer( configService );
 		this.sqmFunctionRegistry = new SqmFunctionRegistry();
+		this.bootstrapPhaseListeners = serviceRegistry.getService( ClassLoaderService.class )
+				.loadJavaServices( BootstrapPhaseListener.class );
 	}
 
 	@Override
@@ -266,6 +270,11 @@ public class BootstrapContextImpl implements BootstrapContext {
 		return representationStrategySelector;
 	}
 
+	@Override
+	public Collection<BootstrapPhaseListener> getBootstrapPhaseListeners() {
+		return bootstrapPhaseListeners;
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Mutations
@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.internal;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.boot.spi.BootstrapPhaseListener;
+import org.hibernate.event.jfr.internal.JfrEventManager;
+
+/**
+ * Times a {@linkplain BootstrapPhase phase} of bootstrap, reporting its duration
+ * to the {@link BootstrapPhaseListener}s and to the JDK Flight Recorder.
+ * <p>
+ * A phase is timed by calling {@link #start} before it, and {@link #stop()} in a
+ * {@code finally} block after it.  The listeners are resolved once per bootstrap, see
+ * {@link org.hibernate.boot.spi.BootstrapContext#getBootstrapPhaseListeners()}.
+ */
+public final class BootstrapPhaseTimer {
+	private final Collection<BootstrapPhaseListener> listeners;
+	private final BootstrapPhase phase;
+	private final String detail;
+	private final Object event;
+	private final long startTime;
+
+	private BootstrapPhaseTimer(
+			Collection<BootstrapPhaseListener> listeners,
+			BootstrapPhase phase,
+			String detail) {
+		this.listeners = listeners;
+		this.phase = phase;
+		this.detail = detail;
+		this.event = JfrEventManager.beginBootstrapPhaseEvent( phase, detail );
+		this.startTime = System.nanoTime();
+	}
+
+	public static BootstrapPhaseTimer start(Collection<BootstrapPhaseListener> listeners, BootstrapPhase phase) {
+		return start( listeners, phase, null );
+	}
+
+	public static BootstrapPhaseTimer start(
+			Collection<BootstrapPhaseListener> listeners,
+			BootstrapPhase phase,
+			String detail) {
+		return new BootstrapPhaseTimer( listeners, phase, detail );
+	}
+
+	/**
+	 * Report the completion of the timed phase.
+	 */
+	public void stop() {
+		final long endTime = System.nanoTime();
+		JfrEventManager.commitEvent( event );
+		if ( !listeners.isEmpty() ) {
+			final Duration duration = Duration.ofNanos( endTime - startTime );
+			for ( BootstrapPhaseListener listener : listeners ) {
+				listener.phaseCompleted( phase, detail, duration );
+			}
+		}
+	}
+}
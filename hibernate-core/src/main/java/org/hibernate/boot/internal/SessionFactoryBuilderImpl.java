@@ -6,6 +6,7 @@
  */
 package org.hibernate.boot.internal;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -17,6 +18,7 @@ import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.SessionFactoryBuilder;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.boot.spi.BootstrapPhaseListener;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryBuilderImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
@@ -68,8 +70,10 @@ public class SessionFactoryBuilderImpl implements SessionFactoryBuilderImplement
 				metadata.getMetadataBuildingOptions().getServiceRegistry()
 						.getService( BytecodeProvider.class );
 		addSessionFactoryObservers( new SessionFactoryObserverForBytecodeEnhancer( bytecodeProvider ) );
-		addSessionFactoryObservers( new SessionFactoryObserverForNamedQueryValidation( metadata ) );
-		addSessionFactoryObservers( new SessionFactoryObserverForSchemaExport( metadata ) );
+		final Collection<BootstrapPhaseListener> bootstrapPhaseListeners = context.getBootstrapPhaseListeners();
+		addSessionFactoryObservers( new SessionFactoryObserverForNamedQueryValidation( metadata, bootstrapPhaseListeners ) );
+		addSessionFactoryObservers( new SessionFactoryObserverForSchemaExport( metadata, bootstrapPhaseListeners ) );
+		addSessionFactoryObservers( new SessionFactoryObserverForQueryPlanCacheWarmUp() );
 		addSessionFactoryObservers( new SessionFactoryObserverForRegistration() );
 	}
 
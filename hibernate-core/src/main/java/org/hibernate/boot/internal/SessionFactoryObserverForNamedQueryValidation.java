@@ -6,9 +6,13 @@
  */
 package org.hibernate.boot.internal;
 
+import java.util.Collection;
+
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.boot.spi.BootstrapPhaseListener;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.spi.QueryEngine;
@@ -25,18 +29,31 @@ import org.hibernate.query.spi.QueryEngine;
  */
 class SessionFactoryObserverForNamedQueryValidation implements SessionFactoryObserver {
 	private final Metadata metadata;
+	private final Collection<BootstrapPhaseListener> bootstrapPhaseListeners;
 
-	SessionFactoryObserverForNamedQueryValidation(MetadataImplementor metadata) {
+	SessionFactoryObserverForNamedQueryValidation(
+			MetadataImplementor metadata,
+			Collection<BootstrapPhaseListener> bootstrapPhaseListeners) {
 		this.metadata = metadata;
+		this.bootstrapPhaseListeners = bootstrapPhaseListeners;
 	}
 
 	@Override
 	public void sessionFactoryCreated(SessionFactory factory) {
 		SessionFactoryImplementor sessionFactory = (SessionFactoryImplementor) factory;
-		final QueryEngine queryEngine = sessionFactory.getQueryEngine();
-		queryEngine.getNamedObjectRepository().prepare( sessionFactory, metadata );
-		if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
-			queryEngine.validateNamedQueries();
+		final BootstrapPhaseTimer timer = BootstrapPhaseTimer.start(
+				bootstrapPhaseListeners,
+				BootstrapPhase.NAMED_QUERY_VALIDATION
+		);
+		try {
+			final QueryEngine queryEngine = sessionFactory.getQueryEngine();
+			queryEngine.getNamedObjectRepository().prepare( sessionFactory, metadata );
+			if ( sessionFactory.getSessionFactoryOptions().isNamedQueryStartupCheckingEnabled() ) {
+				queryEngine.validateNamedQueries();
+			}
+		}
+		finally {
+			timer.stop();
 		}
 	}
 }
@@ -0,0 +1,23 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.internal;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryEngine;
+
+/**
+ * Responsible for triggering the {@linkplain QueryEngine#warmUpInterpretationCache()
+ * warm-up of the query interpretation cache} when the {@link SessionFactory} is created.
+ */
+class SessionFactoryObserverForQueryPlanCacheWarmUp implements SessionFactoryObserver {
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		( (SessionFactoryImplementor) factory ).getQueryEngine().warmUpInterpretationCache();
+	}
+}
@@ -6,8 +6,12 @@
  */
 package org.hibernate.boot.internal;
 
+import java.util.Collection;
+
 import org.hibernate.SessionFactory;
 import org.hibernate.SessionFactoryObserver;
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.boot.spi.BootstrapPhaseListener;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
@@ -26,20 +30,33 @@ import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
  */
 class SessionFactoryObserverForSchemaExport implements SessionFactoryObserver {
 	private final MetadataImplementor metadata;
+	private final Collection<BootstrapPhaseListener> bootstrapPhaseListeners;
 	private DelayedDropAction delayedDropAction;
 
-	SessionFactoryObserverForSchemaExport(MetadataImplementor metadata) {
+	SessionFactoryObserverForSchemaExport(
+			MetadataImplementor metadata,
+			Collection<BootstrapPhaseListener> bootstrapPhaseListeners) {
 		this.metadata = metadata;
+		this.bootstrapPhaseListeners = bootstrapPhaseListeners;
 	}
 
 	@Override
 	public void sessionFactoryCreated(SessionFactory factory) {
-		SchemaManagementToolCoordinator.process(
-				metadata,
-				getRegistry( factory ),
-				factory.getProperties(),
-				action -> delayedDropAction = action
+		final BootstrapPhaseTimer timer = BootstrapPhaseTimer.start(
+				bootstrapPhaseListeners,
+				BootstrapPhase.SCHEMA_MANAGEMENT
 		);
+		try {
+			SchemaManagementToolCoordinator.process(
+					metadata,
+					getRegistry( factory ),
+					factory.getProperties(),
+					action -> delayedDropAction = action
+			);
+		}
+		finally {
+			timer.stop();
+		}
 	}
 
 	@Override
@@ -10,8 +10,14 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
 
+import org.hibernate.Version;
 import org.hibernate.boot.MappingException;
 import org.hibernate.boot.jaxb.Origin;
 import org.hibernate.boot.jaxb.SourceType;
@@ -24,6 +30,18 @@ import org.hibernate.internal.util.SerializationHelper;
 import org.hibernate.type.SerializationException;
 
 /**
+ * An {@link XmlSource} for a mapping file, whose binding is cached in a file.
+ * <p>
+ * The cache file records the version of Hibernate which wrote it, and a digest of the
+ * content of the mapping file it was bound from.  In non-strict mode, a cache file written
+ * by another version of Hibernate, for another content of the mapping file, or in the format
+ * of Hibernate 6.3 and earlier, is replaced by binding the mapping file again.
+ * <p>
+ * In strict mode, the cache file is trusted: the mapping file is neither read nor hashed.
+ * A cache file in the format of Hibernate 6.3 and earlier is still used.  When the cache file
+ * was written by another version of Hibernate, the mapping file is bound instead, with a
+ * warning, if it is available.
+ *
  * @author Steve Ebersole
  */
 public class CacheableFileXmlSource extends XmlSource {
@@ -65,7 +83,25 @@ public class CacheableFileXmlSource extends XmlSource {
 	public Binding doBind(Binder binder) {
 		if ( strict ) {
 			try {
-				return new Binding( readSerFile(), getOrigin() );
+				final CachedBinding cachedBinding = readSerFile();
+				// trust the cache file: checking its version does not require reading the mapping file
+				if ( !cachedBinding.isLegacy() && !cachedBinding.isWrittenByThisVersion() ) {
+					if ( xmlFile.exists() ) {
+						log.warnf(
+								"Cached file [%s] was written by Hibernate %s, binding the mapping file [%s] instead",
+								serFile,
+								cachedBinding.hibernateVersion,
+								xmlFile.getPath()
+						);
+						return FileXmlSource.doBind( binder, xmlFile, getOrigin() );
+					}
+					log.warnf(
+							"Cached file [%s] was written by Hibernate %s, but is used as the mapping file is not available",
+							serFile,
+							cachedBinding.hibernateVersion
+					);
+				}
+				return new Binding( cachedBinding.root, getOrigin() );
 			}
 			catch ( SerializationException e ) {
 				throw new MappingException(
@@ -85,7 +121,14 @@ public class CacheableFileXmlSource extends XmlSource {
 		else {
 			if ( !isSerfileObsolete() ) {
 				try {
-					return readSerFile();
+					final CachedBinding cachedBinding = readSerFile();
+					if ( cachedBinding.isCurrent( xmlFile ) ) {
+						return new Binding( cachedBinding.root, getOrigin() );
+					}
+					log.debugf(
+							"Omitting cached file [%s] as it was written by another version of Hibernate, or for another content of the mapping file",
+							serFile
+					);
 				}
 				catch ( SerializationException e ) {
 					log.unableToDeserializeCache( serFile.getName(), e );
@@ -107,21 +150,29 @@ public class CacheableFileXmlSource extends XmlSource {
 		}
 	}
 
-	private <T> T readSerFile() throws SerializationException, FileNotFoundException {
+	private CachedBinding readSerFile() throws SerializationException, FileNotFoundException {
 		log.readingCachedMappings( serFile );
-		return SerializationHelper.deserialize( new FileInputStream( serFile ) );
+		final Object cached = SerializationHelper.deserialize( new FileInputStream( serFile ) );
+		if ( cached instanceof CachedBinding ) {
+			return (CachedBinding) cached;
+		}
+		// written by a version of Hibernate which did not record its version
+		return new CachedBinding( null, null, (Serializable) cached );
 	}
 
-	private void writeSerFile(Object binding) {
-		writeSerFile( (Serializable) binding, xmlFile, serFile );
+	private void writeSerFile(Binding<?> binding) {
+		writeSerFile( binding, xmlFile, serFile );
 	}
 
-	private static void writeSerFile(Serializable binding, File xmlFile, File serFile) {
+	private static void writeSerFile(Binding<?> binding, File xmlFile, File serFile) {
 		try ( FileOutputStream fos = new FileOutputStream( serFile ) ) {
 			if ( log.isDebugEnabled() ) {
 				log.debugf( "Writing cache file for: %s to: %s", xmlFile.getAbsolutePath(), serFile.getAbsolutePath() );
 			}
-			SerializationHelper.serialize( binding, fos );
+			SerializationHelper.serialize(
+					new CachedBinding( Version.getVersionString(), digest( xmlFile ), (Serializable) binding.getRoot() ),
+					fos
+			);
 			boolean success = serFile.setLastModified( System.currentTimeMillis() );
 			if ( !success ) {
 				log.warn( "Could not update cacheable hbm.xml bin file timestamp" );
@@ -149,4 +200,67 @@ public class CacheableFileXmlSource extends XmlSource {
 		return xmlFile.exists() && serFile.exists() && xmlFile.lastModified() > serFile.lastModified();
 	}
 
+	private static String digest(File xmlFile) throws IOException {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// every implementation of the Java platform supports SHA-256
+			throw new IllegalStateException( e );
+		}
+		final StringBuilder hex = new StringBuilder();
+		for ( byte b : digest.digest( Files.readAllBytes( xmlFile.toPath() ) ) ) {
+			hex.append( String.format( "%02x", b ) );
+		}
+		return hex.toString();
+	}
+
+	/**
+	 * The content of a cache file.
+	 */
+	private static class CachedBinding implements Serializable {
+		private final String hibernateVersion;
+		private final String xmlFileDigest;
+		private final Serializable root;
+
+		private CachedBinding(String hibernateVersion, String xmlFileDigest, Serializable root) {
+			this.hibernateVersion = hibernateVersion;
+			this.xmlFileDigest = xmlFileDigest;
+			this.root = root;
+		}
+
+		/**
+		 * Whether this binding was read from a cache file in the format written by Hibernate 6.3
+		 * and earlier, which only holds the binding.
+		 */
+		private boolean isLegacy() {
+			return hibernateVersion == null;
+		}
+
+		private boolean isWrittenByThisVersion() {
+			return Version.getVersionString().equals( hibernateVersion );
+		}
+
+		/**
+		 * Whether this binding was written by this version of Hibernate, for the current
+		 * content of the mapping file.  The content is not checked when the mapping file
+		 * is not available.
+		 */
+		private boolean isCurrent(File xmlFile) {
+			if ( !isWrittenByThisVersion() ) {
+				return false;
+			}
+			if ( !xmlFile.exists() ) {
+				return true;
+			}
+			try {
+				return Objects.equals( xmlFileDigest, digest( xmlFile ) );
+			}
+			catch (IOException e) {
+				return false;
+			}
+		}
+	}
+
 }
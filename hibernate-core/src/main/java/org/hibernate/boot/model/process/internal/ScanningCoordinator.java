@@ -25,6 +25,7 @@ import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
 import org.hibernate.boot.archive.scan.spi.ScanResult;
 import org.hibernate.boot.archive.scan.spi.Scanner;
 import org.hibernate.boot.archive.spi.ArchiveDescriptorFactory;
+import org.hibernate.boot.internal.BootstrapPhaseTimer;
 import org.hibernate.boot.internal.ClassLoaderAccessImpl;
 import org.hibernate.boot.jaxb.Origin;
 import org.hibernate.boot.jaxb.SourceType;
@@ -32,6 +33,7 @@ import org.hibernate.boot.model.convert.internal.ClassBasedConverterDescriptor;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
 import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.boot.spi.BootstrapPhase;
 import org.hibernate.boot.spi.ClassLoaderAccess;
 import org.hibernate.boot.spi.XmlMappingBinderAccess;
 import org.hibernate.service.ServiceRegistry;
@@ -72,11 +74,25 @@ public class ScanningCoordinator {
 		// NOTE : the idea with JandexInitializer/JandexInitManager was to allow adding classes
 		// to the index as we discovered them via scanning and .  Currently
 		final Scanner scanner = buildScanner( bootstrapContext, classLoaderAccess );
-		final ScanResult scanResult = scanner.scan(
-				bootstrapContext.getScanEnvironment(),
-				bootstrapContext.getScanOptions(),
-				StandardScanParameters.INSTANCE
+		final BootstrapPhaseTimer scanTimer = BootstrapPhaseTimer.start(
+				bootstrapContext.getBootstrapPhaseListeners(),
+				BootstrapPhase.SCANNING
 		);
+		final ScanResult scanResult;
+		try {
+			// when a pre-built index was supplied, classes it contains are categorized from the
+			// index rather than by reading their class files
+			scanResult = scanner.scan(
+					bootstrapContext.getScanEnvironment(),
+					bootstrapContext.getScanOptions(),
+					bootstrapContext.getJandexView() == null
+							? StandardScanParameters.INSTANCE
+							: new StandardScanParameters( bootstrapContext.getJandexView() )
+			);
+		}
+		finally {
+			scanTimer.stop();
+		}
 
 		applyScanResultsToManagedResources( managedResources, scanResult, bootstrapContext, xmlMappingBinderAccess );
 	}
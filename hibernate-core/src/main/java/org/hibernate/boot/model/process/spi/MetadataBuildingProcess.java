@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.internal.BootstrapPhaseTimer;
 import org.hibernate.boot.internal.InFlightMetadataCollectorImpl;
 import org.hibernate.boot.internal.MetadataBuildingContextRootImpl;
 import org.hibernate.boot.jaxb.Origin;
@@ -53,6 +54,8 @@ import org.hibernate.boot.spi.AdditionalJaxbMappingProducer;
 import org.hibernate.boot.spi.AdditionalMappingContributions;
 import org.hibernate.boot.spi.AdditionalMappingContributor;
 import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.boot.spi.BootstrapPhaseListener;
 import org.hibernate.boot.spi.MetadataBuildingOptions;
 import org.hibernate.boot.spi.MetadataContributor;
 import org.hibernate.boot.spi.MetadataImplementor;
@@ -171,7 +174,17 @@ public class MetadataBuildingProcess {
 				options
 		);
 
-		handleTypes( bootstrapContext, options, metadataCollector );
+		final Collection<BootstrapPhaseListener> bootstrapPhaseListeners = bootstrapContext.getBootstrapPhaseListeners();
+		final BootstrapPhaseTimer typeRegistrationTimer = BootstrapPhaseTimer.start(
+				bootstrapPhaseListeners,
+				BootstrapPhase.TYPE_REGISTRATION
+		);
+		try {
+			handleTypes( bootstrapContext, options, metadataCollector );
+		}
+		finally {
+			typeRegistrationTimer.stop();
+		}
 
 		final ClassLoaderService classLoaderService = options.getServiceRegistry().getService( ClassLoaderService.class );
 
@@ -306,29 +319,47 @@ public class MetadataBuildingProcess {
 			}
 		};
 
-		processor.prepare();
+		final BootstrapPhaseTimer modelBindingTimer = BootstrapPhaseTimer.start(
+				bootstrapPhaseListeners,
+				BootstrapPhase.MODEL_BINDING
+		);
+		try {
+			processor.prepare();
 
-		processor.processTypeDefinitions();
-		processor.processQueryRenames();
-		processor.processAuxiliaryDatabaseObjectDefinitions();
+			processor.processTypeDefinitions();
+			processor.processQueryRenames();
+			processor.processAuxiliaryDatabaseObjectDefinitions();
 
-		processor.processIdentifierGenerators();
-		processor.processFilterDefinitions();
-		processor.processFetchProfiles();
+			processor.processIdentifierGenerators();
+			processor.processFilterDefinitions();
+			processor.processFetchProfiles();
 
-		final Set<String> processedEntityNames = new HashSet<>();
-		processor.prepareForEntityHierarchyProcessing();
-		processor.processEntityHierarchies( processedEntityNames );
-		processor.postProcessEntityHierarchies();
+			final Set<String> processedEntityNames = new HashSet<>();
+			processor.prepareForEntityHierarchyProcessing();
+			processor.processEntityHierarchies( processedEntityNames );
+			processor.postProcessEntityHierarchies();
 
-		processor.processResultSetMappings();
+			processor.processResultSetMappings();
 
-		for ( MetadataContributor contributor : classLoaderService.loadJavaServices( MetadataContributor.class ) ) {
-			log.tracef( "Calling MetadataContributor : %s", contributor );
-			contributor.contribute( metadataCollector, jandexView );
+			for ( MetadataContributor contributor : classLoaderService.loadJavaServices( MetadataContributor.class ) ) {
+				log.tracef( "Calling MetadataContributor : %s", contributor );
+				contributor.contribute( metadataCollector, jandexView );
+			}
+		}
+		finally {
+			modelBindingTimer.stop();
 		}
 
-		metadataCollector.processSecondPasses( rootMetadataBuildingContext );
+		final BootstrapPhaseTimer secondPassesTimer = BootstrapPhaseTimer.start(
+				bootstrapPhaseListeners,
+				BootstrapPhase.SECOND_PASSES
+		);
+		try {
+			metadataCollector.processSecondPasses( rootMetadataBuildingContext );
+		}
+		finally {
+			secondPassesTimer.stop();
+		}
 
 		// Make sure collections are fully bound before processing named queries as hbm result set mappings require it
 		processor.processNamedQueries();
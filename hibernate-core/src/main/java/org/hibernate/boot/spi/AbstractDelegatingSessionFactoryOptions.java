@@ -192,6 +192,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isSubselectFetchEnabled();
 	}
 
+	@Override
+	public int getNPlusOneSelectThreshold() {
+		return delegate.getNPlusOneSelectThreshold();
+	}
+
+	@Override
+	public boolean isNPlusOneSelectStrict() {
+		return delegate.isNPlusOneSelectStrict();
+	}
+
 	@Override
 	public NullPrecedence getDefaultNullPrecedence() {
 		return delegate.getDefaultNullPrecedence();
@@ -307,6 +317,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getJdbcFetchSize();
 	}
 
+	@Override
+	public int getPreparedStatementCacheSize() {
+		return delegate.getPreparedStatementCacheSize();
+	}
+
 	@Override
 	public PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode() {
 		return delegate.getPhysicalConnectionHandlingMode();
@@ -417,6 +432,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getQueryStatisticsMaxSize();
 	}
 
+	@Override
+	public int getSlowQueryHistoryMaxSize() {
+		return delegate.getSlowQueryHistoryMaxSize();
+	}
+
 	@Override
 	public boolean areJPACallbacksEnabled() {
 		return delegate.areJPACallbacksEnabled();
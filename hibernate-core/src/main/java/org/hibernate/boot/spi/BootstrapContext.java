@@ -20,6 +20,7 @@ import org.hibernate.boot.archive.spi.ArchiveDescriptorFactory;
 import org.hibernate.boot.internal.ClassmateContext;
 import org.hibernate.boot.model.convert.spi.ConverterDescriptor;
 import org.hibernate.boot.model.relational.AuxiliaryDatabaseObject;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.id.factory.IdentifierGeneratorFactory;
 import org.hibernate.jpa.spi.MutableJpaCompliance;
@@ -224,6 +225,17 @@ public interface BootstrapContext {
 	 */
 	ManagedTypeRepresentationResolver getRepresentationStrategySelector();
 
+	/**
+	 * The {@link BootstrapPhaseListener}s notified of the phases of this bootstrap.
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default Collection<BootstrapPhaseListener> getBootstrapPhaseListeners() {
+		return getServiceRegistry().requireService( ClassLoaderService.class )
+				.loadJavaServices( BootstrapPhaseListener.class );
+	}
+
 	/**
 	 * Releases the "bootstrap only" resources held by this {@code BootstrapContext}.
 	 */
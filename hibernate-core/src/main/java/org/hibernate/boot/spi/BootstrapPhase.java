@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * The timed phases of bootstrap, in the order in which they occur.
+ *
+ * @see BootstrapPhaseListener
+ *
+ * @since 6.4
+ */
+@Incubating
+public enum BootstrapPhase {
+	/**
+	 * Scanning of the {@linkplain org.hibernate.boot.archive.scan.spi.Scanner
+	 * persistence unit} for managed classes and mapping files.
+	 */
+	SCANNING,
+	/**
+	 * Parsing and JAXB binding of a single XML mapping file.
+	 */
+	XML_BINDING,
+	/**
+	 * Setup of the type registries, including the application of
+	 * {@link org.hibernate.boot.model.TypeContributor}s.
+	 */
+	TYPE_REGISTRATION,
+	/**
+	 * Binding of the annotated classes and {@code hbm.xml} mappings
+	 * to the boot model.
+	 */
+	MODEL_BINDING,
+	/**
+	 * Processing of the second passes of the boot model.
+	 */
+	SECOND_PASSES,
+	/**
+	 * Creation of the second-level cache regions.
+	 */
+	CACHE_REGION_CREATION,
+	/**
+	 * Creation of the entity and collection persisters.
+	 */
+	PERSISTER_CREATION,
+	/**
+	 * Creation of the runtime mapping model and of the JPA metamodel.
+	 */
+	MAPPING_MODEL_CREATION,
+	/**
+	 * Preparation and validation of the named queries.
+	 */
+	NAMED_QUERY_VALIDATION,
+	/**
+	 * Schema export, update or validation, when enabled.
+	 */
+	SCHEMA_MANAGEMENT
+}
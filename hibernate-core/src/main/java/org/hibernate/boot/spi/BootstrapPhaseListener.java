@@ -0,0 +1,35 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.boot.spi;
+
+import java.time.Duration;
+
+import org.hibernate.Incubating;
+import org.hibernate.service.JavaServiceLoadable;
+
+/**
+ * Notified of the duration of each {@linkplain BootstrapPhase phase} of bootstrap,
+ * for example in order to track the startup time of a domain model across releases.
+ * <p>
+ * Listeners are discovered as Java services.  The same timings are also recorded
+ * as {@code org.hibernate.orm.BootstrapPhase} events by the JDK Flight Recorder.
+ *
+ * @since 6.4
+ */
+@Incubating
+@JavaServiceLoadable
+public interface BootstrapPhaseListener {
+	/**
+	 * Called when a phase of bootstrap completes, including when it fails.
+	 *
+	 * @param phase The completed phase
+	 * @param detail What the phase applied to, for example the name of the bound
+	 * mapping file for {@link BootstrapPhase#XML_BINDING}; {@code null} otherwise
+	 * @param duration How long the phase took
+	 */
+	void phaseCompleted(BootstrapPhase phase, String detail, Duration duration);
+}
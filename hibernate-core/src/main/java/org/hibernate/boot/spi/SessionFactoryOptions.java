@@ -146,6 +146,30 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isSubselectFetchEnabled();
 
+	/**
+	 * The number of secondary selects of the same association following a
+	 * query above which an N+1 selects pattern is reported, or 0 if
+	 * detection is disabled.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default int getNPlusOneSelectThreshold() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_STRICT
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default boolean isNPlusOneSelectStrict() {
+		return false;
+	}
+
 	NullPrecedence getDefaultNullPrecedence();
 
 	boolean isOrderUpdatesEnabled();
@@ -188,6 +212,18 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	Integer getJdbcFetchSize();
 
+	/**
+	 * The maximum number of prepared statements cached per session.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default int getPreparedStatementCacheSize() {
+		return 0;
+	}
+
 	PhysicalConnectionHandlingMode getPhysicalConnectionHandlingMode();
 
 	default boolean doesConnectionProviderDisableAutoCommit() {
@@ -267,6 +303,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_HISTORY_MAX_SIZE
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default int getSlowQueryHistoryMaxSize() {
+		return Statistics.DEFAULT_SLOW_QUERY_HISTORY_MAX_SIZE;
+	}
+
 	default boolean areJPACallbacksEnabled() {
 		return true;
 	}
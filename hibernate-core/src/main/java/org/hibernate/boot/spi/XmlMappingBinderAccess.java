@@ -10,10 +10,12 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Collection;
 import java.util.function.Function;
 
 import org.hibernate.boot.MappingNotFoundException;
 import org.hibernate.boot.archive.spi.InputStreamAccess;
+import org.hibernate.boot.internal.BootstrapPhaseTimer;
 import org.hibernate.boot.jaxb.Origin;
 import org.hibernate.boot.jaxb.SourceType;
 import org.hibernate.boot.jaxb.internal.FileXmlSource;
@@ -22,6 +24,7 @@ import org.hibernate.boot.jaxb.internal.MappingBinder;
 import org.hibernate.boot.jaxb.internal.UrlXmlSource;
 import org.hibernate.boot.jaxb.spi.BindableMappingDescriptor;
 import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.jaxb.spi.XmlSource;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.service.ServiceRegistry;
 
@@ -39,15 +42,18 @@ public class XmlMappingBinderAccess {
 
 	private final ClassLoaderService classLoaderService;
 	private final MappingBinder mappingBinder;
+	private final Collection<BootstrapPhaseListener> bootstrapPhaseListeners;
 
 	public XmlMappingBinderAccess(ServiceRegistry serviceRegistry) {
 		this.classLoaderService = serviceRegistry.getService( ClassLoaderService.class );
 		this.mappingBinder = new MappingBinder( serviceRegistry );
+		this.bootstrapPhaseListeners = classLoaderService.loadJavaServices( BootstrapPhaseListener.class );
 	}
 
 	public XmlMappingBinderAccess(ServiceRegistry serviceRegistry, Function<String, Object> configAccess) {
 		this.classLoaderService = serviceRegistry.getService( ClassLoaderService.class );
 		this.mappingBinder = new MappingBinder( classLoaderService, configAccess );
+		this.bootstrapPhaseListeners = classLoaderService.loadJavaServices( BootstrapPhaseListener.class );
 	}
 
 	public MappingBinder getMappingBinder() {
@@ -66,8 +72,7 @@ public class XmlMappingBinderAccess {
 			throw new MappingNotFoundException( origin );
 		}
 
-		//noinspection unchecked
-		return new UrlXmlSource( origin, url ).doBind( getMappingBinder() );
+		return bind( new UrlXmlSource( origin, url ) );
 	}
 
 	/**
@@ -81,8 +86,7 @@ public class XmlMappingBinderAccess {
 			throw new MappingNotFoundException( origin );
 		}
 
-		//noinspection unchecked
-		return new FileXmlSource( origin, file ).doBind( getMappingBinder() );
+		return bind( new FileXmlSource( origin, file ) );
 	}
 
 	/**
@@ -94,8 +98,7 @@ public class XmlMappingBinderAccess {
 		final Origin origin = new Origin( SourceType.INPUT_STREAM, xmlInputStreamAccess.getStreamName() );
 		InputStream xmlInputStream = xmlInputStreamAccess.accessInputStream();
 		try {
-			//noinspection unchecked
-			return new InputStreamXmlSource( origin, xmlInputStream, false ).doBind( mappingBinder );
+			return bind( new InputStreamXmlSource( origin, xmlInputStream, false ) );
 		}
 		finally {
 			try {
@@ -113,8 +116,7 @@ public class XmlMappingBinderAccess {
 	public <X extends BindableMappingDescriptor> Binding<X> bind(InputStream xmlInputStream) {
 		LOG.trace( "reading mappings from InputStream" );
 		final Origin origin = new Origin( SourceType.INPUT_STREAM, null );
-		//noinspection unchecked
-		return new InputStreamXmlSource( origin, xmlInputStream, false ).doBind( getMappingBinder() );
+		return bind( new InputStreamXmlSource( origin, xmlInputStream, false ) );
 	}
 
 	/**
@@ -125,7 +127,24 @@ public class XmlMappingBinderAccess {
 		LOG.debugf( "Reading mapping document from URL : %s", urlExternalForm );
 
 		final Origin origin = new Origin( SourceType.URL, urlExternalForm );
-		//noinspection unchecked
-		return new UrlXmlSource( origin, url ).doBind( getMappingBinder() );
+		return bind( new UrlXmlSource( origin, url ) );
+	}
+
+	/**
+	 * Create a {@linkplain Binding binding} from an {@link XmlSource}
+	 */
+	public <X extends BindableMappingDescriptor> Binding<X> bind(XmlSource xmlSource) {
+		final BootstrapPhaseTimer timer = BootstrapPhaseTimer.start(
+				bootstrapPhaseListeners,
+				BootstrapPhase.XML_BINDING,
+				xmlSource.getOrigin().getName()
+		);
+		try {
+			//noinspection unchecked
+			return xmlSource.doBind( getMappingBinder() );
+		}
+		finally {
+			timer.stop();
+		}
 	}
 }
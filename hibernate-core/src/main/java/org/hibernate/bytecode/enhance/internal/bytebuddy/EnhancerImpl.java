@@ -12,6 +12,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,12 +40,15 @@ import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.ManagedMappedSuperclass;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
+import org.hibernate.engine.spi.PersistentStateAccessible;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 
 import jakarta.persistence.Access;
 import jakarta.persistence.AccessType;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Id;
 import jakarta.persistence.Transient;
 import jakarta.persistence.metamodel.Type;
 import net.bytebuddy.asm.Advice;
@@ -54,6 +58,7 @@ import net.bytebuddy.description.field.FieldDescription;
 import net.bytebuddy.description.field.FieldDescription.InDefinedShape;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.FieldPersistence;
+import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.description.type.TypeDefinition;
 import net.bytebuddy.description.type.TypeDescription;
@@ -347,7 +352,9 @@ public class EnhancerImpl implements Enhancer {
 				}
 			}
 
-			return createTransformer( managedCtClass ).applyTo( builder );
+			final PersistentAttributeTransformer transformer = createTransformer( managedCtClass );
+			builder = addStateAccess( builder, managedCtClass, transformer.getEnhancedFields() );
+			return transformer.applyTo( builder );
 		}
 		else if ( enhancementContext.isCompositeClass( managedCtClass ) ) {
 			log.debugf( "Enhancing [%s] as Composite", managedCtClass.getName() );
@@ -398,6 +405,47 @@ public class EnhancerImpl implements Enhancer {
 		}
 	}
 
+	private DynamicType.Builder<?> addStateAccess(
+			DynamicType.Builder<?> builder,
+			TypeDescription managedCtClass,
+			AnnotatedFieldDescription[] enhancedFields) {
+		final List<AnnotatedFieldDescription> stateFields = new ArrayList<>( enhancedFields.length );
+		for ( AnnotatedFieldDescription enhancedField : enhancedFields ) {
+			if ( enhancedField.hasAnnotation( Id.class ) || enhancedField.hasAnnotation( EmbeddedId.class ) ) {
+				continue;
+			}
+			if ( !enhancedField.isVisibleTo( managedCtClass ) ) {
+				// the field is private to a mapped superclass
+				log.debugf( "Skipping state accessors of [%s]: field [%s] is not visible", managedCtClass.getName(), enhancedField );
+				return builder;
+			}
+			stateFields.add( enhancedField );
+		}
+		// the attributes of a mapped superclass come first, as in the mapping model
+		stateFields.sort(
+				Comparator.<AnnotatedFieldDescription>comparingInt( field -> hierarchyDepth( field.getDeclaringType() ) )
+						.thenComparing( AnnotatedFieldDescription::getName )
+		);
+
+		return builder.implement( PersistentStateAccessible.class )
+				.defineMethod( EnhancerConstants.STATE_GETTER_NAME, void.class, Visibility.PUBLIC )
+						.withParameters( Object[].class )
+						.intercept( new Implementation.Simple( PersistentStateAppender.stateGetter( stateFields ) ) )
+				.defineMethod( EnhancerConstants.STATE_SETTER_NAME, void.class, Visibility.PUBLIC )
+						.withParameters( Object[].class )
+						.intercept( new Implementation.Simple( PersistentStateAppender.stateSetter( stateFields ) ) )
+				.defineMethod( EnhancerConstants.STATE_ATTRIBUTE_NAMES_GETTER_NAME, String[].class, Visibility.PUBLIC, Ownership.STATIC )
+						.intercept( new Implementation.Simple( PersistentStateAppender.attributeNamesGetter( stateFields ) ) );
+	}
+
+	private static int hierarchyDepth(TypeDefinition type) {
+		int depth = 0;
+		for ( TypeDefinition superClass = type.getSuperClass(); superClass != null; superClass = superClass.getSuperClass() ) {
+			depth++;
+		}
+		return depth;
+	}
+
 	private static void verifyVersions(TypeDescription managedCtClass, ByteBuddyEnhancementContext enhancementContext) {
 		final AnnotationDescription.Loadable<EnhancementInfo> existingInfo = managedCtClass
 				.getDeclaredAnnotations()
@@ -0,0 +1,224 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.enhance.internal.bytebuddy;
+
+import java.io.Serializable;
+import java.util.List;
+
+import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl.AnnotatedFieldDescription;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+
+import net.bytebuddy.ClassFileVersion;
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+
+/**
+ * Generates the methods of {@link org.hibernate.engine.spi.PersistentStateAccessible},
+ * which access the given persistent fields directly, in order.
+ */
+abstract class PersistentStateAppender implements ByteCodeAppender {
+
+	protected final List<AnnotatedFieldDescription> persistentFields;
+
+	private PersistentStateAppender(List<AnnotatedFieldDescription> persistentFields) {
+		this.persistentFields = persistentFields;
+	}
+
+	static ByteCodeAppender stateGetter(List<AnnotatedFieldDescription> persistentFields) {
+		return new StateGetter( persistentFields );
+	}
+
+	static ByteCodeAppender stateSetter(List<AnnotatedFieldDescription> persistentFields) {
+		return new StateSetter( persistentFields );
+	}
+
+	static ByteCodeAppender attributeNamesGetter(List<AnnotatedFieldDescription> persistentFields) {
+		return new AttributeNamesGetter( persistentFields );
+	}
+
+	private static class StateGetter extends PersistentStateAppender {
+
+		private StateGetter(List<AnnotatedFieldDescription> persistentFields) {
+			super( persistentFields );
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int i = 0; i < persistentFields.size(); i++ ) {
+				final FieldDescription.InDefinedShape field = persistentFields.get( i ).asDefined();
+				// state[i] = (boxed) this.field;
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				pushInt( methodVisitor, i );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+				methodVisitor.visitFieldInsn(
+						Opcodes.GETFIELD,
+						field.getDeclaringType().asErasure().getInternalName(),
+						field.getInternalName(),
+						field.getDescriptor()
+				);
+				if ( field.getType().isPrimitive() ) {
+					box( methodVisitor, field.getType().asErasure() );
+				}
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 5, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static class StateSetter extends PersistentStateAppender {
+
+		private StateSetter(List<AnnotatedFieldDescription> persistentFields) {
+			super( persistentFields );
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			for ( int i = 0; i < persistentFields.size(); i++ ) {
+				final FieldDescription.InDefinedShape field = persistentFields.get( i ).asDefined();
+				final TypeDescription fieldType = field.getType().asErasure();
+				// if ( state[i] != LazyPropertyInitializer.UNFETCHED_PROPERTY )
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				pushInt( methodVisitor, i );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				methodVisitor.visitFieldInsn(
+						Opcodes.GETSTATIC,
+						Type.getInternalName( LazyPropertyInitializer.class ),
+						"UNFETCHED_PROPERTY",
+						Type.getDescriptor( Serializable.class )
+				);
+				final Label skip = new Label();
+				methodVisitor.visitJumpInsn( Opcodes.IF_ACMPEQ, skip );
+				// this.field = (cast/unboxed) state[i];
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 0 );
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, 1 );
+				pushInt( methodVisitor, i );
+				methodVisitor.visitInsn( Opcodes.AALOAD );
+				if ( fieldType.isPrimitive() ) {
+					unbox( methodVisitor, fieldType );
+				}
+				else if ( !fieldType.represents( Object.class ) ) {
+					methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, fieldType.getInternalName() );
+				}
+				methodVisitor.visitFieldInsn(
+						Opcodes.PUTFIELD,
+						field.getDeclaringType().asErasure().getInternalName(),
+						field.getInternalName(),
+						field.getDescriptor()
+				);
+				// end if
+				methodVisitor.visitLabel( skip );
+				if ( implementationContext.getClassFileVersion().isAtLeast( ClassFileVersion.JAVA_V6 ) ) {
+					methodVisitor.visitFrame( Opcodes.F_SAME, 0, null, 0, null );
+				}
+			}
+			methodVisitor.visitInsn( Opcodes.RETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static class AttributeNamesGetter extends PersistentStateAppender {
+
+		private AttributeNamesGetter(List<AnnotatedFieldDescription> persistentFields) {
+			super( persistentFields );
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			// return new String[] { "field", ... };
+			pushInt( methodVisitor, persistentFields.size() );
+			methodVisitor.visitTypeInsn( Opcodes.ANEWARRAY, Type.getInternalName( String.class ) );
+			for ( int i = 0; i < persistentFields.size(); i++ ) {
+				methodVisitor.visitInsn( Opcodes.DUP );
+				pushInt( methodVisitor, i );
+				methodVisitor.visitLdcInsn( persistentFields.get( i ).getName() );
+				methodVisitor.visitInsn( Opcodes.AASTORE );
+			}
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 4, instrumentedMethod.getStackSize() );
+		}
+	}
+
+	private static void pushInt(MethodVisitor methodVisitor, int value) {
+		if ( value <= 5 ) {
+			methodVisitor.visitInsn( Opcodes.ICONST_0 + value );
+		}
+		else if ( value <= Byte.MAX_VALUE ) {
+			methodVisitor.visitIntInsn( Opcodes.BIPUSH, value );
+		}
+		else if ( value <= Short.MAX_VALUE ) {
+			methodVisitor.visitIntInsn( Opcodes.SIPUSH, value );
+		}
+		else {
+			methodVisitor.visitLdcInsn( value );
+		}
+	}
+
+	private static void box(MethodVisitor methodVisitor, TypeDescription primitiveType) {
+		final Type primitive = Type.getType( primitiveType.getDescriptor() );
+		final String wrapper = wrapperInternalName( primitive );
+		methodVisitor.visitMethodInsn(
+				Opcodes.INVOKESTATIC,
+				wrapper,
+				"valueOf",
+				Type.getMethodDescriptor( Type.getObjectType( wrapper ), primitive ),
+				false
+		);
+	}
+
+	private static void unbox(MethodVisitor methodVisitor, TypeDescription primitiveType) {
+		final Type primitive = Type.getType( primitiveType.getDescriptor() );
+		final String wrapper = wrapperInternalName( primitive );
+		methodVisitor.visitTypeInsn( Opcodes.CHECKCAST, wrapper );
+		methodVisitor.visitMethodInsn(
+				Opcodes.INVOKEVIRTUAL,
+				wrapper,
+				primitive.getClassName() + "Value",
+				Type.getMethodDescriptor( primitive ),
+				false
+		);
+	}
+
+	private static String wrapperInternalName(Type primitive) {
+		switch ( primitive.getSort() ) {
+			case Type.BOOLEAN:
+				return Type.getInternalName( Boolean.class );
+			case Type.BYTE:
+				return Type.getInternalName( Byte.class );
+			case Type.CHAR:
+				return Type.getInternalName( Character.class );
+			case Type.SHORT:
+				return Type.getInternalName( Short.class );
+			case Type.INT:
+				return Type.getInternalName( Integer.class );
+			case Type.LONG:
+				return Type.getInternalName( Long.class );
+			case Type.FLOAT:
+				return Type.getInternalName( Float.class );
+			case Type.DOUBLE:
+				return Type.getInternalName( Double.class );
+			default:
+				throw new IllegalArgumentException( "Not a primitive type: " + primitive );
+		}
+	}
+}
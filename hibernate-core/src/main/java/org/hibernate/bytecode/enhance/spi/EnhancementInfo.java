@@ -13,6 +13,9 @@ import java.lang.annotation.Target;
 
 /**
  * Provides basic information about the enhancement done to a class.
+ * <p>
+ * Also added to the entity proxies and instantiators generated at build time, which are
+ * only used by the same version of Hibernate.
  */
 @Target( ElementType.TYPE )
 @Retention( RetentionPolicy.RUNTIME )
@@ -182,6 +182,27 @@ public final class EnhancerConstants {
 	 */
 	public static final String TRACKER_COMPOSITE_CLEAR_OWNER = "$$_hibernate_clearOwner";
 
+	/**
+	 * Name of the method used to read the whole persistent state of the entity
+	 *
+	 * @see org.hibernate.engine.spi.PersistentStateAccessible
+	 */
+	public static final String STATE_GETTER_NAME = "$$_hibernate_getState";
+
+	/**
+	 * Name of the method used to write the whole persistent state of the entity
+	 *
+	 * @see org.hibernate.engine.spi.PersistentStateAccessible
+	 */
+	public static final String STATE_SETTER_NAME = "$$_hibernate_setState";
+
+	/**
+	 * Name of the static method returning the names of the attributes, in the
+	 * order of the state read and written by {@link #STATE_GETTER_NAME} and
+	 * {@link #STATE_SETTER_NAME}
+	 */
+	public static final String STATE_ATTRIBUTE_NAMES_GETTER_NAME = "$$_hibernate_getStateAttributeNames";
+
 	private EnhancerConstants() {
 	}
 }
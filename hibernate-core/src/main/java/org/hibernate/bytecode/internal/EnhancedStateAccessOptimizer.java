@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.bytecode.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.engine.spi.PersistentStateAccessible;
+import org.hibernate.property.access.internal.AccessStrategyHelper;
+import org.hibernate.property.access.spi.EnhancedSetterImpl;
+import org.hibernate.property.access.spi.Getter;
+import org.hibernate.property.access.spi.GetterFieldImpl;
+import org.hibernate.property.access.spi.PropertyAccess;
+import org.hibernate.property.access.spi.Setter;
+import org.hibernate.property.access.spi.SetterFieldImpl;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer.UNFETCHED_PROPERTY;
+import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentStateAccessible;
+import static org.hibernate.internal.util.ReflectHelper.ensureAccessibility;
+import static org.hibernate.property.access.internal.AccessStrategyHelper.determineEnhancementState;
+
+/**
+ * An {@link ReflectionOptimizer.AccessOptimizer} for entities whose bytecode enhancement
+ * generated the methods of {@link PersistentStateAccessible}, reading and writing the
+ * whole state with one call instead of one {@link Getter} or {@link Setter} call per
+ * attribute.
+ * <p>
+ * Only used when the attributes of the entity are all accessed through their fields,
+ * in the order of the state generated by the enhancer.
+ */
+public final class EnhancedStateAccessOptimizer implements ReflectionOptimizer.AccessOptimizer {
+	private static final Logger log = Logger.getLogger( EnhancedStateAccessOptimizer.class );
+
+	private final String[] propertyNames;
+	private final int[] enhancementStates;
+	private final boolean handleEnhancedInjection;
+
+	private EnhancedStateAccessOptimizer(String[] propertyNames, int[] enhancementStates) {
+		this.propertyNames = propertyNames;
+		this.enhancementStates = enhancementStates;
+		this.handleEnhancedInjection = Arrays.stream( enhancementStates ).anyMatch( state -> state != 0 );
+	}
+
+	/**
+	 * The optimizer for the given entity class, if its enhancement generated state
+	 * accessors matching the given attributes.
+	 *
+	 * @return The optimizer, or {@code null} if the accessors are missing or do not match
+	 */
+	public static ReflectionOptimizer.AccessOptimizer from(
+			Class<?> mappedClass,
+			String[] propertyNames,
+			PropertyAccess[] propertyAccesses) {
+		if ( !PersistentStateAccessible.class.isAssignableFrom( mappedClass ) ) {
+			return null;
+		}
+
+		final String[] stateAttributeNames;
+		try {
+			// declared by the class itself, not inherited from an entity superclass
+			final Method namesGetter = mappedClass.getDeclaredMethod( EnhancerConstants.STATE_ATTRIBUTE_NAMES_GETTER_NAME );
+			if ( !Modifier.isStatic( namesGetter.getModifiers() ) ) {
+				return null;
+			}
+			ensureAccessibility( namesGetter );
+			stateAttributeNames = (String[]) namesGetter.invoke( null );
+		}
+		catch (NoSuchMethodException e) {
+			return null;
+		}
+		catch (ReflectiveOperationException | RuntimeException e) {
+			log.debugf( "Unable to read the state attributes of [%s] : %s", mappedClass.getName(), e.getMessage() );
+			return null;
+		}
+
+		if ( !Arrays.equals( stateAttributeNames, propertyNames ) ) {
+			log.debugf(
+					"Not using the state accessors of [%s]: enhanced state %s does not match attributes %s",
+					mappedClass.getName(),
+					Arrays.toString( stateAttributeNames ),
+					Arrays.toString( propertyNames )
+			);
+			return null;
+		}
+
+		final int[] enhancementStates = new int[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			final Getter getter = propertyAccesses[i].getGetter();
+			final Setter setter = propertyAccesses[i].getSetter();
+			if ( !( getter instanceof GetterFieldImpl ) || !( setter instanceof SetterFieldImpl ) ) {
+				// a custom or property based access strategy
+				return null;
+			}
+			final Field field = ( (SetterFieldImpl) setter ).getField();
+			if ( !field.getName().equals( propertyNames[i] ) || !field.equals( getter.getMember() ) ) {
+				return null;
+			}
+			enhancementStates[i] = setter instanceof EnhancedSetterImpl
+					? determineEnhancementState( mappedClass, field.getType() )
+					: 0;
+		}
+
+		return new EnhancedStateAccessOptimizer( propertyNames, enhancementStates );
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return propertyNames;
+	}
+
+	@Override
+	public Object[] getPropertyValues(Object object) {
+		final Object[] values = new Object[propertyNames.length];
+		asPersistentStateAccessible( object ).$$_hibernate_getState( values );
+		return values;
+	}
+
+	@Override
+	public void setPropertyValues(Object object, Object[] values) {
+		asPersistentStateAccessible( object ).$$_hibernate_setState( values );
+		if ( handleEnhancedInjection ) {
+			// what EnhancedSetterImpl does after setting each field
+			for ( int i = 0; i < enhancementStates.length; i++ ) {
+				final Object value = values[i];
+				if ( enhancementStates[i] != 0 && value != UNFETCHED_PROPERTY ) {
+					AccessStrategyHelper.handleEnhancedInjection( object, value, enhancementStates[i], propertyNames[i] );
+				}
+			}
+		}
+	}
+}
@@ -28,6 +28,8 @@ import java.util.List;
 import java.util.function.Function;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.bytecode.enhance.spi.EnhancementInfo;
 import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.bytecode.spi.BasicProxyFactory;
 import org.hibernate.engine.spi.PrimeAmongSecondarySupertypes;
@@ -41,6 +43,7 @@ import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.TypeCache;
 import net.bytebuddy.asm.AsmVisitorWrapper.ForDeclaredMethods;
 import net.bytebuddy.asm.MemberSubstitution;
+import net.bytebuddy.description.annotation.AnnotationDescription;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.DynamicType.Unloaded;
@@ -66,6 +69,11 @@ public final class ByteBuddyState {
 
 	private static final boolean DEBUG = false;
 
+	private static final AnnotationDescription PREGENERATED_CLASS_VERSION = AnnotationDescription.Builder
+			.ofType( EnhancementInfo.class )
+			.define( "version", Version.getVersionString() )
+			.build();
+
 	private final ByteBuddy byteBuddy;
 
 	private static final ProxyDefinitionHelpers proxyDefinitionHelpers = new ProxyDefinitionHelpers();
@@ -109,7 +117,22 @@ public final class ByteBuddyState {
 	 */
 	public Class<?> loadProxy(Class<?> referenceClass, TypeCache.SimpleKey cacheKey,
 			Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
-		return load( referenceClass, proxyCache, cacheKey, makeProxyFunction );
+		return load( referenceClass, proxyCache, cacheKey, null, makeProxyFunction );
+	}
+
+	/**
+	 * Load a proxy as generated by the {@link ProxyFactory}, using the proxy class generated
+	 * at build time if there is one.
+	 *
+	 * @param referenceClass The main class to proxy - might be an interface.
+	 * @param cacheKey The cache key.
+	 * @param pregeneratedClassName The name of the proxy class generated at build time.
+	 * @param makeProxyFunction A function building the proxy, if it was not generated at build time.
+	 * @return The loaded proxy class.
+	 */
+	public Class<?> loadProxy(Class<?> referenceClass, TypeCache.SimpleKey cacheKey, String pregeneratedClassName,
+			Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
+		return load( referenceClass, proxyCache, cacheKey, pregeneratedClassName, makeProxyFunction );
 	}
 
 	/**
@@ -122,7 +145,7 @@ public final class ByteBuddyState {
 	 */
 	Class<?> loadBasicProxy(Class<?> referenceClass, TypeCache.SimpleKey cacheKey,
 			Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
-		return load( referenceClass, basicProxyCache, cacheKey, makeProxyFunction );
+		return load( referenceClass, basicProxyCache, cacheKey, null, makeProxyFunction );
 	}
 
 	/**
@@ -192,12 +215,54 @@ public final class ByteBuddyState {
 		basicProxyCache.clear();
 	}
 
+	/**
+	 * Load a class generated at build time, in the package and class loader of the reference class.
+	 *
+	 * @param referenceClass The class the generated class was generated for.
+	 * @param className The name of the generated class.
+	 * @param expectedType A type the generated class must be assignable to.
+	 * @return The loaded generated class, or {@code null} if no such class was generated by this
+	 * version of Hibernate.
+	 */
+	static Class<?> loadPregenerated(Class<?> referenceClass, String className, Class<?> expectedType) {
+		final Class<?> pregeneratedClass;
+		try {
+			pregeneratedClass = Class.forName( className, false, referenceClass.getClassLoader() );
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return null;
+		}
+		if ( !expectedType.isAssignableFrom( pregeneratedClass ) ) {
+			LOG.debugf( "Ignoring class %s, which was not generated by Hibernate", className );
+			return null;
+		}
+		final EnhancementInfo info = pregeneratedClass.getAnnotation( EnhancementInfo.class );
+		if ( info == null || !Version.getVersionString().equals( info.version() ) ) {
+			LOG.debugf(
+					"Ignoring class %s, which was generated by Hibernate version %s instead of %s",
+					className,
+					info == null ? "unknown" : info.version(),
+					Version.getVersionString()
+			);
+			return null;
+		}
+		return pregeneratedClass;
+	}
+
 	private Class<?> load(Class<?> referenceClass, TypeCache<TypeCache.SimpleKey> cache,
-			TypeCache.SimpleKey cacheKey, Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
+			TypeCache.SimpleKey cacheKey, String pregeneratedClassName,
+			Function<ByteBuddy, DynamicType.Builder<?>> makeProxyFunction) {
 		return cache.findOrInsert(
 				referenceClass.getClassLoader(),
 				cacheKey,
 				() -> {
+					if ( pregeneratedClassName != null ) {
+						final Class<?> pregeneratedClass =
+								loadPregenerated( referenceClass, pregeneratedClassName, ProxyConfiguration.class );
+						if ( pregeneratedClass != null ) {
+							return pregeneratedClass;
+						}
+					}
 					PrivilegedAction<Class<?>> delegateToPrivilegedAction = new PrivilegedAction<Class<?>>() {
 						@Override
 						public Class<?> run() {
@@ -225,6 +290,27 @@ public final class ByteBuddyState {
 		return make( typePool, makeProxyFunction.apply( byteBuddy ) );
 	}
 
+	/**
+	 * Make a class at build time, to be loaded at runtime instead of generating it again.
+	 * <p>
+	 * The class is stamped with the Hibernate version, as {@link EnhancementInfo} does for
+	 * enhanced classes, and is only used at runtime by the same version of Hibernate.
+	 *
+	 * @param typePool The type pool used to describe the referenced types.
+	 * @param className The name of the generated class.
+	 * @param makeClassFunction A function building the class.
+	 * @return The generated class.
+	 */
+	public Unloaded<?> makePregenerated(TypePool typePool, String className,
+			Function<ByteBuddy, DynamicType.Builder<?>> makeClassFunction) {
+		return make(
+				typePool,
+				makeClassFunction.apply( byteBuddy )
+						.name( className )
+						.annotateType( PREGENERATED_CLASS_VERSION )
+		);
+	}
+
 	private Unloaded<?> make(DynamicType.Builder<?> builder) {
 		return make( null, builder );
 	}
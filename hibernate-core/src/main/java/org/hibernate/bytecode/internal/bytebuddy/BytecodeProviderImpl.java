@@ -15,6 +15,7 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -52,7 +53,9 @@ import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.NamedElement;
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.method.MethodList;
 import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodCall;
@@ -67,8 +70,12 @@ import net.bytebuddy.jar.asm.Opcodes;
 import net.bytebuddy.jar.asm.Type;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.ElementMatchers;
+import net.bytebuddy.pool.TypePool;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+
 public class BytecodeProviderImpl implements BytecodeProvider {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BytecodeProviderImpl.class );
 
@@ -147,15 +154,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 				fastClass = null;
 			}
 			else {
-				fastClass = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
-						.with( new NamingStrategy.SuffixingRandom(
-								INSTANTIATOR_PROXY_NAMING_SUFFIX,
-								new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
-						) )
-						.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
-						.method( newInstanceMethodName )
-						.intercept( MethodCall.construct( constructor ) )
-				);
+				fastClass = loadInstantiator( clazz, constructor );
 			}
 		}
 		else {
@@ -211,15 +210,7 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 				fastClass = null;
 			}
 			else {
-				fastClass = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
-						.with( new NamingStrategy.SuffixingRandom(
-								INSTANTIATOR_PROXY_NAMING_SUFFIX,
-								new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
-						) )
-						.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
-						.method( newInstanceMethodName )
-						.intercept( MethodCall.construct( constructor ) )
-				);
+				fastClass = loadInstantiator( clazz, constructor );
 			}
 		}
 		else {
@@ -1284,6 +1275,86 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		);
 	}
 
+	private Class<?> loadInstantiator(Class<?> clazz, Constructor<?> constructor) {
+		final Class<?> pregeneratedClass = ByteBuddyState.loadPregenerated(
+				clazz,
+				getPregeneratedInstantiatorClassName( clazz.getName() ),
+				ReflectionOptimizer.InstantiationOptimizer.class
+		);
+		if ( pregeneratedClass != null ) {
+			return pregeneratedClass;
+		}
+		return byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom(
+						INSTANTIATOR_PROXY_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() )
+				) )
+				.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
+				.method( newInstanceMethodName )
+				.intercept( MethodCall.construct( constructor ) )
+		);
+	}
+
+	/**
+	 * The name of the instantiation optimizer of the given class, when it is generated at build time.
+	 *
+	 * @param className The name of the instantiated class.
+	 * @return The name of the instantiation optimizer class.
+	 */
+	public static String getPregeneratedInstantiatorClassName(String className) {
+		return className + "$" + INSTANTIATOR_PROXY_NAMING_SUFFIX;
+	}
+
+	/**
+	 * Generate, at build time, the classes which are otherwise generated at runtime for an
+	 * entity or an embeddable class: the entity proxy, and the instantiation optimizer.
+	 * At runtime, these classes are used instead of generating new ones, as long as they
+	 * are packaged along with the class they were generated for.
+	 * <p>
+	 * The access optimizers are not generated, since they depend on the mapping of the class.
+	 *
+	 * @param className The name of the entity or embeddable class.
+	 * @param classBytes The bytecode of the class, after enhancement if it is enhanced.
+	 * @param classLoader The class loader used to resolve the types referenced by the class.
+	 * @return The bytecode of the generated classes, keyed by class name.
+	 */
+	public Map<String, byte[]> buildPregeneratedClasses(String className, byte[] classBytes, ClassLoader classLoader) {
+		final TypePool typePool = TypePool.Default.of( new ClassFileLocator.Compound(
+				ClassFileLocator.Simple.of( className, classBytes ),
+				ClassFileLocator.ForClassLoader.of( classLoader )
+		) );
+		final TypeDescription managedClass = typePool.describe( className ).resolve();
+		final boolean entity = managedClass.getDeclaredAnnotations().isAnnotationPresent( Entity.class );
+		final boolean embeddable = managedClass.getDeclaredAnnotations().isAnnotationPresent( Embeddable.class );
+		if ( ( !entity && !embeddable ) || managedClass.isInterface() ) {
+			return Collections.emptyMap();
+		}
+
+		final Map<String, byte[]> pregeneratedClasses = new HashMap<>();
+		if ( entity && !managedClass.isFinal() ) {
+			final DynamicType.Unloaded<?> proxy = byteBuddyProxyHelper.buildPregeneratedProxy( typePool, managedClass );
+			pregeneratedClasses.put( proxy.getTypeDescription().getName(), proxy.getBytes() );
+		}
+		if ( !managedClass.isAbstract() ) {
+			final MethodList<MethodDescription.InDefinedShape> constructors = managedClass.getDeclaredMethods()
+					.filter( ElementMatchers.isConstructor().and( ElementMatchers.takesNoArguments() ) );
+			// as at runtime, private constructors can't be called
+			if ( constructors.size() == 1 && !constructors.getOnly().isPrivate() ) {
+				final String instantiatorClassName = getPregeneratedInstantiatorClassName( className );
+				final DynamicType.Unloaded<?> instantiator = byteBuddyState.makePregenerated(
+						typePool,
+						instantiatorClassName,
+						byteBuddy -> byteBuddy
+								.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
+								.method( newInstanceMethodName )
+								.intercept( MethodCall.construct( constructors.getOnly() ) )
+				);
+				pregeneratedClasses.put( instantiatorClassName, instantiator.getBytes() );
+			}
+		}
+		return pregeneratedClasses;
+	}
+
 	private static Constructor<?> findConstructor(Class<?> clazz) {
 		try {
 			return clazz.getDeclaredConstructor();
@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.annotations.BatchSize;
 
 /**
@@ -49,6 +50,40 @@ public interface FetchSettings {
 	 */
 	String USE_SUBSELECT_FETCH = "hibernate.use_subselect_fetch";
 
+	/**
+	 * Enables detection of the N+1 selects problem, by specifying the number of
+	 * secondary selects of the same association or entity, following a single
+	 * query, above which the pattern is reported.
+	 * <p>
+	 * Secondary selects are the lazy initialization of a collection or proxy,
+	 * and the fetching of an association by a subsequent select.  A detected
+	 * pattern is logged along with the originating query and the call site
+	 * which triggered the selects, and counted by the
+	 * {@link org.hibernate.stat.Statistics}.
+	 *
+	 * @settingDefault 0 (disabled)
+	 *
+	 * @since 6.4
+	 *
+	 * @see #N_PLUS_ONE_SELECT_STRICT
+	 * @see org.hibernate.stat.Statistics#getNPlusOneSelectCount()
+	 */
+	@Incubating
+	String N_PLUS_ONE_SELECT_THRESHOLD = "hibernate.n_plus_one_select_threshold";
+
+	/**
+	 * When enabled, a detected N+1 selects pattern, as specified by
+	 * {@value #N_PLUS_ONE_SELECT_THRESHOLD}, fails the operation which
+	 * triggered it with an exception, rather than just being reported.
+	 * Intended for tests.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	String N_PLUS_ONE_SELECT_STRICT = "hibernate.n_plus_one_select_strict";
+
 	/**
 	 * Specifies the {@link org.hibernate.loader.BatchFetchStyle} to use,
 	 * either the name of a {code BatchFetchStyle} instance, or an instance
@@ -341,6 +341,20 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings {
 	 */
 	String LOG_SLOW_QUERY = "hibernate.log_slow_query";
 
+	/**
+	 * When enabled, specifies that the values bound to the parameters of a
+	 * {@linkplain #LOG_SLOW_QUERY slow query} should be recorded along with its SQL.
+	 * These values might contain sensitive data, and so they are redacted by default.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.stat.SlowQuery#getBindValues()
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	String LOG_SLOW_QUERY_BIND_VALUES = "hibernate.log_slow_query_bind_values";
+
 	/**
 	 * Specifies that comments should be added to the generated SQL.
 	 *
@@ -381,6 +395,24 @@ public interface JdbcSettings extends C3p0Settings, ProxoolSettings {
 	 */
 	String USE_SCROLLABLE_RESULTSET = "hibernate.jdbc.use_scrollable_resultset";
 
+	/**
+	 * The maximum number of {@linkplain java.sql.PreparedStatement prepared statements}
+	 * to keep open, per session, for reuse by later executions of the same SQL. Cached
+	 * statements are closed when the session releases its JDBC resources, that is, no
+	 * later than when the JDBC connection is released. If {@code 0}, every statement
+	 * is closed right after its execution.
+	 * <p>
+	 * Useful with drivers and connection pools which do not cache statements themselves.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @see org.hibernate.stat.Statistics#getPreparedStatementCacheHitCount()
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	String STATEMENT_CACHE_SIZE = "hibernate.jdbc.statement_cache_size";
+
 	/**
 	 * Controls whether to use JDBC markers (`?`) or dialect native markers for parameters
 	 * within {@linkplain java.sql.PreparedStatement preparable} SQL statements.
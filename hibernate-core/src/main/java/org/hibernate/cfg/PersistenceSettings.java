@@ -161,6 +161,39 @@ public interface PersistenceSettings {
 	 */
 	String SESSION_FACTORY_OBSERVER = "hibernate.session_factory_observer";
 
+	/**
+	 * When enabled, the {@linkplain org.hibernate.persister.entity.EntityPersister entity} and
+	 * {@linkplain org.hibernate.persister.collection.CollectionPersister collection persisters}
+	 * are instantiated concurrently, using a pool of threads sized to the number of available
+	 * processors, while the {@link org.hibernate.SessionFactory} is being built. This reduces
+	 * the startup time of applications with large domain models.
+	 * <p>
+	 * All entity persisters are still instantiated before any collection persister, and the
+	 * mapping model is still created sequentially once all persisters have been instantiated.
+	 * Custom persister implementations must be safe to instantiate concurrently.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	String PARALLEL_PERSISTER_CREATION = "hibernate.parallel_persister_creation";
+
+	/**
+	 * When enabled, an {@linkplain org.hibernate.persister.entity.EntityPersister entity persister}
+	 * defers building its loaders by id and its insert, update and delete coordinators, including
+	 * the SQL they execute, until they are first used, instead of building them while the
+	 * {@link org.hibernate.SessionFactory} is being built. This reduces the startup time and the
+	 * memory footprint of applications which only use a small part of a large domain model, at the
+	 * cost of some extra work the first time each entity is loaded or written.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	String LAZY_PERSISTER_INITIALIZATION = "hibernate.lazy_persister_initialization";
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Legacy JPA settings
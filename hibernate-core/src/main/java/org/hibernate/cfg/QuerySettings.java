@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.query.NullPrecedence;
 import org.hibernate.query.spi.QueryPlan;
 
@@ -52,6 +53,22 @@ public interface QuerySettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * Specifies the path of a file in which to record the named HQL queries which
+	 * passed the {@linkplain #QUERY_STARTUP_CHECKING startup check}, so that a later
+	 * startup only checks the queries which were added or changed since.
+	 * <p>
+	 * The file only holds hashes of the query strings, which also account for the
+	 * domain model, the {@code Dialect} and the registered functions.  It is read and
+	 * rewritten at every startup, and is ignored when the domain model changed.
+	 *
+	 * @settingDefault none, every named query is checked
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	String QUERY_STARTUP_CHECK_MANIFEST = "hibernate.query.startup_check_manifest";
+
 	/**
 	 * By default, a {@linkplain jakarta.persistence.criteria.CriteriaBuilder criteria
 	 * query} produces SQL with a JDBC bind parameter for any value specified via the
@@ -213,6 +230,25 @@ public interface QuerySettings {
 	 */
 	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.query.plan_cache_max_size";
 
+	/**
+	 * Specifies the path of a file in which to record the HQL queries held by the
+	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache query interpretation
+	 * cache} when the {@link org.hibernate.SessionFactory} is closed, along with their
+	 * expected result types.
+	 * <p>
+	 * When the file exists at startup, the queries it records are compiled by a
+	 * background thread, so that the first executions of the most frequent queries
+	 * do not pay for their parsing and semantic analysis.  The completion of this
+	 * warm-up is available from
+	 * {@link org.hibernate.query.spi.QueryEngine#getInterpretationCacheWarmUp()}.
+	 *
+	 * @settingDefault none, the cache starts empty
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	String QUERY_PLAN_CACHE_PROFILE = "hibernate.query.plan_cache_profile";
+
 	/**
 	 * The maximum number of {@link org.hibernate.query.ParameterMetadata} instances
 	 * maintained by the {@link org.hibernate.query.spi.QueryInterpretationCache}.
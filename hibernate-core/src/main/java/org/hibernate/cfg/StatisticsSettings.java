@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.stat.spi.StatisticsFactory;
 
 /**
@@ -43,4 +44,18 @@ public interface StatisticsSettings {
 	 * @see org.hibernate.stat.Statistics#getQueries()
 	 */
 	String QUERY_STATISTICS_MAX_SIZE = "hibernate.statistics.query_max_size";
+
+	/**
+	 * This setting controls the number of the most recent {@linkplain org.hibernate.stat.SlowQuery
+	 * slow queries}, as defined by {@value JdbcSettings#LOG_SLOW_QUERY}, that will be kept by the
+	 * Hibernate {@link org.hibernate.stat.Statistics} object.
+	 * <p>
+	 * The default value is {@value org.hibernate.stat.Statistics#DEFAULT_SLOW_QUERY_HISTORY_MAX_SIZE}.
+	 *
+	 * @since 6.4
+	 *
+	 * @see org.hibernate.stat.Statistics#getSlowQueryHistory()
+	 */
+	@Incubating
+	String SLOW_QUERY_HISTORY_MAX_SIZE = "hibernate.statistics.slow_query_history_max_size";
 }
@@ -88,6 +88,7 @@ import org.hibernate.dialect.unique.AlterTableUniqueDelegate;
 import org.hibernate.dialect.unique.UniqueDelegate;
 import org.hibernate.engine.jdbc.LobCreator;
 import org.hibernate.engine.jdbc.Size;
+import org.hibernate.engine.jdbc.bulk.spi.BulkInsertStrategy;
 import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
 import org.hibernate.engine.jdbc.env.internal.DefaultSchemaNameResolver;
 import org.hibernate.engine.jdbc.env.spi.AnsiSqlKeywords;
@@ -4808,6 +4809,19 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return new OptionalTableUpdateOperation( mutationTarget, optionalTableUpdate, factory );
 	}
 
+	/**
+	 * The {@link BulkInsertStrategy} which loads rows using the native
+	 * bulk loading facility of the database, or {@code null} if there is
+	 * no such facility, in which case {@link org.hibernate.StatelessSession#bulkInsert}
+	 * falls back to JDBC batches of {@code insert} statements.
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	public BulkInsertStrategy getBulkInsertStrategy() {
+		return null;
+	}
+
 	/**
 	 * Is there some way to disable foreign key constraint checking while
 	 * truncating tables? (If there's no way to do it, and if we can't
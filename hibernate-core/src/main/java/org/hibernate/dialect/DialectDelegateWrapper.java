@@ -39,6 +39,7 @@ import org.hibernate.dialect.sequence.SequenceSupport;
 import org.hibernate.dialect.temptable.TemporaryTableExporter;
 import org.hibernate.dialect.temptable.TemporaryTableKind;
 import org.hibernate.dialect.unique.UniqueDelegate;
+import org.hibernate.engine.jdbc.bulk.spi.BulkInsertStrategy;
 import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
 import org.hibernate.engine.jdbc.env.spi.IdentifierHelper;
 import org.hibernate.engine.jdbc.env.spi.IdentifierHelperBuilder;
@@ -1520,6 +1521,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.createOptionalTableUpdateOperation( mutationTarget, optionalTableUpdate, factory );
 	}
 
+	@Override
+	public BulkInsertStrategy getBulkInsertStrategy() {
+		return wrapped.getBulkInsertStrategy();
+	}
+
 	@Override
 	public boolean canDisableConstraints() {
 		return wrapped.canDisableConstraints();
@@ -0,0 +1,34 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.postgresql.PGConnection;
+
+/**
+ * The {@link PostgreSQLCopyBulkInsertStrategy.CopyTransport} which uses
+ * the {@code CopyManager} of the PostgreSQL JDBC driver.
+ *
+ * @implNote This class is only loaded, through the
+ * {@link org.hibernate.boot.registry.classloading.spi.ClassLoaderService},
+ * when the driver classes are {@linkplain PgJdbcHelper#isUsable available}.
+ */
+public class PgJdbcCopyTransport implements PostgreSQLCopyBulkInsertStrategy.CopyTransport {
+	@Override
+	public long copyIn(Connection connection, String sql, Reader data) throws SQLException {
+		try {
+			return connection.unwrap( PGConnection.class ).getCopyAPI().copyIn( sql, data );
+		}
+		catch (IOException e) {
+			throw new SQLException( "Could not stream data to copy", e );
+		}
+	}
+}
@@ -0,0 +1,332 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect;
+
+import java.io.Reader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hibernate.HibernateError;
+import org.hibernate.Incubating;
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.jdbc.bulk.spi.BulkInsertStrategy;
+import org.hibernate.engine.jdbc.bulk.spi.BulkInsertTarget;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * A {@link BulkInsertStrategy} which streams rows to PostgreSQL using
+ * {@code copy ... from stdin}, in the text format.
+ * <p>
+ * The values are encoded using the {@link JavaType} of the
+ * {@linkplain JdbcMapping#getJdbcJavaType() JDBC mapping} of their
+ * column, according to the {@linkplain org.hibernate.type.descriptor.jdbc.JdbcType#getDefaultSqlTypeCode()
+ * type code} of its {@code JdbcType}. Tables with columns of any other
+ * kind of type, for example, {@code json} or arrays, are not handled.
+ * <p>
+ * The encoded data is handed to a {@link CopyTransport}, which, by
+ * default, uses the {@code CopyManager} of the PostgreSQL JDBC driver.
+ */
+@Incubating
+public class PostgreSQLCopyBulkInsertStrategy implements BulkInsertStrategy {
+	/**
+	 * Executes a {@code copy ... from stdin} statement, feeding it the
+	 * given data.
+	 */
+	@FunctionalInterface
+	public interface CopyTransport {
+		/**
+		 * @return the number of rows copied
+		 */
+		long copyIn(Connection connection, String sql, Reader data) throws SQLException;
+	}
+
+	private static final String PGJDBC_TRANSPORT = "org.hibernate.dialect.PgJdbcCopyTransport";
+
+	private final boolean resolveDriverTransport;
+	private volatile CopyTransport transport;
+	private volatile boolean transportResolved;
+
+	/**
+	 * @param transport the transport to use, or {@code null} to use the
+	 *                  PostgreSQL JDBC driver, if it is available
+	 */
+	public PostgreSQLCopyBulkInsertStrategy(CopyTransport transport) {
+		this.transport = transport;
+		this.resolveDriverTransport = transport == null;
+	}
+
+	private CopyTransport resolveTransport(SharedSessionContractImplementor session) {
+		if ( resolveDriverTransport && !transportResolved ) {
+			// resolved once: the driver is either visible to the application or not
+			transport = createDriverTransport( session.getFactory().getServiceRegistry() );
+			transportResolved = true;
+		}
+		return transport;
+	}
+
+	/**
+	 * Load the transport using the {@code CopyManager} of the PostgreSQL JDBC
+	 * driver through the {@link ClassLoaderService}, where it has access to the
+	 * driver classes, or return {@code null} if the driver is not available.
+	 */
+	private static CopyTransport createDriverTransport(ServiceRegistry serviceRegistry) {
+		if ( !PgJdbcHelper.isUsable( serviceRegistry ) ) {
+			return null;
+		}
+		final ClassLoaderService classLoaderService = serviceRegistry.getService( ClassLoaderService.class );
+		try {
+			final Class<?> clazz = classLoaderService.classForName( PGJDBC_TRANSPORT );
+			final Constructor<?> constructor = clazz.getConstructor();
+			return (CopyTransport) constructor.newInstance();
+		}
+		catch (NoSuchMethodException e) {
+			throw new HibernateError( "Class does not have an empty constructor", e );
+		}
+		catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+			throw new HibernateError( "Could not construct CopyTransport", e );
+		}
+	}
+
+	@Override
+	public boolean canBulkInsert(BulkInsertTarget target, SharedSessionContractImplementor session) {
+		if ( resolveTransport( session ) == null ) {
+			return false;
+		}
+		for ( SelectableMapping column : target.getColumns() ) {
+			if ( !isEncodable( column.getJdbcMapping().getJdbcType().getDefaultSqlTypeCode() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public long bulkInsert(BulkInsertTarget target, Iterator<Object[]> rows, SharedSessionContractImplementor session) {
+		final String sql = copySql( target );
+		final JdbcServices jdbcServices = session.getJdbcServices();
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		jdbcServices.getSqlStatementLogger().logStatement( sql );
+		try {
+			return resolveTransport( session ).copyIn(
+					jdbcCoordinator.getLogicalConnection().getPhysicalConnection(),
+					sql,
+					new CopyTextReader( target.getColumns(), rows, session )
+			);
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert( e, "could not execute copy", sql );
+		}
+		finally {
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private static String copySql(BulkInsertTarget target) {
+		final StringBuilder sql = new StringBuilder( "copy " ).append( target.getTableName() ).append( " (" );
+		final List<SelectableMapping> columns = target.getColumns();
+		for ( int i = 0; i < columns.size(); i++ ) {
+			if ( i > 0 ) {
+				sql.append( ", " );
+			}
+			sql.append( columns.get( i ).getSelectionExpression() );
+		}
+		return sql.append( ") from stdin" ).toString();
+	}
+
+	private static boolean isEncodable(int sqlTypeCode) {
+		switch ( sqlTypeCode ) {
+			case SqlTypes.BOOLEAN:
+			case SqlTypes.BIT:
+			case SqlTypes.TINYINT:
+			case SqlTypes.SMALLINT:
+			case SqlTypes.INTEGER:
+			case SqlTypes.BIGINT:
+			case SqlTypes.REAL:
+			case SqlTypes.FLOAT:
+			case SqlTypes.DOUBLE:
+			case SqlTypes.NUMERIC:
+			case SqlTypes.DECIMAL:
+			case SqlTypes.CHAR:
+			case SqlTypes.NCHAR:
+			case SqlTypes.VARCHAR:
+			case SqlTypes.NVARCHAR:
+			case SqlTypes.LONGVARCHAR:
+			case SqlTypes.LONGNVARCHAR:
+			case SqlTypes.LONG32VARCHAR:
+			case SqlTypes.LONG32NVARCHAR:
+			case SqlTypes.MATERIALIZED_CLOB:
+			case SqlTypes.MATERIALIZED_NCLOB:
+			case SqlTypes.BINARY:
+			case SqlTypes.VARBINARY:
+			case SqlTypes.LONGVARBINARY:
+			case SqlTypes.LONG32VARBINARY:
+			case SqlTypes.MATERIALIZED_BLOB:
+			case SqlTypes.DATE:
+			case SqlTypes.TIME:
+			case SqlTypes.TIMESTAMP:
+			case SqlTypes.TIMESTAMP_WITH_TIMEZONE:
+			case SqlTypes.TIMESTAMP_UTC:
+			case SqlTypes.UUID:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Append the value in the text format of {@code copy}, where
+	 * {@code \N} represents null.
+	 */
+	static void appendValue(StringBuilder text, Object value, JdbcMapping jdbcMapping, WrapperOptions options) {
+		if ( value == null ) {
+			text.append( "\\N" );
+			return;
+		}
+		//noinspection unchecked
+		final JavaType<Object> javaType = (JavaType<Object>) jdbcMapping.getJdbcJavaType();
+		switch ( jdbcMapping.getJdbcType().getDefaultSqlTypeCode() ) {
+			case SqlTypes.BOOLEAN:
+			case SqlTypes.BIT:
+				text.append( javaType.unwrap( value, Boolean.class, options ) ? 't' : 'f' );
+				break;
+			case SqlTypes.TINYINT:
+			case SqlTypes.SMALLINT:
+			case SqlTypes.INTEGER:
+			case SqlTypes.BIGINT:
+				text.append( javaType.unwrap( value, Long.class, options ).longValue() );
+				break;
+			case SqlTypes.REAL:
+			case SqlTypes.FLOAT:
+			case SqlTypes.DOUBLE:
+				text.append( javaType.unwrap( value, Double.class, options ).doubleValue() );
+				break;
+			case SqlTypes.NUMERIC:
+			case SqlTypes.DECIMAL:
+				text.append( javaType.unwrap( value, BigDecimal.class, options ).toPlainString() );
+				break;
+			case SqlTypes.BINARY:
+			case SqlTypes.VARBINARY:
+			case SqlTypes.LONGVARBINARY:
+			case SqlTypes.LONG32VARBINARY:
+			case SqlTypes.MATERIALIZED_BLOB:
+				// the bytea hex format, with the backslash escaped
+				text.append( "\\\\x" );
+				for ( byte b : javaType.unwrap( value, byte[].class, options ) ) {
+					text.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) )
+							.append( Character.forDigit( b & 0xF, 16 ) );
+				}
+				break;
+			case SqlTypes.DATE:
+				text.append( javaType.unwrap( value, java.sql.Date.class, options ) );
+				break;
+			case SqlTypes.TIME:
+				text.append( javaType.unwrap( value, Time.class, options ) );
+				break;
+			case SqlTypes.TIMESTAMP:
+				text.append( javaType.unwrap( value, Timestamp.class, options ) );
+				break;
+			case SqlTypes.TIMESTAMP_WITH_TIMEZONE:
+			case SqlTypes.TIMESTAMP_UTC:
+				text.append( javaType.unwrap( value, OffsetDateTime.class, options ) );
+				break;
+			case SqlTypes.UUID:
+				text.append( javaType.toString( value ) );
+				break;
+			default:
+				appendEscaped( text, javaType.unwrap( value, String.class, options ) );
+		}
+	}
+
+	private static void appendEscaped(StringBuilder text, String value) {
+		for ( int i = 0; i < value.length(); i++ ) {
+			final char c = value.charAt( i );
+			switch ( c ) {
+				case '\\':
+					text.append( "\\\\" );
+					break;
+				case '\t':
+					text.append( "\\t" );
+					break;
+				case '\n':
+					text.append( "\\n" );
+					break;
+				case '\r':
+					text.append( "\\r" );
+					break;
+				default:
+					text.append( c );
+			}
+		}
+	}
+
+	/**
+	 * Encodes the rows one at a time, as they are read, so that the rows
+	 * never need to be held in memory all at once.
+	 */
+	private static class CopyTextReader extends Reader {
+		private final List<SelectableMapping> columns;
+		private final Iterator<Object[]> rows;
+		private final WrapperOptions options;
+		private final StringBuilder buffer = new StringBuilder();
+		private int position;
+
+		private CopyTextReader(List<SelectableMapping> columns, Iterator<Object[]> rows, WrapperOptions options) {
+			this.columns = columns;
+			this.rows = rows;
+			this.options = options;
+		}
+
+		@Override
+		public int read(char[] chars, int offset, int length) {
+			if ( length == 0 ) {
+				return 0;
+			}
+			while ( position == buffer.length() ) {
+				if ( !rows.hasNext() ) {
+					return -1;
+				}
+				buffer.setLength( 0 );
+				position = 0;
+				appendRow( rows.next() );
+			}
+			final int count = Math.min( length, buffer.length() - position );
+			buffer.getChars( position, position + count, chars, offset );
+			position += count;
+			return count;
+		}
+
+		private void appendRow(Object[] row) {
+			for ( int i = 0; i < row.length; i++ ) {
+				if ( i > 0 ) {
+					buffer.append( '\t' );
+				}
+				appendValue( buffer, row[i], columns.get( i ).getJdbcMapping(), options );
+			}
+			buffer.append( '\n' );
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+}
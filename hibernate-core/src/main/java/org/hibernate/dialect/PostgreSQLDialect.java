@@ -39,6 +39,7 @@ import org.hibernate.dialect.sequence.PostgreSQLSequenceSupport;
 import org.hibernate.dialect.sequence.SequenceSupport;
 import org.hibernate.dialect.unique.CreateTableUniqueDelegate;
 import org.hibernate.dialect.unique.UniqueDelegate;
+import org.hibernate.engine.jdbc.bulk.spi.BulkInsertStrategy;
 import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
 import org.hibernate.engine.jdbc.env.spi.IdentifierCaseStrategy;
 import org.hibernate.engine.jdbc.env.spi.IdentifierHelper;
@@ -144,6 +145,7 @@ public class PostgreSQLDialect extends Dialect {
 
 	protected final PostgreSQLDriverKind driverKind;
 	private final OptionalTableUpdateStrategy optionalTableUpdateStrategy;
+	private final PostgreSQLCopyBulkInsertStrategy bulkInsertStrategy = new PostgreSQLCopyBulkInsertStrategy( null );
 	private final ParameterMarkerStrategy parameterRenderer;
 
 	public PostgreSQLDialect() {
@@ -1470,6 +1472,11 @@ public class PostgreSQLDialect extends Dialect {
 		return optionalTableUpdateStrategy.buildMutationOperation( mutationTarget, optionalTableUpdate, factory );
 	}
 
+	@Override
+	public BulkInsertStrategy getBulkInsertStrategy() {
+		return bulkInsertStrategy;
+	}
+
 	private static MutationOperation usingMerge(
 			EntityMutationTarget mutationTarget,
 			OptionalTableUpdate optionalTableUpdate,
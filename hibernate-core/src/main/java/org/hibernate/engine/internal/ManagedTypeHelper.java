@@ -13,6 +13,7 @@ import org.hibernate.engine.spi.Managed;
 import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.ManagedMappedSuperclass;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
+import org.hibernate.engine.spi.PersistentStateAccessible;
 import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.proxy.HibernateProxy;
 
@@ -282,6 +283,25 @@ public final class ManagedTypeHelper {
 		return null;
 	}
 
+	/**
+	 * Cast the object to PersistentStateAccessible
+	 * (using this is highly preferrable over a direct cast)
+	 * @param entity the entity to cast
+	 * @return the same instance after casting
+	 * @throws ClassCastException if it's not of the right type
+	 */
+	public static PersistentStateAccessible asPersistentStateAccessible(final Object entity) {
+		Objects.requireNonNull( entity );
+		if ( entity instanceof PrimeAmongSecondarySupertypes ) {
+			PrimeAmongSecondarySupertypes t = (PrimeAmongSecondarySupertypes) entity;
+			final PersistentStateAccessible e = t.asPersistentStateAccessible();
+			if ( e != null ) {
+				return e;
+			}
+		}
+		throw new ClassCastException( "Object of type '" + entity.getClass() + "' can't be cast to PersistentStateAccessible" );
+	}
+
 	/**
 	 * Cast the object to HibernateProxy
 	 * (using this is highly preferrable over a direct cast)
@@ -12,6 +12,7 @@ import java.util.Objects;
 
 import org.hibernate.SessionEventListener;
 import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.event.jfr.internal.JfrEventManager;
 
 /**
  * @author Steve Ebersole
@@ -20,6 +21,17 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	private SessionEventListener[] listeners;
 
+	// the JDK Flight Recorder events in progress, null unless recorded
+	private transient Object jdbcConnectionAcquisitionEvent;
+	private transient Object jdbcConnectionReleaseEvent;
+	private transient Object jdbcPrepareStatementEvent;
+	private transient Object jdbcExecuteStatementEvent;
+	private transient Object jdbcExecuteBatchEvent;
+	private transient Object cachePutEvent;
+	private transient Object cacheGetEvent;
+	private transient Object flushEvent;
+	private transient Object dirtyCalculationEvent;
+
 	public SessionEventListenerManagerImpl(SessionEventListener... initialListener) {
 		//no need for defensive copies until the array is mutated:
 		this.listeners = initialListener;
@@ -55,6 +67,8 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void jdbcConnectionAcquisitionStart() {
+		jdbcConnectionAcquisitionEvent = JfrEventManager.beginJdbcConnectionAcquisitionEvent();
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -66,6 +80,9 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void jdbcConnectionAcquisitionEnd() {
+		JfrEventManager.commitEvent( jdbcConnectionAcquisitionEvent );
+		jdbcConnectionAcquisitionEvent = null;
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -77,6 +94,8 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void jdbcConnectionReleaseStart() {
+		jdbcConnectionReleaseEvent = JfrEventManager.beginJdbcConnectionReleaseEvent();
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -88,6 +107,9 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void jdbcConnectionReleaseEnd() {
+		JfrEventManager.commitEvent( jdbcConnectionReleaseEvent );
+		jdbcConnectionReleaseEvent = null;
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -99,6 +121,8 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void jdbcPrepareStatementStart() {
+		jdbcPrepareStatementEvent = JfrEventManager.beginJdbcPreparedStatementCreationEvent();
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -110,6 +134,9 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void jdbcPrepareStatementEnd() {
+		JfrEventManager.commitEvent( jdbcPrepareStatementEvent );
+		jdbcPrepareStatementEvent = null;
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -121,6 +148,8 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void jdbcExecuteStatementStart() {
+		jdbcExecuteStatementEvent = JfrEventManager.beginJdbcPreparedStatementExecutionEvent();
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -132,6 +161,9 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void jdbcExecuteStatementEnd() {
+		JfrEventManager.commitEvent( jdbcExecuteStatementEvent );
+		jdbcExecuteStatementEvent = null;
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -143,6 +175,8 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void jdbcExecuteBatchStart() {
+		jdbcExecuteBatchEvent = JfrEventManager.beginJdbcBatchExecutionEvent();
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -154,6 +188,9 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void jdbcExecuteBatchEnd() {
+		JfrEventManager.commitEvent( jdbcExecuteBatchEvent );
+		jdbcExecuteBatchEvent = null;
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -165,6 +202,8 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void cachePutStart() {
+		cachePutEvent = JfrEventManager.beginCachePutEvent();
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -176,6 +215,9 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void cachePutEnd() {
+		JfrEventManager.commitEvent( cachePutEvent );
+		cachePutEvent = null;
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -187,6 +229,8 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void cacheGetStart() {
+		cacheGetEvent = JfrEventManager.beginCacheGetEvent();
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -198,6 +242,9 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void cacheGetEnd(boolean hit) {
+		JfrEventManager.commitCacheGetEvent( cacheGetEvent, hit );
+		cacheGetEvent = null;
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -209,6 +256,8 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void flushStart() {
+		flushEvent = JfrEventManager.beginFlushEvent();
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -220,6 +269,9 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void flushEnd(int numberOfEntities, int numberOfCollections) {
+		JfrEventManager.commitFlushEvent( flushEvent, numberOfEntities, numberOfCollections, false );
+		flushEvent = null;
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -231,6 +283,8 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void partialFlushStart() {
+		flushEvent = JfrEventManager.beginFlushEvent();
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -242,6 +296,9 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+		JfrEventManager.commitFlushEvent( flushEvent, numberOfEntities, numberOfCollections, true );
+		flushEvent = null;
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -253,6 +310,8 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void dirtyCalculationStart() {
+		dirtyCalculationEvent = JfrEventManager.beginDirtyCalculationEvent();
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -264,6 +323,9 @@ public class SessionEventListenerManagerImpl implements SessionEventListenerMana
 
 	@Override
 	public void dirtyCalculationEnd(boolean dirty) {
+		JfrEventManager.commitDirtyCalculationEvent( dirtyCalculationEvent, dirty );
+		dirtyCalculationEvent = null;
+
 		if ( listeners == null ) {
 			return;
 		}
@@ -43,6 +43,7 @@ import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
+import org.hibernate.engine.spi.NPlusOneSelectDetector;
 import org.hibernate.engine.spi.NaturalIdResolutions;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
@@ -158,6 +159,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	private LoadContexts loadContexts;
 	private BatchFetchQueue batchFetchQueue;
+	private NPlusOneSelectDetector nPlusOneSelectDetector;
 
 	/**
 	 * Constructs a PersistentContext, bound to the given session.
@@ -227,6 +229,15 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return batchFetchQueue;
 	}
 
+	@Override
+	public NPlusOneSelectDetector getNPlusOneSelectDetector() {
+		if ( nPlusOneSelectDetector == null
+				&& session.getFactory().getSessionFactoryOptions().getNPlusOneSelectThreshold() > 0 ) {
+			nPlusOneSelectDetector = new NPlusOneSelectDetector( this );
+		}
+		return nPlusOneSelectDetector;
+	}
+
 	@Override
 	public void clear() {
 		if ( proxiesByKey != null ) {
@@ -259,6 +270,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		if ( batchFetchQueue != null ) {
 			batchFetchQueue.clear();
 		}
+		if ( nPlusOneSelectDetector != null ) {
+			nPlusOneSelectDetector.clear();
+		}
 		// defaultReadOnly is unaffected by clear()
 		hasNonReadOnlyEntities = false;
 		if ( loadContexts != null ) {
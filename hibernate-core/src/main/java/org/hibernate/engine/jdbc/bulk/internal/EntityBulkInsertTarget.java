@@ -0,0 +1,171 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.bulk.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hibernate.engine.jdbc.bulk.spi.BulkInsertTarget;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.Generator;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.AttributeMappingsList;
+import org.hibernate.metamodel.mapping.ModelPart.JdbcValueBiConsumer;
+import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.tuple.entity.EntityMetamodel;
+
+import static org.hibernate.engine.internal.Versioning.seedVersion;
+import static org.hibernate.generator.EventType.INSERT;
+
+/**
+ * A {@link BulkInsertTarget} for the table of an entity which is mapped
+ * to a single table without a discriminator column, and whose identifier and other generated values are
+ * all produced in memory, before the row is written.
+ *
+ * @see #forEntity(EntityPersister)
+ */
+public class EntityBulkInsertTarget implements BulkInsertTarget {
+	private static final JdbcValueBiConsumer<Object[], int[]> KEY_VALUE =
+			(valueIndex, row, position, value, selectable) -> row[position[0]++] = value;
+	private static final JdbcValueBiConsumer<Object[], int[]> INSERTABLE_VALUE =
+			(valueIndex, row, position, value, selectable) -> {
+				if ( selectable.isInsertable() ) {
+					row[position[0]++] = value;
+				}
+			};
+
+	private final AbstractEntityPersister persister;
+	private final List<SelectableMapping> columns;
+
+	private EntityBulkInsertTarget(AbstractEntityPersister persister, List<SelectableMapping> columns) {
+		this.persister = persister;
+		this.columns = columns;
+	}
+
+	/**
+	 * The bulk insert target for the given entity, or {@code null} if the
+	 * rows of the entity must be written using {@code insert} statements.
+	 */
+	public static EntityBulkInsertTarget forEntity(EntityPersister entityPersister) {
+		if ( !( entityPersister instanceof AbstractEntityPersister ) ) {
+			return null;
+		}
+		final AbstractEntityPersister persister = (AbstractEntityPersister) entityPersister;
+		final EntityMetamodel entityMetamodel = persister.getEntityMetamodel();
+		if ( persister.getTableSpan() != 1
+				|| entityMetamodel.isInherited()
+				|| entityMetamodel.hasSubclasses()
+				// an explicit discriminator column is written by insert statements
+				|| persister.getDiscriminatorMapping() != null
+				|| persister.getGenerator().generatedOnExecution()
+				|| persister.hasInsertGeneratedProperties()
+				|| persister.getIdentifierTableMapping().getInsertCustomSql() != null ) {
+			return null;
+		}
+
+		final List<SelectableMapping> columns = new ArrayList<>();
+		persister.getIdentifierMapping().forEachSelectable( (index, selectable) -> columns.add( selectable ) );
+		final boolean[] insertability = persister.getPropertyInsertability();
+		final AttributeMappingsList attributeMappings = persister.getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			final AttributeMapping attributeMapping = attributeMappings.get( i );
+			if ( insertability[i] && !( attributeMapping instanceof PluralAttributeMapping ) ) {
+				attributeMapping.forEachSelectable( (index, selectable) -> {
+					if ( selectable.isInsertable() ) {
+						columns.add( selectable );
+					}
+				} );
+			}
+		}
+		for ( SelectableMapping column : columns ) {
+			if ( column.getCustomWriteExpression() != null ) {
+				// the value is transformed by a SQL expression
+				return null;
+			}
+		}
+		return new EntityBulkInsertTarget( persister, columns );
+	}
+
+	@Override
+	public String getTableName() {
+		return persister.getIdentifierTableMapping().getTableName();
+	}
+
+	@Override
+	public List<SelectableMapping> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * The rows for the given entities, produced lazily. Producing the row
+	 * for an entity assigns its identifier, seeds its version, and applies
+	 * any other in-memory value generation, just like an {@code insert}
+	 * would.
+	 */
+	public Iterator<Object[]> rows(List<?> entities, SharedSessionContractImplementor session) {
+		final Iterator<?> iterator = entities.iterator();
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Object[] next() {
+				return row( iterator.next(), session );
+			}
+		};
+	}
+
+	private Object[] row(Object entity, SharedSessionContractImplementor session) {
+		final Object[] state = persister.getValues( entity );
+		final Object id = ( (BeforeExecutionGenerator) persister.getGenerator() )
+				.generate( session, entity, null, INSERT );
+		if ( persister.isVersioned() ) {
+			if ( seedVersion( entity, state, persister, session ) ) {
+				persister.setValues( entity, state );
+			}
+		}
+		preInsertInMemoryValueGeneration( state, entity, session );
+		persister.setIdentifier( entity, id, session );
+
+		final Object[] row = new Object[columns.size()];
+		final int[] position = new int[1];
+		persister.getIdentifierMapping().decompose( id, 0, row, position, KEY_VALUE, session );
+		final boolean[] insertability = persister.getPropertyInsertability();
+		final AttributeMappingsList attributeMappings = persister.getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			final AttributeMapping attributeMapping = attributeMappings.get( i );
+			if ( insertability[i] && !( attributeMapping instanceof PluralAttributeMapping ) ) {
+				attributeMapping.decompose( state[i], 0, row, position, INSERTABLE_VALUE, session );
+			}
+		}
+		assert position[0] == row.length;
+		return row;
+	}
+
+	private void preInsertInMemoryValueGeneration(Object[] state, Object entity, SharedSessionContractImplementor session) {
+		final EntityMetamodel entityMetamodel = persister.getEntityMetamodel();
+		if ( entityMetamodel.hasPreInsertGeneratedValues() ) {
+			final Generator[] generators = entityMetamodel.getGenerators();
+			for ( int i = 0; i < generators.length; i++ ) {
+				final Generator generator = generators[i];
+				if ( generator != null
+						&& !generator.generatedOnExecution()
+						&& generator.generatesOnInsert() ) {
+					state[i] = ( (BeforeExecutionGenerator) generator ).generate( session, entity, state[i], INSERT );
+					persister.setPropertyValue( entity, i, state[i] );
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,14 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+
+/**
+ * Support for loading large numbers of rows using the native bulk
+ * loading facilities of the database.
+ *
+ * @see org.hibernate.StatelessSession#bulkInsert(java.util.List)
+ */
+package org.hibernate.engine.jdbc.bulk;
@@ -0,0 +1,41 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.bulk.spi;
+
+import java.util.Iterator;
+
+import org.hibernate.Incubating;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Loads rows into a table using a native bulk loading facility of the
+ * database, for example, the {@code copy ... from stdin} statement of
+ * PostgreSQL, bypassing the usual {@code insert} statements.
+ * <p>
+ * A strategy is obtained from {@link org.hibernate.dialect.Dialect#getBulkInsertStrategy()}.
+ * When the dialect has no strategy, or when the strategy cannot handle
+ * a given table, rows are inserted using JDBC batches of {@code insert}
+ * statements instead.
+ *
+ * @see org.hibernate.StatelessSession#bulkInsert(java.util.List)
+ */
+@Incubating
+public interface BulkInsertStrategy {
+	/**
+	 * Can this strategy load rows into the given table? A strategy might,
+	 * for example, not know how to encode values of certain column types,
+	 * or might depend on a particular JDBC driver.
+	 */
+	boolean canBulkInsert(BulkInsertTarget target, SharedSessionContractImplementor session);
+
+	/**
+	 * Load the given rows into the given table, consuming them lazily.
+	 *
+	 * @return the number of rows loaded
+	 */
+	long bulkInsert(BulkInsertTarget target, Iterator<Object[]> rows, SharedSessionContractImplementor session);
+}
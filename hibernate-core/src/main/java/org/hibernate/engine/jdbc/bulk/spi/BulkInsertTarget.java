@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.bulk.spi;
+
+import java.util.List;
+
+import org.hibernate.Incubating;
+import org.hibernate.metamodel.mapping.SelectableMapping;
+
+/**
+ * The table into which a {@link BulkInsertStrategy} loads rows.
+ */
+@Incubating
+public interface BulkInsertTarget {
+	/**
+	 * The name of the table, as it should be rendered into SQL.
+	 */
+	String getTableName();
+
+	/**
+	 * The columns of the table, in the order in which the values occur
+	 * in each row. Each row value is a JDBC-level value of the
+	 * {@linkplain SelectableMapping#getJdbcMapping() JDBC mapping}
+	 * of its column.
+	 */
+	List<SelectableMapping> getColumns();
+}
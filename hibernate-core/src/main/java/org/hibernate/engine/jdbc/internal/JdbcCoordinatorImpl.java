@@ -37,6 +37,7 @@ import org.hibernate.jdbc.WorkExecutorVisitable;
 import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl;
 import org.hibernate.resource.jdbc.internal.LogicalConnectionProvidedImpl;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.internal.ResourceRegistryStandardImpl;
 import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -59,6 +60,8 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient final JdbcServices jdbcServices;
 
+	private transient final PreparedStatementCache statementCache;
+
 	private transient Batch currentBatch;
 
 	private transient long transactionTimeOutInstant = -1;
@@ -82,8 +85,13 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 			JdbcServices jdbcServices) {
 		this.isUserSuppliedConnection = userSuppliedConnection != null;
 
+		final int statementCacheSize = owner.getJdbcSessionContext().getPreparedStatementCacheSize();
+		this.statementCache = statementCacheSize > 0
+				? new PreparedStatementCache( statementCacheSize, owner.getJdbcSessionContext().getStatistics() )
+				: null;
 		final ResourceRegistry resourceRegistry = new ResourceRegistryStandardImpl(
-				owner.getJdbcSessionContext().getObserver()
+				owner.getJdbcSessionContext().getObserver(),
+				statementCache
 		);
 		if ( isUserSuppliedConnection ) {
 			this.logicalConnection = new LogicalConnectionProvidedImpl( userSuppliedConnection, resourceRegistry );
@@ -108,6 +116,7 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		this.isUserSuppliedConnection = isUserSuppliedConnection;
 		this.owner = owner;
 		this.jdbcServices = owner.getJdbcSessionContext().getJdbcServices();
+		this.statementCache = null;
 	}
 
 	@Override
@@ -115,6 +124,15 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		return logicalConnection;
 	}
 
+	/**
+	 * The cache of prepared statements of this session, if enabled
+	 *
+	 * @return The cache, or {@code null}
+	 */
+	PreparedStatementCache getPreparedStatementCache() {
+		return statementCache;
+	}
+
 	/**
 	 * Access to the {@link SqlExceptionHelper}
 	 *
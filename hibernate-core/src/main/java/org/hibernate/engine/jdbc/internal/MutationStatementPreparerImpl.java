@@ -8,12 +8,15 @@ package org.hibernate.engine.jdbc.internal;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.MutationStatementPreparer;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.resource.jdbc.internal.PreparedStatementCache;
 import org.hibernate.resource.jdbc.spi.JdbcObserver;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
@@ -44,6 +47,11 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 						? connection().prepareCall( sql )
 						: connection().prepareStatement( sql );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return isCallable ? null : PreparedStatementCache.key( sql, ResultSet.TYPE_FORWARD_ONLY );
+			}
 		};
 	}
 
@@ -57,6 +65,11 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 				//noinspection resource
 				return connection().prepareStatement( sql, autoGeneratedKeys );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return PreparedStatementCache.key( sql, autoGeneratedKeys, null );
+			}
 		}.prepareStatement();
 	}
 
@@ -74,6 +87,11 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 				//noinspection resource
 				return connection().prepareStatement( sql, columnNames );
 			}
+
+			@Override
+			protected PreparedStatementCache.Key cacheKey() {
+				return PreparedStatementCache.key( sql, Statement.RETURN_GENERATED_KEYS, columnNames );
+			}
 		}.prepareStatement();
 	}
 
@@ -90,19 +108,26 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 
 		public PreparedStatement prepareStatement() {
 			try {
-				final PreparedStatement preparedStatement;
-				//noinspection deprecation
-				final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner()
-						.getJdbcSessionContext()
-						.getObserver();
-				try {
-					observer.jdbcPrepareStatementStart();
-					preparedStatement = doPrepare();
-					setStatementTimeout( preparedStatement );
-				}
-				finally {
-					observer.jdbcPrepareStatementEnd();
+				final PreparedStatementCache statementCache = jdbcCoordinator.getPreparedStatementCache();
+				final PreparedStatementCache.Key cacheKey = statementCache == null ? null : cacheKey();
+				PreparedStatement preparedStatement = cacheKey == null ? null : statementCache.checkOut( cacheKey );
+				if ( preparedStatement == null ) {
+					//noinspection deprecation
+					final JdbcObserver observer = jdbcCoordinator.getJdbcSessionOwner()
+							.getJdbcSessionContext()
+							.getObserver();
+					try {
+						observer.jdbcPrepareStatementStart();
+						preparedStatement = doPrepare();
+						if ( cacheKey != null ) {
+							statementCache.track( preparedStatement, cacheKey );
+						}
+					}
+					finally {
+						observer.jdbcPrepareStatementEnd();
+					}
 				}
+				setStatementTimeout( preparedStatement );
 				postProcess( preparedStatement );
 				return preparedStatement;
 			}
@@ -113,6 +138,14 @@ public class MutationStatementPreparerImpl implements MutationStatementPreparer
 
 		protected abstract PreparedStatement doPrepare() throws SQLException;
 
+		/**
+		 * The key of the prepared statement in the {@link PreparedStatementCache},
+		 * or {@code null} if the statement should not be cached
+		 */
+		protected PreparedStatementCache.Key cacheKey() {
+			return null;
+		}
+
 		public void postProcess(PreparedStatement preparedStatement) throws SQLException {
 			jdbcCoordinator.getLogicalConnection().getResourceRegistry().register( preparedStatement, true );
 //			logicalConnection().notifyObserversStatementPrepared();
@@ -18,7 +18,9 @@ import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.ResultSetReturn;
 import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
+import org.hibernate.resource.jdbc.spi.JdbcSessionOwner;
 
 /**
  * Standard implementation of the ResultSetReturn contract
@@ -84,7 +86,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			}
 			finally {
 				jdbcExecuteStatementEnd();
-				sqlStatementLogger.logSlowQuery( sql, executeStartNanos, context() );
+				logSlowQuery( sql, executeStartNanos, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -98,6 +100,29 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		return jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext();
 	}
 
+	/**
+	 * Logs a slow query along with the session executing it. Only the SQL is ever recorded, never
+	 * the {@code toString()} of the statement, which may include the bind values.
+	 */
+	private void logSlowQuery(String sql, long executeStartNanos, int rowCount) {
+		if ( executeStartNanos <= 0 ) {
+			// slow query logging is disabled
+			return;
+		}
+		final JdbcSessionOwner owner = jdbcCoordinator.getJdbcSessionOwner();
+		sqlStatementLogger.logSlowQuery(
+				sql,
+				executeStartNanos,
+				rowCount,
+				null,
+				null,
+				owner instanceof SharedSessionContractImplementor
+						? ( (SharedSessionContractImplementor) owner ).getSessionIdentifier()
+						: null,
+				owner.getJdbcSessionContext()
+		);
+	}
+
 	private void jdbcExecuteStatementEnd() {
 		jdbcCoordinator.getJdbcSessionOwner().getJdbcSessionContext().getObserver().jdbcExecuteStatementEnd();
 	}
@@ -146,7 +171,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			}
 			finally {
 				jdbcExecuteStatementEnd();
-				sqlStatementLogger.logSlowQuery( sql, executeStartNanos, context() );
+				logSlowQuery( sql, executeStartNanos, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -206,7 +231,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			}
 			finally {
 				jdbcExecuteStatementEnd();
-				sqlStatementLogger.logSlowQuery( sql, executeStartNanos, context() );
+				logSlowQuery( sql, executeStartNanos, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -236,7 +261,7 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 			}
 			finally {
 				jdbcExecuteStatementEnd();
-				sqlStatementLogger.logSlowQuery( sql, executeStartNanos, context() );
+				logSlowQuery( sql, executeStartNanos, -1 );
 			}
 			postExtract( rs, statement );
 			return rs;
@@ -275,16 +300,20 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		int rowCount = -1;
 		try {
 			jdbcExecuteStatementStart();
-			return statement.executeUpdate();
+			rowCount = statement.executeUpdate();
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement", sql );
 		}
 		finally {
 			jdbcExecuteStatementEnd();
-			sqlStatementLogger.logSlowQuery( sql, executeStartNanos, context() );
+			if ( executeStartNanos > 0 ) {
+				logSlowQuery( sql, executeStartNanos, rowCount );
+			}
 		}
 	}
 
@@ -295,16 +324,20 @@ public class ResultSetReturnImpl implements ResultSetReturn {
 		if ( this.sqlStatementLogger.getLogSlowQuery() > 0 ) {
 			executeStartNanos = System.nanoTime();
 		}
+		int rowCount = -1;
 		try {
 			jdbcExecuteStatementStart();
-			return statement.executeUpdate( sql );
+			rowCount = statement.executeUpdate( sql );
+			return rowCount;
 		}
 		catch (SQLException e) {
 			throw sqlExceptionHelper.convert( e, "could not execute statement", sql );
 		}
 		finally {
 			jdbcExecuteStatementEnd();
-			sqlStatementLogger.logSlowQuery( sql, executeStartNanos, context() );
+			if ( executeStartNanos > 0 ) {
+				logSlowQuery( sql, executeStartNanos, rowCount );
+			}
 		}
 	}
 
@@ -15,6 +15,7 @@ import org.hibernate.service.spi.ServiceRegistryImplementor;
 import static org.hibernate.cfg.AvailableSettings.FORMAT_SQL;
 import static org.hibernate.cfg.AvailableSettings.HIGHLIGHT_SQL;
 import static org.hibernate.cfg.AvailableSettings.LOG_SLOW_QUERY;
+import static org.hibernate.cfg.AvailableSettings.LOG_SLOW_QUERY_BIND_VALUES;
 import static org.hibernate.cfg.AvailableSettings.SHOW_SQL;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
@@ -42,7 +43,9 @@ public class SqlStatementLoggerInitiator implements StandardServiceInitiator<Sql
 			logSlowQuery = getLong( OLD_LOG_SLOW_QUERY, configValues, 0 );
 		}
 
-		return new SqlStatementLogger( showSQL, formatSQL, highlightSQL, logSlowQuery );
+		final boolean logSlowQueryBindValues = getBoolean( LOG_SLOW_QUERY_BIND_VALUES, configValues );
+
+		return new SqlStatementLogger( showSQL, formatSQL, highlightSQL, logSlowQuery, logSlowQueryBindValues );
 	}
 
 	@Override
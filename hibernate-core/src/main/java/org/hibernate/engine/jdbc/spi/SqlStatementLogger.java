@@ -6,17 +6,24 @@
  */
 package org.hibernate.engine.jdbc.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.internal.Formatter;
+import org.hibernate.event.jfr.internal.JfrEventManager;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.build.AllowSysOut;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.service.Service;
 
+import org.hibernate.stat.SlowQuery;
+import org.hibernate.stat.internal.SlowQueryImpl;
 import org.hibernate.stat.spi.StatisticsImplementor;
 import org.jboss.logging.Logger;
 
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -29,6 +36,8 @@ public class SqlStatementLogger implements Service {
 	private static final Logger LOG = CoreLogging.logger( "org.hibernate.SQL" );
 	private static final Logger LOG_SLOW = CoreLogging.logger( "org.hibernate.SQL_SLOW" );
 
+	private static final int MAX_BIND_VALUE_LENGTH = 100;
+
 	private final boolean logToStdout;
 	private final boolean format;
 	private final boolean highlight;
@@ -38,6 +47,11 @@ public class SqlStatementLogger implements Service {
 	 */
 	private final long logSlowQuery;
 
+	/**
+	 * Should the values bound to the parameters of slow queries be recorded?
+	 */
+	private final boolean logSlowQueryBindValues;
+
 	/**
 	 * Constructs a new {@code SqlStatementLogger} instance.
 	 */
@@ -75,10 +89,29 @@ public class SqlStatementLogger implements Service {
 	 * @param logSlowQuery Should we logs query which executed slower than specified milliseconds. 0 - disabled.
 	 */
 	public SqlStatementLogger(boolean logToStdout, boolean format, boolean highlight, long logSlowQuery) {
+		this( logToStdout, format, highlight, logSlowQuery, false );
+	}
+
+	/**
+	 * Constructs a new {@code SqlStatementLogger} instance.
+	 *
+	 * @param logToStdout Should we log to STDOUT in addition to our internal logger?
+	 * @param format Should we format the statements in the console and log
+	 * @param highlight Should we highlight the statements in the console
+	 * @param logSlowQuery Should we logs query which executed slower than specified milliseconds. 0 - disabled.
+	 * @param logSlowQueryBindValues Should we record the values bound to the parameters of slow queries
+	 */
+	public SqlStatementLogger(
+			boolean logToStdout,
+			boolean format,
+			boolean highlight,
+			long logSlowQuery,
+			boolean logSlowQueryBindValues) {
 		this.logToStdout = logToStdout;
 		this.format = format;
 		this.highlight = highlight;
 		this.logSlowQuery = logSlowQuery;
+		this.logSlowQueryBindValues = logSlowQueryBindValues;
 	}
 
 	/**
@@ -141,12 +174,17 @@ public class SqlStatementLogger implements Service {
 
 	/**
 	 * Log a slow SQL query
+	 * <p>
+	 * The SQL is not known, and the string form of the statement may include the
+	 * bind values, so the query is only logged, and neither recorded in the
+	 * {@linkplain org.hibernate.stat.Statistics#getSlowQueryHistory() statistics}
+	 * nor in the JDK Flight Recorder.
 	 *
 	 * @param statement SQL statement.
 	 * @param startTimeNanos Start time in nanoseconds.
 	 */
 	public void logSlowQuery(Statement statement, long startTimeNanos, JdbcSessionContext context) {
-		logSlowQuery( statement::toString, startTimeNanos, context );
+		logSlowQuery( statement::toString, startTimeNanos, -1, null, null, null, context, false );
 	}
 
 	/**
@@ -157,15 +195,50 @@ public class SqlStatementLogger implements Service {
 	 */
 	@AllowSysOut
 	public void logSlowQuery(String sql, long startTimeNanos, JdbcSessionContext context) {
-		logSlowQuery( sql::toString, startTimeNanos, context );
+		logSlowQuery( sql::toString, startTimeNanos, -1, null, null, null, context, true );
+	}
+
+	/**
+	 * Log a slow SQL query, recording the details known to the caller in the
+	 * {@linkplain org.hibernate.stat.Statistics#getSlowQueryHistory() statistics}
+	 * and the JDK Flight Recorder.
+	 *
+	 * @param sql The SQL query.
+	 * @param startTimeNanos Start time in nanoseconds.
+	 * @param rowCount The number of affected rows, or {@code -1} if not known.
+	 * @param queryString The HQL or native query the SQL was generated from, if any.
+	 * @param bindValues Supplies the values bound to the parameters of the query, if known.
+	 * @param sessionIdentifier The identifier of the session executing the query, if known.
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	public void logSlowQuery(
+			String sql,
+			long startTimeNanos,
+			long rowCount,
+			String queryString,
+			Supplier<List<?>> bindValues,
+			UUID sessionIdentifier,
+			JdbcSessionContext context) {
+		logSlowQuery( sql::toString, startTimeNanos, rowCount, queryString, bindValues, sessionIdentifier, context, true );
 	}
 
 	/**
 	 * @param sqlSupplier Supplier to generate The SQL query.
 	 * @param startTimeNanos Start time in nanoseconds.
+	 * @param record Whether to record the slow query, besides logging it.
 	 */
 	@AllowSysOut
-	private void logSlowQuery(Supplier<String> sqlSupplier, long startTimeNanos, JdbcSessionContext context) {
+	private void logSlowQuery(
+			Supplier<String> sqlSupplier,
+			long startTimeNanos,
+			long rowCount,
+			String queryString,
+			Supplier<List<?>> bindValues,
+			UUID sessionIdentifier,
+			JdbcSessionContext context,
+			boolean record) {
 		if ( logSlowQuery < 1 ) {
 			return;
 		}
@@ -182,12 +255,48 @@ public class SqlStatementLogger implements Service {
 			if ( logToStdout ) {
 				System.out.println( logData );
 			}
+			if ( !record ) {
+				return;
+			}
+			final SlowQuery slowQuery = new SlowQueryImpl(
+					sql,
+					queryExecutionMillis,
+					rowCount,
+					queryString,
+					sessionIdentifier,
+					logSlowQueryBindValues && bindValues != null ? render( bindValues.get() ) : null
+			);
 			if ( context != null ) {
 				final StatisticsImplementor statisticsImplementor = context.getStatistics();
 				if ( statisticsImplementor != null && statisticsImplementor.isStatisticsEnabled() ) {
-					statisticsImplementor.slowQuery( sql, queryExecutionMillis );
+					statisticsImplementor.slowQuery( slowQuery );
 				}
 			}
+			JfrEventManager.commitSlowQueryEvent( slowQuery );
+		}
+	}
+
+	private static List<String> render(List<?> bindValues) {
+		final List<String> rendered = new ArrayList<>( bindValues.size() );
+		for ( Object value : bindValues ) {
+			rendered.add( render( value ) );
+		}
+		return rendered;
+	}
+
+	private static String render(Object value) {
+		if ( value == null ) {
+			return "null";
+		}
+		else if ( value instanceof byte[] ) {
+			// don't keep (or log) binary content
+			return "byte[" + ( (byte[]) value ).length + "]";
+		}
+		else {
+			final String string = value.toString();
+			return string.length() > MAX_BIND_VALUE_LENGTH
+					? string.substring( 0, MAX_BIND_VALUE_LENGTH ) + "..."
+					: string;
 		}
 	}
 }
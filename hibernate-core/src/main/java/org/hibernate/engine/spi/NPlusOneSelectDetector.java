@@ -0,0 +1,144 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Detects the N+1 selects problem: the same association, or entity, being
+ * loaded by a separate select for many of the results of a query.
+ * <p>
+ * Counts the secondary selects of each association since the last query
+ * executed by the session.  Once the count for an association exceeds the
+ * {@linkplain org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+ * threshold}, the pattern is logged along with the originating query and the
+ * call site which triggered the selects, and counted by the
+ * {@link org.hibernate.stat.Statistics}.  In
+ * {@linkplain org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_STRICT
+ * strict mode}, a {@link HibernateException} is thrown as well.
+ * <p>
+ * Only instantiated by the {@link PersistenceContext} when detection is enabled.
+ *
+ * @see PersistenceContext#getNPlusOneSelectDetector()
+ *
+ * @since 6.4
+ */
+@Incubating
+public class NPlusOneSelectDetector {
+	private static final Logger LOG = CoreLogging.logger( NPlusOneSelectDetector.class );
+
+	private final PersistenceContext context;
+	private final int threshold;
+	private final boolean strict;
+
+	private String originatingQuery;
+	private Map<String, Integer> selectCounts;
+
+	/**
+	 * Constructs a detector for the given context.
+	 *
+	 * @param context The owning context.
+	 */
+	public NPlusOneSelectDetector(PersistenceContext context) {
+		this.context = context;
+		final SessionFactoryOptions options = context.getSession().getFactory().getSessionFactoryOptions();
+		this.threshold = options.getNPlusOneSelectThreshold();
+		this.strict = options.isNPlusOneSelectStrict();
+	}
+
+	/**
+	 * Called when the session executes a query, whose results are the origin
+	 * of any subsequent secondary select.
+	 *
+	 * @param queryString The HQL or native query string
+	 */
+	public void queryExecuted(String queryString) {
+		originatingQuery = queryString;
+		if ( selectCounts != null ) {
+			selectCounts.clear();
+		}
+	}
+
+	/**
+	 * Called when an association, or entity, is loaded by a separate select.
+	 *
+	 * @param role The role of the association, or the name of the entity
+	 *
+	 * @throws HibernateException in strict mode, if an N+1 selects pattern is detected
+	 */
+	public void secondarySelect(String role) {
+		if ( selectCounts == null ) {
+			selectCounts = new HashMap<>();
+		}
+		final int count = selectCounts.merge( role, 1, Integer::sum );
+		// report once, when the threshold is first exceeded
+		if ( count == threshold + 1 ) {
+			report( role, count );
+		}
+	}
+
+	private void report(String role, int count) {
+		final String message = String.format(
+				"N+1 selects detected: more than %s separate selects of '%s' following query [%s], triggered from %s",
+				threshold,
+				role,
+				originatingQuery == null ? "<none>" : originatingQuery,
+				callSite()
+		);
+		LOG.warn( message );
+
+		final StatisticsImplementor statistics = context.getSession().getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.nPlusOneSelect( role );
+		}
+
+		if ( strict ) {
+			throw new HibernateException( message );
+		}
+	}
+
+	/**
+	 * Clears the counts, and forgets the originating query.
+	 */
+	public void clear() {
+		originatingQuery = null;
+		selectCounts = null;
+	}
+
+	/**
+	 * The first frame of the current stack which does not belong to Hibernate,
+	 * to a generated proxy, or to the JDK.
+	 */
+	private static String callSite() {
+		return StackWalker.getInstance().walk(
+				frames -> frames
+						.filter( frame -> !isInternal( frame.getClassName(), frame.getMethodName() ) )
+						.findFirst()
+						.map( frame -> frame.toStackTraceElement().toString() )
+						.orElse( "<unknown>" )
+		);
+	}
+
+	private static boolean isInternal(String className, String methodName) {
+		return className.startsWith( "org.hibernate." )
+				|| className.startsWith( "java." )
+				|| className.startsWith( "jdk." )
+				|| className.startsWith( "sun." )
+				// both the runtime proxies, Foo$HibernateProxy$xyz, and the build-time ones, Foo$HibernateProxy
+				|| className.contains( "$HibernateProxy" )
+				|| methodName.startsWith( "$$_hibernate_" );
+	}
+}
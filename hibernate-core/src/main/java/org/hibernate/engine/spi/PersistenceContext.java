@@ -13,6 +13,7 @@ import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.LockMode;
 import org.hibernate.query.Query;
@@ -90,6 +91,19 @@ public interface PersistenceContext {
 	 */
 	BatchFetchQueue getBatchFetchQueue();
 
+	/**
+	 * Get the {@link NPlusOneSelectDetector}, instantiating one if necessary.
+	 *
+	 * @return The N+1 selects detector in effect for this persistence context,
+	 *         or {@code null} if detection is disabled
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	NPlusOneSelectDetector getNPlusOneSelectDetector();
+
 	/**
 	 * Clear the state of the persistence context
 	 */
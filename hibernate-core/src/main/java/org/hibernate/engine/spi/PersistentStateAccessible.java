@@ -0,0 +1,48 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.engine.spi;
+
+import org.hibernate.Incubating;
+
+/**
+ * Contract for bytecode enhanced entities which read and write the whole of their
+ * persistent state at once, directly through their fields, in place of one
+ * {@link org.hibernate.property.access.spi.Getter} or
+ * {@link org.hibernate.property.access.spi.Setter} call per attribute.
+ * <p>
+ * The state array excludes the identifier, and its elements are ordered by
+ * attribute name, with the attributes inherited from a mapped superclass first.
+ * The enhancer also generates a static method named
+ * {@value org.hibernate.bytecode.enhance.spi.EnhancerConstants#STATE_ATTRIBUTE_NAMES_GETTER_NAME}
+ * returning the names of the attributes, in the same order, so that the order can
+ * be checked against the mapping before the methods are used.
+ *
+ * @since 6.4
+ */
+@Incubating
+public interface PersistentStateAccessible extends PrimeAmongSecondarySupertypes {
+	/**
+	 * Copy the value of each persistent field into the given state array.
+	 */
+	void $$_hibernate_getState(Object[] state);
+
+	/**
+	 * Assign each persistent field the value held by the given state array, except
+	 * those fields whose value is {@link org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer#UNFETCHED_PROPERTY}.
+	 */
+	void $$_hibernate_setState(Object[] state);
+
+	/**
+	 * Special internal contract to optimize type checking
+	 * @see PrimeAmongSecondarySupertypes
+	 * @return this same instance
+	 */
+	@Override
+	default PersistentStateAccessible asPersistentStateAccessible() {
+		return this;
+	}
+}
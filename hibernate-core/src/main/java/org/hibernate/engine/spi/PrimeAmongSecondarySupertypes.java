@@ -57,6 +57,10 @@ public interface PrimeAmongSecondarySupertypes {
 		return null;
 	}
 
+	default PersistentStateAccessible asPersistentStateAccessible() {
+		return null;
+	}
+
 	default HibernateProxy asHibernateProxy() {
 		return null;
 	}
@@ -12,6 +12,7 @@ import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.spi.CollectionEntry;
+import org.hibernate.engine.spi.NPlusOneSelectDetector;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -64,6 +65,11 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection not cached" );
 				}
+				final NPlusOneSelectDetector nPlusOneSelectDetector =
+						source.getPersistenceContextInternal().getNPlusOneSelectDetector();
+				if ( nPlusOneSelectDetector != null ) {
+					nPlusOneSelectDetector.secondarySelect( loadedPersister.getRole() );
+				}
 				loadedPersister.initialize( loadedKey, source );
 				handlePotentiallyEmptyCollection( collection, source, ce, loadedPersister );
 				if ( LOG.isTraceEnabled() ) {
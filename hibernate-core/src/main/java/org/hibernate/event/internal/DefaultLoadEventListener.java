@@ -16,10 +16,12 @@ import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLaziness
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.NPlusOneSelectDetector;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.jfr.internal.JfrEventManager;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
 import org.hibernate.event.spi.LoadEventListener;
@@ -64,7 +66,18 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			throw new HibernateException( "Unable to locate persister: " + event.getEntityClassName() );
 		}
 		checkId( event, loadType, persister );
-		doOnLoad( persister, event, loadType );
+		final Object entityLoadEvent = JfrEventManager.beginEntityLoadEvent();
+		try {
+			doOnLoad( persister, event, loadType );
+		}
+		finally {
+			JfrEventManager.commitEntityLoadEvent(
+					entityLoadEvent,
+					persister.getEntityName(),
+					loadType.getName(),
+					event.getResult() != null
+			);
+		}
 	}
 
 	private void checkId(LoadEvent event, LoadType loadType, EntityPersister persister) {
@@ -574,6 +587,15 @@ public class DefaultLoadEventListener implements LoadEventListener {
 						infoString( persister, event.getEntityId(), event.getSession().getFactory() )
 				);
 			}
+			if ( event.isAssociationFetch() ) {
+				// proxy initializations and associations fetched by a subsequent select,
+				// counted only now that neither the session nor the second-level cache had it
+				final NPlusOneSelectDetector nPlusOneSelectDetector =
+						event.getSession().getPersistenceContextInternal().getNPlusOneSelectDetector();
+				if ( nPlusOneSelectDetector != null ) {
+					nPlusOneSelectDetector.secondarySelect( event.getEntityClassName() );
+				}
+			}
 			return loadFromDatasource( event, persister );
 		}
 	}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The JDK Flight Recorder event recording a {@linkplain org.hibernate.boot.spi.BootstrapPhase phase}
+ * of bootstrap.
+ */
+@Name( "org.hibernate.orm.BootstrapPhase" )
+@Label( "Bootstrap Phase" )
+@Category( { "Hibernate ORM", "Bootstrap" } )
+@Description( "A phase of the bootstrap of a SessionFactory" )
+@StackTrace( false )
+final class BootstrapPhaseEvent extends Event {
+	@Label( "Phase" )
+	String phase;
+
+	@Label( "Detail" )
+	String detail;
+}
@@ -0,0 +1,25 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event recording a lookup in the second-level or query cache.
+ */
+@Name( "org.hibernate.orm.CacheGet" )
+@Label( "Cache Get" )
+@Category( { "Hibernate ORM", "Second-Level Cache" } )
+@Description( "A lookup in the second-level or query cache" )
+final class CacheGetEvent extends Event {
+	@Label( "Hit" )
+	boolean hit;
+}
@@ -0,0 +1,25 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event recording the dirty check of an entity.
+ */
+@Name( "org.hibernate.orm.DirtyCalculation" )
+@Label( "Dirty Calculation" )
+@Category( { "Hibernate ORM", "Session" } )
+@Description( "The dirty check of an entity during a flush" )
+final class DirtyCalculationEvent extends Event {
+	@Label( "Dirty" )
+	boolean dirty;
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event recording the load or initialization of an entity.
+ */
+@Name( "org.hibernate.orm.EntityLoad" )
+@Label( "Entity Load" )
+@Category( { "Hibernate ORM", "Session" } )
+@Description( "The load or initialization of an entity" )
+final class EntityLoadEvent extends Event {
+	@Label( "Entity Name" )
+	String entityName;
+
+	@Label( "Load Type" )
+	String loadType;
+
+	@Label( "Found" )
+	boolean found;
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event recording a flush of a session.
+ */
+@Name( "org.hibernate.orm.Flush" )
+@Label( "Flush" )
+@Category( { "Hibernate ORM", "Session" } )
+@Description( "A flush of a Session, or a partial flush before a query" )
+final class FlushEvent extends Event {
+	@Label( "Number Of Processed Entities" )
+	int numberOfEntitiesProcessed;
+
+	@Label( "Number Of Processed Collections" )
+	int numberOfCollectionsProcessed;
+
+	@Label( "Partial Flush" )
+	boolean partial;
+}
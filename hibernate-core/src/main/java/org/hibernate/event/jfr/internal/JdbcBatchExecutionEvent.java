@@ -0,0 +1,23 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event recording the execution of a JDBC batch.
+ */
+@Name( "org.hibernate.orm.JdbcBatchExecution" )
+@Label( "JDBC Batch Execution" )
+@Category( { "Hibernate ORM", "JDBC" } )
+@Description( "The execution of a JDBC batch" )
+final class JdbcBatchExecutionEvent extends Event {
+}
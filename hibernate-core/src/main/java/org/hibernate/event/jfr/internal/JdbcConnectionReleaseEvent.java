@@ -0,0 +1,23 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event recording the release of a JDBC connection.
+ */
+@Name( "org.hibernate.orm.JdbcConnectionRelease" )
+@Label( "JDBC Connection Release" )
+@Category( { "Hibernate ORM", "JDBC" } )
+@Description( "The release of a JDBC connection" )
+final class JdbcConnectionReleaseEvent extends Event {
+}
@@ -0,0 +1,23 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event recording the creation of a JDBC prepared statement.
+ */
+@Name( "org.hibernate.orm.JdbcPreparedStatementCreation" )
+@Label( "JDBC Prepared Statement Creation" )
+@Category( { "Hibernate ORM", "JDBC" } )
+@Description( "The creation of a JDBC prepared statement" )
+final class JdbcPreparedStatementCreationEvent extends Event {
+}
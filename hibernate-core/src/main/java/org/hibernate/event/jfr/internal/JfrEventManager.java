@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.SlowQuery;
+
+/**
+ * Emits the runtime events of Hibernate ORM to the JDK Flight Recorder.
+ * <p>
+ * Events are passed around as untyped handles, and the event classes are only
+ * loaded after checking that the {@code jdk.jfr} module is available.  An event
+ * is only created if it is enabled in a running recording, so that a disabled
+ * event costs a single check.  A {@code begin} method returns {@code null} for
+ * a disabled event, which the matching {@code commit} method ignores.
+ */
+public final class JfrEventManager {
+	private static final boolean JFR_AVAILABLE = isJfrAvailable();
+
+	private JfrEventManager() {
+	}
+
+	/**
+	 * Commit an event with no detail other than its duration.
+	 */
+	public static void commitEvent(Object event) {
+		if ( event != null ) {
+			JfrEvents.commit( event );
+		}
+	}
+
+	public static void commitSessionOpenEvent(SharedSessionContractImplementor session) {
+		if ( JFR_AVAILABLE ) {
+			JfrEvents.commitSessionOpenEvent( session );
+		}
+	}
+
+	public static Object beginSessionClosedEvent() {
+		return JFR_AVAILABLE ? JfrEvents.beginSessionClosedEvent() : null;
+	}
+
+	public static void commitSessionClosedEvent(Object event, SharedSessionContractImplementor session) {
+		if ( event != null ) {
+			JfrEvents.commitSessionClosedEvent( event, session );
+		}
+	}
+
+	public static Object beginFlushEvent() {
+		return JFR_AVAILABLE ? JfrEvents.beginFlushEvent() : null;
+	}
+
+	public static void commitFlushEvent(
+			Object event,
+			int numberOfEntitiesProcessed,
+			int numberOfCollectionsProcessed,
+			boolean partial) {
+		if ( event != null ) {
+			JfrEvents.commitFlushEvent( event, numberOfEntitiesProcessed, numberOfCollectionsProcessed, partial );
+		}
+	}
+
+	public static Object beginDirtyCalculationEvent() {
+		return JFR_AVAILABLE ? JfrEvents.beginDirtyCalculationEvent() : null;
+	}
+
+	public static void commitDirtyCalculationEvent(Object event, boolean dirty) {
+		if ( event != null ) {
+			JfrEvents.commitDirtyCalculationEvent( event, dirty );
+		}
+	}
+
+	public static Object beginEntityLoadEvent() {
+		return JFR_AVAILABLE ? JfrEvents.beginEntityLoadEvent() : null;
+	}
+
+	public static void commitEntityLoadEvent(Object event, String entityName, String loadType, boolean found) {
+		if ( event != null ) {
+			JfrEvents.commitEntityLoadEvent( event, entityName, loadType, found );
+		}
+	}
+
+	public static Object beginQueryExecutionEvent() {
+		return JFR_AVAILABLE ? JfrEvents.beginQueryExecutionEvent() : null;
+	}
+
+	public static void commitQueryExecutionEvent(
+			Object event,
+			SharedSessionContractImplementor session,
+			String queryString,
+			String sql,
+			int resultCount) {
+		if ( event != null ) {
+			JfrEvents.commitQueryExecutionEvent( event, session, queryString, sql, resultCount );
+		}
+	}
+
+	public static Object beginJdbcConnectionAcquisitionEvent() {
+		return JFR_AVAILABLE ? JfrEvents.beginJdbcConnectionAcquisitionEvent() : null;
+	}
+
+	public static Object beginJdbcConnectionReleaseEvent() {
+		return JFR_AVAILABLE ? JfrEvents.beginJdbcConnectionReleaseEvent() : null;
+	}
+
+	public static Object beginJdbcPreparedStatementCreationEvent() {
+		return JFR_AVAILABLE ? JfrEvents.beginJdbcPreparedStatementCreationEvent() : null;
+	}
+
+	public static Object beginJdbcPreparedStatementExecutionEvent() {
+		return JFR_AVAILABLE ? JfrEvents.beginJdbcPreparedStatementExecutionEvent() : null;
+	}
+
+	public static Object beginJdbcBatchExecutionEvent() {
+		return JFR_AVAILABLE ? JfrEvents.beginJdbcBatchExecutionEvent() : null;
+	}
+
+	public static Object beginCacheGetEvent() {
+		return JFR_AVAILABLE ? JfrEvents.beginCacheGetEvent() : null;
+	}
+
+	public static void commitCacheGetEvent(Object event, boolean hit) {
+		if ( event != null ) {
+			JfrEvents.commitCacheGetEvent( event, hit );
+		}
+	}
+
+	public static Object beginCachePutEvent() {
+		return JFR_AVAILABLE ? JfrEvents.beginCachePutEvent() : null;
+	}
+
+	public static void commitSlowQueryEvent(SlowQuery slowQuery) {
+		if ( JFR_AVAILABLE ) {
+			JfrEvents.commitSlowQueryEvent( slowQuery );
+		}
+	}
+
+	/**
+	 * Begin the event of a phase of bootstrap, committed by {@link #commitEvent(Object)}.
+	 */
+	public static Object beginBootstrapPhaseEvent(BootstrapPhase phase, String detail) {
+		return JFR_AVAILABLE ? JfrEvents.beginBootstrapPhaseEvent( phase, detail ) : null;
+	}
+
+	private static boolean isJfrAvailable() {
+		try {
+			// the jdk.jfr module is optional, and absent from some runtime images
+			Class.forName( "jdk.jfr.Event", false, JfrEventManager.class.getClassLoader() );
+			// registers the event types, which fails on a JVM built without JFR support
+			Class.forName( JfrEvents.class.getName(), true, JfrEventManager.class.getClassLoader() );
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError | InternalError e) {
+			return false;
+		}
+	}
+}
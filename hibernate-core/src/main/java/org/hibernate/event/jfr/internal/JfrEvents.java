@@ -0,0 +1,193 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import java.util.function.Supplier;
+
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.SlowQuery;
+
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+
+/**
+ * Creates and commits the events, once they are enabled in a recording.
+ * <p>
+ * Only ever loaded by {@link JfrEventManager}, after it checked that the
+ * {@code jdk.jfr} module is available.
+ */
+final class JfrEvents {
+	private static final EventType SESSION_OPEN = EventType.getEventType( SessionOpenEvent.class );
+	private static final EventType SESSION_CLOSED = EventType.getEventType( SessionClosedEvent.class );
+	private static final EventType FLUSH = EventType.getEventType( FlushEvent.class );
+	private static final EventType DIRTY_CALCULATION = EventType.getEventType( DirtyCalculationEvent.class );
+	private static final EventType ENTITY_LOAD = EventType.getEventType( EntityLoadEvent.class );
+	private static final EventType QUERY_EXECUTION = EventType.getEventType( QueryExecutionEvent.class );
+	private static final EventType JDBC_CONNECTION_ACQUISITION = EventType.getEventType( JdbcConnectionAcquisitionEvent.class );
+	private static final EventType JDBC_CONNECTION_RELEASE = EventType.getEventType( JdbcConnectionReleaseEvent.class );
+	private static final EventType JDBC_PREPARED_STATEMENT_CREATION = EventType.getEventType( JdbcPreparedStatementCreationEvent.class );
+	private static final EventType JDBC_PREPARED_STATEMENT_EXECUTION = EventType.getEventType( JdbcPreparedStatementExecutionEvent.class );
+	private static final EventType JDBC_BATCH_EXECUTION = EventType.getEventType( JdbcBatchExecutionEvent.class );
+	private static final EventType CACHE_GET = EventType.getEventType( CacheGetEvent.class );
+	private static final EventType CACHE_PUT = EventType.getEventType( CachePutEvent.class );
+	private static final EventType SLOW_QUERY = EventType.getEventType( SlowQueryEvent.class );
+	private static final EventType BOOTSTRAP_PHASE = EventType.getEventType( BootstrapPhaseEvent.class );
+
+	private JfrEvents() {
+	}
+
+	private static Event begin(EventType eventType, Supplier<Event> constructor) {
+		if ( !eventType.isEnabled() ) {
+			return null;
+		}
+		final Event event = constructor.get();
+		event.begin();
+		return event;
+	}
+
+	static void commit(Object event) {
+		( (Event) event ).commit();
+	}
+
+	static void commitSessionOpenEvent(SharedSessionContractImplementor session) {
+		if ( SESSION_OPEN.isEnabled() ) {
+			final SessionOpenEvent event = new SessionOpenEvent();
+			event.sessionIdentifier = session.getSessionIdentifier().toString();
+			event.commit();
+		}
+	}
+
+	static Object beginSessionClosedEvent() {
+		return begin( SESSION_CLOSED, SessionClosedEvent::new );
+	}
+
+	static void commitSessionClosedEvent(Object handle, SharedSessionContractImplementor session) {
+		final SessionClosedEvent event = (SessionClosedEvent) handle;
+		event.sessionIdentifier = session.getSessionIdentifier().toString();
+		event.commit();
+	}
+
+	static Object beginFlushEvent() {
+		return begin( FLUSH, FlushEvent::new );
+	}
+
+	static void commitFlushEvent(
+			Object handle,
+			int numberOfEntitiesProcessed,
+			int numberOfCollectionsProcessed,
+			boolean partial) {
+		final FlushEvent event = (FlushEvent) handle;
+		event.numberOfEntitiesProcessed = numberOfEntitiesProcessed;
+		event.numberOfCollectionsProcessed = numberOfCollectionsProcessed;
+		event.partial = partial;
+		event.commit();
+	}
+
+	static Object beginDirtyCalculationEvent() {
+		return begin( DIRTY_CALCULATION, DirtyCalculationEvent::new );
+	}
+
+	static void commitDirtyCalculationEvent(Object handle, boolean dirty) {
+		final DirtyCalculationEvent event = (DirtyCalculationEvent) handle;
+		event.dirty = dirty;
+		event.commit();
+	}
+
+	static Object beginEntityLoadEvent() {
+		return begin( ENTITY_LOAD, EntityLoadEvent::new );
+	}
+
+	static void commitEntityLoadEvent(Object handle, String entityName, String loadType, boolean found) {
+		final EntityLoadEvent event = (EntityLoadEvent) handle;
+		event.entityName = entityName;
+		event.loadType = loadType;
+		event.found = found;
+		event.commit();
+	}
+
+	static Object beginQueryExecutionEvent() {
+		return begin( QUERY_EXECUTION, QueryExecutionEvent::new );
+	}
+
+	static void commitQueryExecutionEvent(
+			Object handle,
+			SharedSessionContractImplementor session,
+			String queryString,
+			String sql,
+			int resultCount) {
+		final QueryExecutionEvent event = (QueryExecutionEvent) handle;
+		event.sessionIdentifier = session.getSessionIdentifier().toString();
+		event.queryString = queryString;
+		event.sql = sql;
+		event.resultCount = resultCount;
+		event.commit();
+	}
+
+	static Object beginJdbcConnectionAcquisitionEvent() {
+		return begin( JDBC_CONNECTION_ACQUISITION, JdbcConnectionAcquisitionEvent::new );
+	}
+
+	static Object beginJdbcConnectionReleaseEvent() {
+		return begin( JDBC_CONNECTION_RELEASE, JdbcConnectionReleaseEvent::new );
+	}
+
+	static Object beginJdbcPreparedStatementCreationEvent() {
+		return begin( JDBC_PREPARED_STATEMENT_CREATION, JdbcPreparedStatementCreationEvent::new );
+	}
+
+	static Object beginJdbcPreparedStatementExecutionEvent() {
+		return begin( JDBC_PREPARED_STATEMENT_EXECUTION, JdbcPreparedStatementExecutionEvent::new );
+	}
+
+	static Object beginJdbcBatchExecutionEvent() {
+		return begin( JDBC_BATCH_EXECUTION, JdbcBatchExecutionEvent::new );
+	}
+
+	static Object beginCacheGetEvent() {
+		return begin( CACHE_GET, CacheGetEvent::new );
+	}
+
+	static void commitCacheGetEvent(Object handle, boolean hit) {
+		final CacheGetEvent event = (CacheGetEvent) handle;
+		event.hit = hit;
+		event.commit();
+	}
+
+	static Object beginCachePutEvent() {
+		return begin( CACHE_PUT, CachePutEvent::new );
+	}
+
+	static void commitSlowQueryEvent(SlowQuery slowQuery) {
+		if ( SLOW_QUERY.isEnabled() ) {
+			final SlowQueryEvent event = new SlowQueryEvent();
+			event.sql = slowQuery.getSql();
+			event.fingerprint = slowQuery.getFingerprint();
+			event.queryString = slowQuery.getQueryString();
+			event.sessionIdentifier = slowQuery.getSessionIdentifier() == null
+					? null
+					: slowQuery.getSessionIdentifier().toString();
+			event.executionTime = slowQuery.getExecutionTime();
+			event.rowCount = slowQuery.getRowCount();
+			event.bindValues = slowQuery.getBindValues() == null
+					? null
+					: slowQuery.getBindValues().toString();
+			event.commit();
+		}
+	}
+
+	static Object beginBootstrapPhaseEvent(BootstrapPhase phase, String detail) {
+		if ( !BOOTSTRAP_PHASE.isEnabled() ) {
+			return null;
+		}
+		final BootstrapPhaseEvent event = new BootstrapPhaseEvent();
+		event.phase = phase.name();
+		event.detail = detail;
+		event.begin();
+		return event;
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event recording the execution of an HQL or criteria query.
+ */
+@Name( "org.hibernate.orm.QueryExecution" )
+@Label( "Query Execution" )
+@Category( { "Hibernate ORM", "Query" } )
+@Description( "The execution of an HQL or criteria query" )
+final class QueryExecutionEvent extends Event {
+	@Label( "Session Identifier" )
+	String sessionIdentifier;
+
+	@Label( "Query" )
+	String queryString;
+
+	@Label( "SQL" )
+	String sql;
+
+	@Label( "Result Count" )
+	int resultCount;
+}
@@ -0,0 +1,25 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JDK Flight Recorder event recording the closing of a session.
+ */
+@Name( "org.hibernate.orm.SessionClosed" )
+@Label( "Session Closed" )
+@Category( { "Hibernate ORM", "Session" } )
+@Description( "The closing of a Session" )
+final class SessionClosedEvent extends Event {
+	@Label( "Session Identifier" )
+	String sessionIdentifier;
+}
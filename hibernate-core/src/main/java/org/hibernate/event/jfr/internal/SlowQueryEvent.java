@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.event.jfr.internal;
+
+import org.hibernate.stat.SlowQuery;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * The JDK Flight Recorder event recording a {@link SlowQuery}.
+ */
+@Name( "org.hibernate.orm.SlowQuery" )
+@Label( "Slow Query" )
+@Category( { "Hibernate ORM", "JDBC" } )
+@Description( "A SQL query which took longer than the slow query threshold" )
+final class SlowQueryEvent extends Event {
+	@Label( "SQL" )
+	String sql;
+
+	@Label( "Fingerprint" )
+	String fingerprint;
+
+	@Label( "Query" )
+	String queryString;
+
+	@Label( "Session Identifier" )
+	String sessionIdentifier;
+
+	@Label( "Execution Time" )
+	@Timespan( Timespan.MILLISECONDS )
+	long executionTime;
+
+	@Label( "Row Count" )
+	long rowCount;
+
+	@Label( "Bind Values" )
+	String bindValues;
+}
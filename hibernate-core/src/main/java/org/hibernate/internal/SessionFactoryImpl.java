@@ -38,10 +38,12 @@ import org.hibernate.StatelessSession;
 import org.hibernate.StatelessSessionBuilder;
 import org.hibernate.UnknownFilterException;
 import org.hibernate.boot.cfgxml.spi.CfgXmlAccessService;
+import org.hibernate.boot.internal.BootstrapPhaseTimer;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
 import org.hibernate.boot.model.relational.internal.SqlStringGenerationContextImpl;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.boot.spi.BootstrapPhase;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.cfg.internal.DomainDataRegionConfigImpl;
@@ -252,7 +254,16 @@ public class SessionFactoryImpl extends QueryParameterBindingTypeResolverImpl im
 			bootMetamodel.orderColumns( false );
 			bootMetamodel.validate();
 
-			primeSecondLevelCacheRegions( bootMetamodel );
+			final BootstrapPhaseTimer cacheRegionTimer = BootstrapPhaseTimer.start(
+					bootstrapContext.getBootstrapPhaseListeners(),
+					BootstrapPhase.CACHE_REGION_CREATION
+			);
+			try {
+				primeSecondLevelCacheRegions( bootMetamodel );
+			}
+			finally {
+				cacheRegionTimer.stop();
+			}
 
 			// we build this before creating the runtime metamodel
 			// because the persisters need the SqmFunctionRegistry
@@ -69,6 +69,7 @@ import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.engine.transaction.spi.TransactionImplementor;
 import org.hibernate.engine.transaction.spi.TransactionObserver;
+import org.hibernate.event.jfr.internal.JfrEventManager;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.AutoFlushEventListener;
 import org.hibernate.event.spi.ClearEvent;
@@ -252,6 +253,7 @@ public class SessionImpl
 		if ( statistics.isStatisticsEnabled() ) {
 			statistics.openSession();
 		}
+		JfrEventManager.commitSessionOpenEvent( this );
 
 		if ( properties != null ) {
 			//There might be custom properties for this session that affect the LockOptions state
@@ -413,6 +415,8 @@ public class SessionImpl
 			log.tracef( "Closing session [%s]", getSessionIdentifier() );
 		}
 
+		final Object sessionClosedEvent = JfrEventManager.beginSessionClosedEvent();
+
 		// todo : we want this check if usage is JPA, but not native Hibernate usage
 		final SessionFactoryImplementor sessionFactory = getSessionFactory();
 		if ( sessionFactory.getSessionFactoryOptions().isJpaBootstrap() ) {
@@ -435,6 +439,7 @@ public class SessionImpl
 		if ( statistics.isStatisticsEnabled() ) {
 			statistics.closeSession();
 		}
+		JfrEventManager.commitSessionClosedEvent( sessionClosedEvent, this );
 	}
 
 	private boolean isTransactionInProgressAndNotMarkedForRollback() {
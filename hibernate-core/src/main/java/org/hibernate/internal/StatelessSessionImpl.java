@@ -6,7 +6,12 @@
  */
 package org.hibernate.internal;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import jakarta.persistence.EntityGraph;
 import org.hibernate.CacheMode;
@@ -21,6 +26,8 @@ import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLaziness
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.jdbc.bulk.internal.EntityBulkInsertTarget;
+import org.hibernate.engine.jdbc.bulk.spi.BulkInsertStrategy;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.spi.EffectiveEntityGraph;
 import org.hibernate.engine.spi.EntityKey;
@@ -205,6 +212,115 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 
+
+	// multiple ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched( entities, getFactory().getSessionFactoryOptions().isOrderInsertsEnabled(), this::insert );
+	}
+
+	@Override
+	public void updateMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched( entities, getFactory().getSessionFactoryOptions().isOrderUpdatesEnabled(), this::update );
+	}
+
+	@Override
+	public void upsertMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched( entities, getFactory().getSessionFactoryOptions().isOrderUpdatesEnabled(), this::upsert );
+	}
+
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		checkOpen();
+		executeBatched( entities, getFactory().getSessionFactoryOptions().isOrderUpdatesEnabled(), this::delete );
+	}
+
+	/**
+	 * Apply the given operation to each of the given entities, collecting
+	 * the resulting statements into JDBC batches, and execute the pending
+	 * batch before returning.
+	 *
+	 * @param ordered whether the entities should be grouped by entity type,
+	 *                so that each type results in a single run of batches
+	 */
+	private void executeBatched(List<?> entities, boolean ordered, Consumer<Object> operation) {
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		setJdbcBatchSize( batchSizeForMultiple( entities.size() ) );
+		try {
+			for ( Object entity : ordered ? orderByEntityName( entities ) : entities ) {
+				operation.accept( entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+	/**
+	 * The JDBC batch size to use for an operation on multiple entities:
+	 * the configured batch size if batching is enabled, otherwise one
+	 * batch holding all the entities.
+	 */
+	private int batchSizeForMultiple(int numberOfEntities) {
+		final Integer configuredBatchSize = getConfiguredJdbcBatchSize();
+		return configuredBatchSize != null && configuredBatchSize > 1
+				? configuredBatchSize
+				: numberOfEntities;
+	}
+
+	/**
+	 * A stable ordering of the given entities by entity name, which keeps
+	 * the relative order of the entities of any one type.
+	 */
+	private List<?> orderByEntityName(List<?> entities) {
+		final Map<String, List<Object>> entitiesByName = groupByEntityName( entities );
+		if ( entitiesByName.size() < 2 ) {
+			return entities;
+		}
+		final List<Object> ordered = new ArrayList<>( entities.size() );
+		for ( List<Object> entitiesOfType : entitiesByName.values() ) {
+			ordered.addAll( entitiesOfType );
+		}
+		return ordered;
+	}
+
+	private Map<String, List<Object>> groupByEntityName(List<?> entities) {
+		final Map<String, List<Object>> entitiesByName = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			entitiesByName.computeIfAbsent( bestGuessEntityName( entity ), name -> new ArrayList<>() )
+					.add( entity );
+		}
+		return entitiesByName;
+	}
+
+	@Override
+	public void bulkInsert(List<?> entities) {
+		checkOpen();
+		final BulkInsertStrategy strategy = getJdbcServices().getDialect().getBulkInsertStrategy();
+		for ( Map.Entry<String, List<Object>> entry : groupByEntityName( entities ).entrySet() ) {
+			final List<Object> entitiesOfType = entry.getValue();
+			final EntityBulkInsertTarget target = strategy == null
+					? null
+					: EntityBulkInsertTarget.forEntity( getEntityPersister( entry.getKey() ) );
+			if ( target != null && strategy.canBulkInsert( target, this ) ) {
+				getJdbcCoordinator().executeBatch();
+				strategy.bulkInsert( target, target.rows( entitiesOfType, this ), this );
+			}
+			else {
+				executeBatched( entitiesOfType, false, this::insert );
+			}
+		}
+	}
+
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override @SuppressWarnings("unchecked")
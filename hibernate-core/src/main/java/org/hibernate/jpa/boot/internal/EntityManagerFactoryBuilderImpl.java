@@ -84,6 +84,7 @@ import org.hibernate.tool.schema.spi.DelayedDropRegistryNotAvailableImpl;
 import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
 
 import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
 
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.EntityManagerFactory;
@@ -163,6 +164,8 @@ public class EntityManagerFactoryBuilderImpl implements EntityManagerFactoryBuil
 
 	/**
 	 * Names a Jandex {@link Index} instance to use.
+	 *
+	 * @see org.hibernate.boot.MetadataBuilder#applyIndexView(IndexView)
 	 */
 	public static final String JANDEX_INDEX = "hibernate.jandex_index";
 
@@ -1350,6 +1353,11 @@ public class EntityManagerFactoryBuilderImpl implements EntityManagerFactoryBuil
 				)
 		);
 
+		final Object jandexIndex = configurationValues.get( JANDEX_INDEX );
+		if ( jandexIndex instanceof IndexView ) {
+			metamodelBuilder.applyIndexView( (IndexView) jandexIndex );
+		}
+
 		if ( mergedSettings.cacheRegionDefinitions != null ) {
 			mergedSettings.cacheRegionDefinitions.forEach( metamodelBuilder::applyCacheRegionDefinition );
 		}
@@ -9,12 +9,15 @@ package org.hibernate.metamodel.model.domain.internal;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -23,8 +26,11 @@ import org.hibernate.EntityNameResolver;
 import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.UnknownEntityTypeException;
+import org.hibernate.boot.internal.BootstrapPhaseTimer;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.registry.classloading.spi.ClassLoadingException;
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.boot.spi.BootstrapPhaseListener;
 import org.hibernate.boot.spi.MetadataImplementor;
 import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
@@ -80,7 +86,10 @@ import jakarta.persistence.metamodel.EmbeddableType;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.ManagedType;
 
+import static java.util.stream.Collectors.toList;
+import static org.hibernate.cfg.PersistenceSettings.PARALLEL_PERSISTER_CREATION;
 import static org.hibernate.internal.util.collections.ArrayHelper.EMPTY_STRING_ARRAY;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.metamodel.internal.JpaMetaModelPopulationSetting.determineJpaMetaModelPopulationSetting;
 import static org.hibernate.metamodel.internal.JpaStaticMetaModelPopulationSetting.determineJpaStaticMetaModelPopulationSetting;
 
@@ -178,43 +187,67 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		final PersisterFactory persisterFactory =
 				jpaMetamodel.getServiceRegistry().getService( PersisterFactory.class );
 		final CacheImplementor cache = context.getCache();
-		processBootEntities(
-				bootModel.getEntityBindings(),
-				cache,
-				persisterFactory,
-				context
-		);
-		processBootCollections(
-				bootModel.getCollectionBindings(),
-				cache,
-				persisterFactory,
-				context
+		final boolean parallelPersisterCreation =
+				getBoolean( PARALLEL_PERSISTER_CREATION, context.getSettings(), false );
+		final Collection<BootstrapPhaseListener> bootstrapPhaseListeners =
+				context.getBootstrapContext().getBootstrapPhaseListeners();
+		final BootstrapPhaseTimer persisterCreationTimer = BootstrapPhaseTimer.start(
+				bootstrapPhaseListeners,
+				BootstrapPhase.PERSISTER_CREATION
 		);
+		try {
+			processBootEntities(
+					bootModel.getEntityBindings(),
+					cache,
+					persisterFactory,
+					context,
+					parallelPersisterCreation
+			);
+			processBootCollections(
+					bootModel.getCollectionBindings(),
+					cache,
+					persisterFactory,
+					context,
+					parallelPersisterCreation
+			);
+		}
+		finally {
+			persisterCreationTimer.stop();
+		}
 
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// after *all* persisters and named queries are registered
 
-		MappingModelCreationProcess.process( entityPersisterMap, context );
+		final BootstrapPhaseTimer mappingModelCreationTimer = BootstrapPhaseTimer.start(
+				bootstrapPhaseListeners,
+				BootstrapPhase.MAPPING_MODEL_CREATION
+		);
+		try {
+			MappingModelCreationProcess.process( entityPersisterMap, context );
 
-		for ( EntityPersister persister : entityPersisterMap.values() ) {
-			persister.postInstantiate();
-			registerEntityNameResolvers( persister, entityNameResolvers );
-		}
+			for ( EntityPersister persister : entityPersisterMap.values() ) {
+				persister.postInstantiate();
+				registerEntityNameResolvers( persister, entityNameResolvers );
+			}
 
-		collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
+			collectionPersisterMap.values().forEach( CollectionPersister::postInstantiate );
 
-		registerEmbeddableMappingType( bootModel );
+			registerEmbeddableMappingType( bootModel );
 
-		final Map<String, Object> settings = context.getSettings();
-		( (JpaMetamodelImpl) jpaMetamodel ).processJpa(
-				bootModel,
-				this,
-				entityProxyInterfaceMap,
-				determineJpaStaticMetaModelPopulationSetting( settings ),
-				determineJpaMetaModelPopulationSetting( settings ),
-				bootModel.getNamedEntityGraphs().values(),
-				context
-		);
+			final Map<String, Object> settings = context.getSettings();
+			( (JpaMetamodelImpl) jpaMetamodel ).processJpa(
+					bootModel,
+					this,
+					entityProxyInterfaceMap,
+					determineJpaStaticMetaModelPopulationSetting( settings ),
+					determineJpaMetaModelPopulationSetting( settings ),
+					bootModel.getNamedEntityGraphs().values(),
+					context
+			);
+		}
+		finally {
+			mappingModelCreationTimer.stop();
+		}
 	}
 
 	private void registerEmbeddableMappingType(MetadataImplementor bootModel) {
@@ -233,19 +266,30 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 			java.util.Collection<PersistentClass> entityBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
-		for ( final PersistentClass model : entityBindings ) {
-			final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
-			final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
-			final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
-					.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
-
-			final EntityPersister cp = persisterFactory.createEntityPersister(
-					model,
-					accessStrategy,
-					naturalIdAccessStrategy,
-					modelCreationContext
-			);
+			RuntimeModelCreationContext modelCreationContext,
+			boolean parallel) {
+		final List<PersistentClass> models = new ArrayList<>( entityBindings );
+		final List<EntityPersister> persisters = createPersisters(
+				models,
+				model -> {
+					final NavigableRole rootEntityRole = new NavigableRole( model.getRootClass().getEntityName() );
+					final EntityDataAccess accessStrategy = cacheImplementor.getEntityRegionAccess( rootEntityRole );
+					final NaturalIdDataAccess naturalIdAccessStrategy = cacheImplementor
+							.getNaturalIdCacheRegionAccessStrategy( rootEntityRole );
+					return persisterFactory.createEntityPersister(
+							model,
+							accessStrategy,
+							naturalIdAccessStrategy,
+							modelCreationContext
+					);
+				},
+				parallel
+		);
+
+		// register the persisters in the order of the boot model, as if they had been created sequentially
+		for ( int i = 0; i < models.size(); i++ ) {
+			final PersistentClass model = models.get( i );
+			final EntityPersister cp = persisters.get( i );
 			entityPersisterMap.put( model.getEntityName(), cp );
 			// Also register the persister under the class name if available,
 			// otherwise the getEntityDescriptor(Class) won't work for entities with custom entity names
@@ -296,18 +340,29 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 			java.util.Collection<Collection> collectionBindings,
 			CacheImplementor cacheImplementor,
 			PersisterFactory persisterFactory,
-			RuntimeModelCreationContext modelCreationContext) {
-		for ( final Collection model : collectionBindings ) {
-			final NavigableRole navigableRole = new NavigableRole( model.getRole() );
-
-			final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
-					navigableRole );
+			RuntimeModelCreationContext modelCreationContext,
+			boolean parallel) {
+		final List<Collection> models = new ArrayList<>( collectionBindings );
+		final List<CollectionPersister> persisters = createPersisters(
+				models,
+				model -> {
+					final NavigableRole navigableRole = new NavigableRole( model.getRole() );
+
+					final CollectionDataAccess accessStrategy = cacheImplementor.getCollectionRegionAccess(
+							navigableRole );
+
+					return persisterFactory.createCollectionPersister(
+							model,
+							accessStrategy,
+							modelCreationContext
+					);
+				},
+				parallel
+		);
 
-			final CollectionPersister persister = persisterFactory.createCollectionPersister(
-					model,
-					accessStrategy,
-					modelCreationContext
-			);
+		for ( int i = 0; i < models.size(); i++ ) {
+			final Collection model = models.get( i );
+			final CollectionPersister persister = persisters.get( i );
 			collectionPersisterMap.put( model.getRole(), persister );
 			Type indexType = persister.getIndexType();
 			if ( indexType != null && indexType.isEntityType() && !indexType.isAnyType() ) {
@@ -334,6 +389,41 @@ public class MappingMetamodelImpl extends QueryParameterBindingTypeResolverImpl
 		}
 	}
 
+	/**
+	 * Creates a persister for each of the given boot models, in the same order, either one at a time
+	 * or concurrently using a dedicated pool of threads.
+	 */
+	private static <B, P> List<P> createPersisters(List<B> models, Function<B, P> persisterCreator, boolean parallel) {
+		if ( !parallel || models.size() < 2 ) {
+			final List<P> persisters = new ArrayList<>( models.size() );
+			for ( B model : models ) {
+				persisters.add( persisterCreator.apply( model ) );
+			}
+			return persisters;
+		}
+
+		// the persisters may load classes or generate proxies, so make the
+		// worker threads see the same context class loader as this thread
+		final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		final ForkJoinPool pool = new ForkJoinPool(
+				Runtime.getRuntime().availableProcessors(),
+				forkJoinPool -> {
+					final ForkJoinWorkerThread thread =
+							ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( forkJoinPool );
+					thread.setContextClassLoader( contextClassLoader );
+					return thread;
+				},
+				null,
+				false
+		);
+		try {
+			return pool.submit( () -> models.parallelStream().map( persisterCreator ).collect( toList() ) ).join();
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
 	private static void registerEntityNameResolvers(
 			EntityPersister persister,
 			Set<EntityNameResolver> entityNameResolvers) {
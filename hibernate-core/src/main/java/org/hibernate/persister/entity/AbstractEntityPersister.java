@@ -57,6 +57,7 @@ import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementHelper;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
+import org.hibernate.bytecode.internal.EnhancedStateAccessOptimizer;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -291,6 +292,7 @@ import org.hibernate.type.spi.TypeConfiguration;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static org.hibernate.cfg.PersistenceSettings.LAZY_PERSISTER_INITIALIZATION;
 import static org.hibernate.engine.internal.ManagedTypeHelper.asPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.isPersistentAttributeInterceptable;
 import static org.hibernate.engine.internal.ManagedTypeHelper.processIfPersistentAttributeInterceptable;
@@ -311,6 +313,7 @@ import static org.hibernate.internal.util.collections.ArrayHelper.toTypeArray;
 import static org.hibernate.internal.util.collections.CollectionHelper.isNotEmpty;
 import static org.hibernate.internal.util.collections.CollectionHelper.setOfSize;
 import static org.hibernate.internal.util.collections.CollectionHelper.toSmallList;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.loader.ast.internal.MultiKeyLoadHelper.supportsSqlArrayType;
 import static org.hibernate.metamodel.RepresentationMode.POJO;
 import static org.hibernate.persister.entity.DiscriminatorHelper.NOT_NULL_DISCRIMINATOR;
@@ -340,6 +343,7 @@ public abstract class AbstractEntityPersister
 
 	private SingleIdEntityLoader<?> singleIdLoader;
 	private MultiIdEntityLoader<?> multiIdLoader;
+	private volatile boolean idLoadersInitialized;
 	private NaturalIdLoader<?> naturalIdLoader;
 	private MultiNaturalIdLoader<?> multiNaturalIdLoader;
 
@@ -401,6 +405,7 @@ public abstract class AbstractEntityPersister
 	private UpdateCoordinator updateCoordinator;
 	private DeleteCoordinator deleteCoordinator;
 	private UpdateCoordinator mergeCoordinator;
+	private volatile boolean mutationCoordinatorsInitialized;
 
 	private SqmMultiTableMutationStrategy sqmMultiTableMutationStrategy;
 	private SqmMultiTableInsertStrategy sqmMultiTableInsertStrategy;
@@ -413,6 +418,7 @@ public abstract class AbstractEntityPersister
 	private final boolean invalidateCache;
 	private final boolean isLazyPropertiesCacheable;
 	private final boolean useReferenceCacheEntries;
+	private final boolean lazyInitialization;
 
 	// dynamic filters attached to the class-level
 	private final FilterHelper filterHelper;
@@ -788,6 +794,7 @@ public abstract class AbstractEntityPersister
 		) : null;
 
 		useReferenceCacheEntries = shouldUseReferenceCacheEntries( creationContext.getSessionFactoryOptions() );
+		lazyInitialization = getBoolean( LAZY_PERSISTER_INITIALIZATION, creationContext.getSettings(), false );
 		cacheEntryHelper = buildCacheEntryHelper( creationContext.getSessionFactoryOptions() );
 		invalidateCache = sessionFactoryOptions.isSecondLevelCacheEnabled()
 				&& canWriteToCache
@@ -1038,16 +1045,19 @@ public abstract class AbstractEntityPersister
 
 	@Internal
 	public InsertCoordinator getInsertCoordinator() {
+		ensureMutationCoordinatorsInitialized();
 		return insertCoordinator;
 	}
 
 	@Internal
 	public UpdateCoordinator getUpdateCoordinator() {
+		ensureMutationCoordinatorsInitialized();
 		return updateCoordinator;
 	}
 
 	@Internal
 	public DeleteCoordinator getDeleteCoordinator() {
+		ensureMutationCoordinatorsInitialized();
 		return deleteCoordinator;
 	}
 
@@ -1961,7 +1971,7 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public Object[] getDatabaseSnapshot(Object id, SharedSessionContractImplementor session) throws HibernateException {
-		return singleIdLoader.loadDatabaseSnapshot( id, session );
+		return getSingleIdLoader().loadDatabaseSnapshot( id, session );
 	}
 
 	@Override
@@ -2007,7 +2017,7 @@ public abstract class AbstractEntityPersister
 
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
 
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, session );
 
 //		// todo : cache this sql...
 //		String versionIncrementString = generateVersionIncrementUpdateString();
@@ -2055,7 +2065,7 @@ public abstract class AbstractEntityPersister
 
 		final Object nextVersion = calculateNextVersion( id, currentVersion, session );
 
-		updateCoordinator.forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
+		getUpdateCoordinator().forceVersionIncrement( id, currentVersion, nextVersion, batching, session );
 		return nextVersion;
 	}
 
@@ -2794,7 +2804,7 @@ public abstract class AbstractEntityPersister
 			final Object object,
 			final Object rowId,
 			final SharedSessionContractImplementor session) throws HibernateException {
-		updateCoordinator.coordinateUpdate(
+		getUpdateCoordinator().coordinateUpdate(
 				object,
 				id,
 				rowId,
@@ -2821,7 +2831,7 @@ public abstract class AbstractEntityPersister
 			final Object object,
 			final Object rowId,
 			final SharedSessionContractImplementor session) throws HibernateException {
-		mergeCoordinator.coordinateUpdate(
+		getMergeCoordinator().coordinateUpdate(
 				object,
 				id,
 				rowId,
@@ -2852,12 +2862,12 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public Object insert(Object[] fields, Object object, SharedSessionContractImplementor session) {
-		return insertCoordinator.coordinateInsert( null, fields, object, session );
+		return getInsertCoordinator().coordinateInsert( null, fields, object, session );
 	}
 
 	@Override
 	public void insert(Object id, Object[] fields, Object object, SharedSessionContractImplementor session) {
-		insertCoordinator.coordinateInsert( id, fields, object, session );
+		getInsertCoordinator().coordinateInsert( id, fields, object, session );
 	}
 
 	protected EntityTableMapping[] getTableMappings() {
@@ -2963,7 +2973,7 @@ public abstract class AbstractEntityPersister
 	 */
 	@Override
 	public void delete(Object id, Object version, Object object, SharedSessionContractImplementor session) {
-		deleteCoordinator.coordinateDelete( object, id, version, session );
+		getDeleteCoordinator().coordinateDelete( object, id, version, session );
 	}
 
 	/**
@@ -3368,10 +3378,9 @@ public abstract class AbstractEntityPersister
 		}
 
 		tableMappings = buildTableMappings();
-		insertCoordinator = buildInsertCoordinator();
-		updateCoordinator = buildUpdateCoordinator();
-		deleteCoordinator = buildDeleteCoordinator();
-		mergeCoordinator = buildMergeCoordinator();
+		if ( !lazyInitialization ) {
+			initializeMutationCoordinators();
+		}
 
 		final int joinSpan = getTableSpan();
 
@@ -3386,7 +3395,37 @@ public abstract class AbstractEntityPersister
 		lazyLoadPlanByFetchGroup = getLazyLoadPlanByFetchGroup();
 		sqlVersionSelectString = generateSelectVersionString();
 
-		logStaticSQL();
+		if ( !lazyInitialization ) {
+			logStaticSQL();
+		}
+	}
+
+	private void initializeMutationCoordinators() {
+		insertCoordinator = buildInsertCoordinator();
+		updateCoordinator = buildUpdateCoordinator();
+		deleteCoordinator = buildDeleteCoordinator();
+		mergeCoordinator = buildMergeCoordinator();
+		mutationCoordinatorsInitialized = true;
+	}
+
+	/**
+	 * With {@value org.hibernate.cfg.PersistenceSettings#LAZY_PERSISTER_INITIALIZATION}
+	 * enabled, the mutation coordinators are built on first use.
+	 */
+	private void ensureMutationCoordinatorsInitialized() {
+		if ( !mutationCoordinatorsInitialized ) {
+			synchronized ( this ) {
+				if ( !mutationCoordinatorsInitialized ) {
+					initializeMutationCoordinators();
+					logStaticSQL();
+				}
+			}
+		}
+	}
+
+	private UpdateCoordinator getMergeCoordinator() {
+		ensureMutationCoordinatorsInitialized();
+		return mergeCoordinator;
 	}
 
 	private EntityTableMapping findTableMapping(String tableName) {
@@ -3627,9 +3666,30 @@ public abstract class AbstractEntityPersister
 	@Override
 	public final void postInstantiate() throws MappingException {
 		doLateInit();
+		if ( !lazyInitialization ) {
+			initializeIdLoaders();
+		}
+	}
+
+	private void initializeIdLoaders() {
 		// Hibernate Reactive needs to override the loaders
 		singleIdLoader = buildSingleIdEntityLoader();
 		multiIdLoader = buildMultiIdLoader();
+		idLoadersInitialized = true;
+	}
+
+	/**
+	 * With {@value org.hibernate.cfg.PersistenceSettings#LAZY_PERSISTER_INITIALIZATION}
+	 * enabled, the loaders by id are built on first use.
+	 */
+	private void ensureIdLoadersInitialized() {
+		if ( !idLoadersInitialized ) {
+			synchronized ( this ) {
+				if ( !idLoadersInitialized ) {
+					initializeIdLoaders();
+				}
+			}
+		}
 	}
 
 	/**
@@ -3687,6 +3747,7 @@ public abstract class AbstractEntityPersister
 	}
 
 	public SingleIdEntityLoader<?> getSingleIdLoader() {
+		ensureIdLoadersInitialized();
 		return singleIdLoader;
 	}
 
@@ -3741,6 +3802,7 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public List<?> multiLoad(Object[] ids, EventSource session, MultiIdLoadOptions loadOptions) {
+		ensureIdLoadersInitialized();
 		return multiIdLoader.load( ids, loadOptions, session );
 	}
 
@@ -4369,6 +4431,21 @@ public abstract class AbstractEntityPersister
 		return proxyJavaType != null ? proxyJavaType.getJavaTypeClass() : javaType.getJavaTypeClass();
 	}
 
+	private ReflectionOptimizer.AccessOptimizer resolveAccessOptimizer() {
+		// prefer the state accessors generated by bytecode enhancement, if any
+		final PropertyAccess[] propertyAccesses = new PropertyAccess[attributeMappings.size()];
+		for ( int i = 0; i < propertyAccesses.length; i++ ) {
+			propertyAccesses[i] = attributeMappings.get( i ).getPropertyAccess();
+		}
+		final ReflectionOptimizer.AccessOptimizer enhancedStateAccessOptimizer =
+				EnhancedStateAccessOptimizer.from( getMappedClass(), getPropertyNames(), propertyAccesses );
+		if ( enhancedStateAccessOptimizer != null ) {
+			return enhancedStateAccessOptimizer;
+		}
+		final ReflectionOptimizer reflectionOptimizer = representationStrategy.getReflectionOptimizer();
+		return reflectionOptimizer != null ? reflectionOptimizer.getAccessOptimizer() : null;
+	}
+
 	@Override
 	public void setPropertyValues(Object object, Object[] values) {
 		if ( accessOptimizer != null ) {
@@ -4405,7 +4482,7 @@ public abstract class AbstractEntityPersister
 
 	@Override
 	public Object[] getPropertyValues(Object object) {
-		if ( accessOptimizer != null ) {
+		if ( accessOptimizer != null && shouldGetAllProperties( object ) ) {
 			return accessOptimizer.getPropertyValues( object );
 		}
 		else {
@@ -4931,8 +5008,7 @@ public abstract class AbstractEntityPersister
 
 		postProcessAttributeMappings( creationProcess, bootEntityDescriptor );
 
-		final ReflectionOptimizer reflectionOptimizer = representationStrategy.getReflectionOptimizer();
-		accessOptimizer = reflectionOptimizer != null ? reflectionOptimizer.getAccessOptimizer() : null;
+		accessOptimizer = resolveAccessOptimizer();
 
 		// register a callback for after all `#prepareMappingModel` calls have finished.  here we want to delay the
 		// generation of `staticFetchableList` because we need to wait until after all subclasses have had their
@@ -6220,7 +6296,7 @@ public abstract class AbstractEntityPersister
 	@Deprecated(forRemoval = true)
 	@Remove
 	public String[] getSQLDeleteStrings() {
-		return extractSqlStrings( deleteCoordinator.getStaticDeleteGroup() );
+		return extractSqlStrings( getDeleteCoordinator().getStaticDeleteGroup() );
 	}
 
 	private String[] extractSqlStrings(MutationOperationGroup operationGroup) {
@@ -6242,7 +6318,7 @@ public abstract class AbstractEntityPersister
 	@Deprecated(forRemoval = true)
 	@Remove
 	public String[] getSQLUpdateStrings() {
-		return extractSqlStrings( updateCoordinator.getStaticUpdateGroup() );
+		return extractSqlStrings( getUpdateCoordinator().getStaticUpdateGroup() );
 	}
 
 	/**
@@ -6,6 +6,8 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.sql.model.MutationOperation;
@@ -18,9 +20,20 @@ import org.hibernate.sql.model.ast.builder.TableMergeBuilder;
  * @author Gavin King
  */
 public class MergeCoordinator extends UpdateCoordinatorStandard {
+	private final BatchKey batchKey;
 
 	public MergeCoordinator(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super(entityPersister, factory);
+		// the merge statements must not share the batch of the plain updates,
+		// since the batch keeps hold of the statements of whoever started it
+		this.batchKey = entityPersister.hasUpdateGeneratedProperties()
+				? null
+				: new BasicBatchKey( entityPersister.getEntityName() + "#MERGE", null );
+	}
+
+	@Override
+	protected BatchKey getBatchKey() {
+		return batchKey;
 	}
 
 	@Override
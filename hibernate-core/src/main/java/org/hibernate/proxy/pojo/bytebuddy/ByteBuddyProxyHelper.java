@@ -58,10 +58,42 @@ public class ByteBuddyProxyHelper implements Serializable {
 		}
 		Collections.addAll( key, interfaces );
 
-		return byteBuddyState.loadProxy( persistentClass, new TypeCache.SimpleKey( key ),
+		// only a proxy which subclasses the persistent class, and implements
+		// nothing but HibernateProxy, may have been generated at build time
+		final String pregeneratedClassName = interfaces.length == 1
+				? getPregeneratedProxyClassName( persistentClass.getName() )
+				: null;
+		return byteBuddyState.loadProxy( persistentClass, new TypeCache.SimpleKey( key ), pregeneratedClassName,
 				proxyBuilder( TypeDescription.ForLoadedType.of( persistentClass ), new TypeList.Generic.ForLoadedTypes( interfaces ) ) );
 	}
 
+	/**
+	 * The name of the proxy class of the given persistent class, when the proxy is generated at build time.
+	 *
+	 * @param persistentClassName The name of the persistent class.
+	 * @return The name of the proxy class.
+	 */
+	public static String getPregeneratedProxyClassName(String persistentClassName) {
+		return persistentClassName + "$" + PROXY_NAMING_SUFFIX;
+	}
+
+	/**
+	 * Build the proxy of a persistent class at build time.  At runtime, {@link #buildProxy(Class, Class[])}
+	 * uses this proxy class instead of generating a new one, if the persistent class has no proxy interface.
+	 *
+	 * @param typePool The type pool used to describe the persistent class.
+	 * @param persistentClass The persistent class.
+	 * @return The proxy class, named after {@link #getPregeneratedProxyClassName(String)}.
+	 */
+	public DynamicType.Unloaded<?> buildPregeneratedProxy(TypePool typePool, TypeDefinition persistentClass) {
+		final String proxyClassName = getPregeneratedProxyClassName( persistentClass.getTypeName() );
+		return byteBuddyState.makePregenerated(
+				typePool,
+				proxyClassName,
+				proxyBuilder( persistentClass, Collections.singletonList( TypeDescription.ForLoadedType.of( HibernateProxy.class ) ) )
+		);
+	}
+
 	/**
 	 * @deprecated Use {@link #buildUnloadedProxy(TypePool, TypeDefinition, Collection)} instead.
 	 */
@@ -238,12 +238,18 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 		Map<String,HibernateException> errors = new HashMap<>();
 
 		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		final NamedQueryValidationManifest validationManifest =
+				NamedQueryValidationManifest.load( queryEngine.getTypeConfiguration().getSessionFactory() );
 
 		// Check named HQL queries
 		log.debugf( "Checking %s named HQL queries", sqmMementoMap.size() );
 		for ( NamedSqmQueryMemento hqlMemento : sqmMementoMap.values() ) {
 			final String queryString = hqlMemento.getHqlString();
 			final String registrationName = hqlMemento.getRegistrationName();
+			if ( validationManifest != null && validationManifest.isValidated( queryString ) ) {
+				log.debugf( "Skipping named HQL query checked by a previous startup: %s", registrationName );
+				continue;
+			}
 			try {
 				log.debugf( "Checking named HQL query: %s", registrationName );
 				interpretationCache.resolveHqlInterpretation(
@@ -251,6 +257,9 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 						null,
 						s -> queryEngine.getHqlTranslator().translate( queryString, null )
 				);
+				if ( validationManifest != null ) {
+					validationManifest.markValidated( queryString );
+				}
 			}
 			catch ( QueryException e ) {
 				errors.put( registrationName, e );
@@ -298,6 +307,10 @@ public class NamedObjectRepositoryImpl implements NamedObjectRepository {
 //			}
 		}
 
+		if ( validationManifest != null ) {
+			validationManifest.store();
+		}
+
 		return errors;
 	}
 
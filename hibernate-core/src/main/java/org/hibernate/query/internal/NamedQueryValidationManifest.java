@@ -0,0 +1,213 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.hibernate.HibernateException;
+import org.hibernate.Version;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.jpa.spi.JpaCompliance;
+
+import org.jboss.logging.Logger;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.MapAttribute;
+import jakarta.persistence.metamodel.PluralAttribute;
+
+import static org.hibernate.cfg.QuerySettings.QUERY_STARTUP_CHECK_MANIFEST;
+
+/**
+ * The file named by {@value org.hibernate.cfg.QuerySettings#QUERY_STARTUP_CHECK_MANIFEST},
+ * listing the hashes of the named HQL queries which passed the startup check, so that
+ * the next startup only checks the queries which changed since.
+ * <p>
+ * Every hash covers the query string along with a fingerprint of everything the check
+ * depends on: the Hibernate version, the {@code Dialect}, the settings which affect the
+ * interpretation of HQL, the entity names, the attributes of the managed types, including
+ * the element and key types of collections, and the names of the registered functions.
+ * Any change to the domain model thus invalidates the whole manifest.
+ */
+final class NamedQueryValidationManifest {
+	private static final Logger log = Logger.getLogger( NamedQueryValidationManifest.class );
+
+	private static final String HEADER = "# Hibernate named HQL query validation manifest";
+
+	private final Path file;
+	private final String modelFingerprint;
+	private final Set<String> storedHashes;
+	private final Set<String> validatedHashes = new TreeSet<>();
+
+	private NamedQueryValidationManifest(Path file, String modelFingerprint, Set<String> storedHashes) {
+		this.file = file;
+		this.modelFingerprint = modelFingerprint;
+		this.storedHashes = storedHashes;
+	}
+
+	/**
+	 * Read the manifest configured for the given {@code SessionFactory}.
+	 *
+	 * @return The manifest, or {@code null} if none is configured
+	 */
+	static NamedQueryValidationManifest load(SessionFactoryImplementor sessionFactory) {
+		final String fileName = ConfigurationHelper.getString( QUERY_STARTUP_CHECK_MANIFEST, sessionFactory.getProperties() );
+		if ( fileName == null || fileName.isEmpty() ) {
+			return null;
+		}
+
+		final Path file = Paths.get( fileName );
+		final String modelFingerprint = modelFingerprint( sessionFactory );
+		final Set<String> storedHashes = new HashSet<>();
+		if ( Files.isRegularFile( file ) ) {
+			try {
+				final List<String> lines = Files.readAllLines( file, StandardCharsets.UTF_8 );
+				for ( String line : lines ) {
+					if ( !line.isEmpty() && !line.startsWith( "#" ) ) {
+						storedHashes.add( line );
+					}
+				}
+			}
+			catch (IOException e) {
+				log.debugf( e, "Unable to read named query validation manifest [%s]", file );
+			}
+		}
+		return new NamedQueryValidationManifest( file, modelFingerprint, storedHashes );
+	}
+
+	/**
+	 * Whether the given HQL query passed the check during a previous startup,
+	 * against the same domain model, in which case it is kept in the manifest.
+	 */
+	boolean isValidated(String hql) {
+		final String hash = hash( hql );
+		if ( storedHashes.contains( hash ) ) {
+			validatedHashes.add( hash );
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Record that the given HQL query passed the check.
+	 */
+	void markValidated(String hql) {
+		validatedHashes.add( hash( hql ) );
+	}
+
+	/**
+	 * Write the manifest, if the set of validated queries changed.  Queries which
+	 * are no longer declared, or which failed the check, are dropped.
+	 */
+	void store() {
+		if ( validatedHashes.equals( storedHashes ) ) {
+			return;
+		}
+
+		final List<String> lines = new ArrayList<>( validatedHashes.size() + 1 );
+		lines.add( HEADER );
+		lines.addAll( validatedHashes );
+		try {
+			final Path directory = file.toAbsolutePath().getParent();
+			if ( directory != null ) {
+				Files.createDirectories( directory );
+			}
+			Files.write( file, lines, StandardCharsets.UTF_8 );
+		}
+		catch (IOException e) {
+			log.warnf( "Unable to write named query validation manifest [%s] : %s", file, e.getMessage() );
+		}
+	}
+
+	private String hash(String hql) {
+		return toHex( digest( modelFingerprint + '\n' + hql ) );
+	}
+
+	private static String modelFingerprint(SessionFactoryImplementor sessionFactory) {
+		final Set<String> model = new TreeSet<>();
+		for ( EntityType<?> entityType : sessionFactory.getJpaMetamodel().getEntities() ) {
+			model.add( "entity " + entityType.getName() + " " + entityType.getJavaType().getName() );
+		}
+		for ( ManagedType<?> managedType : sessionFactory.getJpaMetamodel().getManagedTypes() ) {
+			for ( Attribute<?, ?> attribute : managedType.getAttributes() ) {
+				model.add( "attribute " + managedType.getJavaType().getName()
+						+ "." + attribute.getName() + " " + attributeType( attribute ) );
+			}
+		}
+		sessionFactory.getQueryEngine().getSqmFunctionRegistry().getFunctionsByName()
+				.map( Map.Entry::getKey )
+				.forEach( functionName -> model.add( "function " + functionName ) );
+
+		// the settings which change how HQL is interpreted
+		final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+		final JpaCompliance jpaCompliance = options.getJpaCompliance();
+		final StringBuilder fingerprint = new StringBuilder()
+				.append( Version.getVersionString() ).append( '\n' )
+				.append( sessionFactory.getJdbcServices().getDialect().getClass().getName() ).append( '\n' )
+				.append( "query-compliance " ).append( jpaCompliance.isJpaQueryComplianceEnabled() ).append( '\n' )
+				.append( "orderby-mapping-compliance " ).append( jpaCompliance.isJpaOrderByMappingComplianceEnabled() ).append( '\n' )
+				.append( "hql-translator " ).append( className( options.getCustomHqlTranslator() ) ).append( '\n' )
+				.append( "sqm-translator " ).append( className( options.getCustomSqmTranslatorFactory() ) ).append( '\n' );
+		for ( String element : model ) {
+			fingerprint.append( element ).append( '\n' );
+		}
+		return toHex( digest( fingerprint.toString() ) );
+	}
+
+	private static String attributeType(Attribute<?, ?> attribute) {
+		final String javaType = attribute.getJavaType().getName();
+		if ( attribute instanceof MapAttribute ) {
+			final MapAttribute<?, ?, ?> mapAttribute = (MapAttribute<?, ?, ?>) attribute;
+			return javaType + "<" + mapAttribute.getKeyJavaType().getName()
+					+ "," + mapAttribute.getElementType().getJavaType().getName() + ">";
+		}
+		else if ( attribute instanceof PluralAttribute ) {
+			final PluralAttribute<?, ?, ?> pluralAttribute = (PluralAttribute<?, ?, ?>) attribute;
+			return javaType + "<" + pluralAttribute.getElementType().getJavaType().getName() + ">";
+		}
+		else {
+			return javaType;
+		}
+	}
+
+	private static String className(Object object) {
+		return object == null ? "default" : object.getClass().getName();
+	}
+
+	private static byte[] digest(String value) {
+		try {
+			return MessageDigest.getInstance( "SHA-256" ).digest( value.getBytes( StandardCharsets.UTF_8 ) );
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new HibernateException( "Unable to hash named query", e );
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		final StringBuilder hex = new StringBuilder( bytes.length * 2 );
+		for ( byte b : bytes ) {
+			hex.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) )
+					.append( Character.forDigit( b & 0xF, 16 ) );
+		}
+		return hex.toString();
+	}
+}
@@ -40,6 +40,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
 import static java.util.Comparator.comparingInt;
@@ -112,6 +114,8 @@ public class QueryEngineImpl implements QueryEngine {
 	private final HqlTranslator hqlTranslator;
 	private final SqmTranslatorFactory sqmTranslatorFactory;
 	private final SqmFunctionRegistry sqmFunctionRegistry;
+	private final QueryPlanCacheProfile planCacheProfile;
+	private volatile CompletableFuture<Void> interpretationCacheWarmUp = CompletableFuture.completedFuture( null );
 
 	private QueryEngineImpl(
 			SessionFactoryImplementor sessionFactory,
@@ -129,6 +133,7 @@ public class QueryEngineImpl implements QueryEngine {
 		this.namedObjectRepository = namedObjectRepository;
 		this.interpretationCache = interpretationCache;
 		this.nativeQueryInterpreter = nativeQueryInterpreter;
+		this.planCacheProfile = QueryPlanCacheProfile.from( sessionFactory );
 		final SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
 		this.criteriaBuilder = new SqmCriteriaNodeBuilder(
 				sessionFactory.getUuid(),
@@ -255,6 +260,18 @@ public class QueryEngineImpl implements QueryEngine {
 		return sqmFunctionRegistry;
 	}
 
+	@Override
+	public void warmUpInterpretationCache() {
+		if ( planCacheProfile != null ) {
+			interpretationCacheWarmUp = planCacheProfile.warmUp( this );
+		}
+	}
+
+	@Override
+	public CompletionStage<Void> getInterpretationCacheWarmUp() {
+		return interpretationCacheWarmUp;
+	}
+
 	@Override
 	public void close() {
 		if ( namedObjectRepository != null ) {
@@ -262,6 +279,9 @@ public class QueryEngineImpl implements QueryEngine {
 		}
 
 		if ( interpretationCache != null ) {
+			if ( planCacheProfile != null ) {
+				planCacheProfile.record( interpretationCache );
+			}
 			interpretationCache.close();
 		}
 
@@ -7,6 +7,7 @@
 package org.hibernate.query.internal;
 
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -204,6 +205,19 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 		return true;
 	}
 
+	@Override
+	public void visitHqlInterpretations(BiConsumer<String, Class<?>> action) {
+		for ( Object cacheKey : hqlInterpretationCache.keySet() ) {
+			if ( cacheKey instanceof HqlInterpretationCacheKey ) {
+				final HqlInterpretationCacheKey key = (HqlInterpretationCacheKey) cacheKey;
+				action.accept( key.queryString, key.expectedResultType );
+			}
+			else {
+				action.accept( (String) cacheKey, null );
+			}
+		}
+	}
+
 	@Override
 	public void close() {
 		// todo (6.0) : clear maps/caches and LOG
@@ -0,0 +1,183 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.query.internal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.query.spi.QueryEngine;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.jboss.logging.Logger;
+
+import static org.hibernate.cfg.QuerySettings.QUERY_PLAN_CACHE_PROFILE;
+
+/**
+ * The file named by {@value org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_PROFILE},
+ * recording the HQL queries held by the interpretation cache when the
+ * {@code SessionFactory} was closed, so that the next one compiles them ahead
+ * of their first execution.
+ * <p>
+ * Each line holds the name of the expected result type, which is empty when
+ * there is none, followed by a tab and the escaped query string.
+ */
+final class QueryPlanCacheProfile {
+	private static final Logger log = Logger.getLogger( QueryPlanCacheProfile.class );
+
+	private final Path file;
+	private final ClassLoaderService classLoaderService;
+	private volatile boolean stopped;
+
+	private QueryPlanCacheProfile(Path file, ClassLoaderService classLoaderService) {
+		this.file = file;
+		this.classLoaderService = classLoaderService;
+	}
+
+	/**
+	 * The profile configured for the given {@code SessionFactory}.
+	 *
+	 * @return The profile, or {@code null} if none is configured
+	 */
+	static QueryPlanCacheProfile from(SessionFactoryImplementor sessionFactory) {
+		final String fileName = ConfigurationHelper.getString( QUERY_PLAN_CACHE_PROFILE, sessionFactory.getProperties() );
+		if ( fileName == null || fileName.isEmpty() ) {
+			return null;
+		}
+		return new QueryPlanCacheProfile(
+				Paths.get( fileName ),
+				sessionFactory.getServiceRegistry().getService( ClassLoaderService.class )
+		);
+	}
+
+	/**
+	 * Compile the recorded queries on a background thread, stopping early if
+	 * the profile is {@linkplain #record recorded} in the meantime.
+	 */
+	CompletableFuture<Void> warmUp(QueryEngine queryEngine) {
+		if ( !Files.isRegularFile( file ) ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		return CompletableFuture.runAsync(
+				() -> compile( queryEngine ),
+				task -> {
+					final Thread thread = new Thread( task, "Hibernate query plan cache warm-up" );
+					thread.setDaemon( true );
+					thread.start();
+				}
+		);
+	}
+
+	private void compile(QueryEngine queryEngine) {
+		final List<String> lines;
+		try {
+			lines = Files.readAllLines( file, StandardCharsets.UTF_8 );
+		}
+		catch (IOException e) {
+			log.debugf( e, "Unable to read query plan cache profile [%s]", file );
+			return;
+		}
+
+		final QueryInterpretationCache interpretationCache = queryEngine.getInterpretationCache();
+		int compiled = 0;
+		for ( String line : lines ) {
+			if ( stopped ) {
+				break;
+			}
+			final int separator = line.indexOf( '\t' );
+			if ( separator < 0 ) {
+				continue;
+			}
+			final String queryString = unescape( line.substring( separator + 1 ) );
+			try {
+				final Class<?> resultType = separator == 0
+						? null
+						: classLoaderService.classForName( line.substring( 0, separator ) );
+				interpretationCache.resolveHqlInterpretation( queryString, resultType, queryEngine.getHqlTranslator() );
+				compiled++;
+			}
+			catch (RuntimeException e) {
+				// the domain model changed since the profile was recorded
+				log.debugf( "Unable to compile recorded query `%s` : %s", queryString, e.getMessage() );
+			}
+		}
+		log.debugf( "Compiled %s queries recorded in query plan cache profile [%s]", compiled, file );
+	}
+
+	/**
+	 * Write the queries currently held by the given cache, replacing the
+	 * previously recorded ones.
+	 */
+	void record(QueryInterpretationCache interpretationCache) {
+		stopped = true;
+
+		final List<String> lines = new ArrayList<>();
+		interpretationCache.visitHqlInterpretations(
+				(queryString, resultType) -> lines.add(
+						( resultType == null ? "" : resultType.getName() ) + '\t' + escape( queryString )
+				)
+		);
+		if ( lines.isEmpty() ) {
+			return;
+		}
+
+		try {
+			final Path directory = file.toAbsolutePath().getParent();
+			if ( directory != null ) {
+				Files.createDirectories( directory );
+			}
+			Files.write( file, lines, StandardCharsets.UTF_8 );
+		}
+		catch (IOException e) {
+			log.warnf( "Unable to write query plan cache profile [%s] : %s", file, e.getMessage() );
+		}
+	}
+
+	private static String escape(String queryString) {
+		final StringBuilder escaped = new StringBuilder( queryString.length() );
+		for ( int i = 0; i < queryString.length(); i++ ) {
+			final char c = queryString.charAt( i );
+			switch ( c ) {
+				case '\\':
+					escaped.append( "\\\\" );
+					break;
+				case '\n':
+					escaped.append( "\\n" );
+					break;
+				case '\r':
+					escaped.append( "\\r" );
+					break;
+				default:
+					escaped.append( c );
+			}
+		}
+		return escaped.toString();
+	}
+
+	private static String unescape(String escaped) {
+		final StringBuilder queryString = new StringBuilder( escaped.length() );
+		for ( int i = 0; i < escaped.length(); i++ ) {
+			final char c = escaped.charAt( i );
+			if ( c == '\\' && i + 1 < escaped.length() ) {
+				final char next = escaped.charAt( ++i );
+				queryString.append( next == 'n' ? '\n' : next == 'r' ? '\r' : next );
+			}
+			else {
+				queryString.append( c );
+			}
+		}
+		return queryString.toString();
+	}
+}
@@ -41,6 +41,7 @@ import org.hibernate.NonUniqueResultException;
 import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.UnknownProfileException;
+import org.hibernate.engine.spi.NPlusOneSelectDetector;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.graph.GraphSemantic;
@@ -460,6 +461,12 @@ public abstract class AbstractSelectionQuery<R>
 		session.prepareForQueryExecution( requiresTxn( options.getLockOptions().findGreatestLockMode() ) );
 		prepareForExecution();
 
+		final NPlusOneSelectDetector nPlusOneSelectDetector =
+				session.getPersistenceContextInternal().getNPlusOneSelectDetector();
+		if ( nPlusOneSelectDetector != null ) {
+			nPlusOneSelectDetector.queryExecuted( getQueryString() );
+		}
+
 		assert sessionFlushMode == null;
 		assert sessionCacheMode == null;
 
@@ -6,6 +6,9 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
 import org.hibernate.Incubating;
 import org.hibernate.engine.query.spi.NativeQueryInterpreter;
 import org.hibernate.query.hql.HqlTranslator;
@@ -49,5 +52,26 @@ public interface QueryEngine {
 	HqlTranslator getHqlTranslator();
 
 	SqmTranslatorFactory getSqmTranslatorFactory();
+
+	/**
+	 * Start compiling, in the background, the HQL queries recorded in the
+	 * {@value org.hibernate.cfg.QuerySettings#QUERY_PLAN_CACHE_PROFILE}
+	 * when a previous {@code SessionFactory} was closed.
+	 *
+	 * @since 6.4
+	 */
+	default void warmUpInterpretationCache() {
+	}
+
+	/**
+	 * The completion of the {@linkplain #warmUpInterpretationCache() warm-up}
+	 * of the {@linkplain #getInterpretationCache() interpretation cache}, which
+	 * is already complete when there is nothing to compile.
+	 *
+	 * @since 6.4
+	 */
+	default CompletionStage<Void> getInterpretationCacheWarmUp() {
+		return CompletableFuture.completedFuture( null );
+	}
 }
 
@@ -6,6 +6,7 @@
  */
 package org.hibernate.query.spi;
 
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -53,6 +54,15 @@ public interface QueryInterpretationCache {
 
 	boolean isEnabled();
 
+	/**
+	 * Visit the query string and the expected result type, which may be {@code null},
+	 * of each cached {@linkplain HqlInterpretation HQL interpretation}.
+	 *
+	 * @since 6.4
+	 */
+	default void visitHqlInterpretations(BiConsumer<String, Class<?>> action) {
+	}
+
 	/**
 	 * Close the cache when the SessionFactory is closed.
 	 * <p>
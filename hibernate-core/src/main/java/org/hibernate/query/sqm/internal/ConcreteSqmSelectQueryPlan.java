@@ -19,6 +19,7 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
+import org.hibernate.event.jfr.internal.JfrEventManager;
 import org.hibernate.internal.EmptyScrollableResults;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.metamodel.mapping.MappingModelExpressible;
@@ -106,13 +107,27 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 
 				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
 
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						uniqueSemantic
-				);
+				final Object queryExecutionEvent = JfrEventManager.beginQueryExecutionEvent();
+				List<R> results = null;
+				try {
+					results = session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+							jdbcSelect,
+							jdbcParameterBindings,
+							listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+							rowTransformer,
+							uniqueSemantic
+					);
+					return results;
+				}
+				finally {
+					JfrEventManager.commitQueryExecutionEvent(
+							queryExecutionEvent,
+							session,
+							hql,
+							jdbcSelect.getSqlString(),
+							results == null ? -1 : results.size()
+					);
+				}
 			}
 			finally {
 				domainParameterXref.clearExpansions();
@@ -0,0 +1,222 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.resource.jdbc.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A bounded cache of the {@link PreparedStatement}s prepared on one logical connection,
+ * enabled by {@value org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE}.
+ * <p>
+ * A statement {@linkplain #checkOut taken} from the cache, or {@linkplain #track tracked}
+ * after being prepared, returns to the cache when the {@link ResourceRegistryStandardImpl}
+ * {@linkplain #checkIn releases} it, instead of being closed.  Its parameters are then
+ * cleared and its settings restored.  The least recently used statements are closed when
+ * the cache is full, and all of them when the registry releases its resources.
+ * <p>
+ * This class is not threadsafe.
+ */
+public final class PreparedStatementCache {
+	private static final Logger log = Logger.getLogger( PreparedStatementCache.class );
+
+	private final int maxSize;
+	private final StatisticsImplementor statistics;
+
+	private final LinkedHashMap<Key, CachedStatement> idleStatements;
+	private final HashMap<Statement, CachedStatement> statementsInUse = new HashMap<>();
+
+	private long hitCount;
+	private long missCount;
+
+	public PreparedStatementCache(int maxSize, StatisticsImplementor statistics) {
+		this.maxSize = maxSize;
+		this.statistics = statistics;
+		this.idleStatements = new LinkedHashMap<>( 16, 0.75f, true );
+	}
+
+	/**
+	 * The cache key of a statement prepared without requesting generated keys.
+	 */
+	public static Key key(String sql, int resultSetType) {
+		return new Key( sql, resultSetType, Statement.NO_GENERATED_KEYS, null );
+	}
+
+	/**
+	 * The cache key of a statement prepared with the given generated keys mode.
+	 */
+	public static Key key(String sql, int autoGeneratedKeys, String[] columnNames) {
+		return new Key( sql, ResultSet.TYPE_FORWARD_ONLY, autoGeneratedKeys, columnNames );
+	}
+
+	/**
+	 * Take the statement with the given key out of the cache.
+	 *
+	 * @return The cached statement, or {@code null} if none is available
+	 */
+	public PreparedStatement checkOut(Key key) {
+		final CachedStatement cached = idleStatements.remove( key );
+		if ( cached == null ) {
+			missCount++;
+			if ( statistics != null && statistics.isStatisticsEnabled() ) {
+				statistics.preparedStatementCacheMiss();
+			}
+			return null;
+		}
+		hitCount++;
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.preparedStatementCacheHit();
+		}
+		statementsInUse.put( cached.statement, cached );
+		return cached.statement;
+	}
+
+	/**
+	 * Track a newly prepared statement, so that it returns to the cache once released.
+	 */
+	public void track(PreparedStatement statement, Key key) throws SQLException {
+		statementsInUse.put( statement, new CachedStatement( key, statement, statement.getFetchSize() ) );
+	}
+
+	/**
+	 * Return a released statement to the cache.
+	 *
+	 * @return {@code true} if the statement was cached, {@code false} if it needs to be closed
+	 */
+	public boolean checkIn(Statement statement) {
+		final CachedStatement cached = statementsInUse.remove( statement );
+		if ( cached == null || idleStatements.containsKey( cached.key ) ) {
+			return false;
+		}
+		try {
+			if ( statement.isClosed() ) {
+				return false;
+			}
+			cached.reset();
+		}
+		catch (SQLException e) {
+			log.debugf( "Unable to reset JDBC statement for reuse [%s]", e.getMessage() );
+			return false;
+		}
+		idleStatements.put( cached.key, cached );
+		if ( idleStatements.size() > maxSize ) {
+			final Iterator<CachedStatement> eldest = idleStatements.values().iterator();
+			final CachedStatement evicted = eldest.next();
+			eldest.remove();
+			ResourceRegistryStandardImpl.close( evicted.statement );
+		}
+		return true;
+	}
+
+	/**
+	 * Close the cached statements.
+	 */
+	public void clear() {
+		if ( !idleStatements.isEmpty() ) {
+			log.tracef( "Closing %s cached prepared statements", idleStatements.size() );
+			idleStatements.forEach( (key, cached) -> ResourceRegistryStandardImpl.close( cached.statement ) );
+			idleStatements.clear();
+		}
+		// statements still in use are closed by the registry
+		statementsInUse.clear();
+	}
+
+	/**
+	 * The number of statements reused from this cache.
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * The number of statements which had to be prepared.
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	private static final class CachedStatement {
+		private final Key key;
+		private final PreparedStatement statement;
+		private final int fetchSize;
+
+		private CachedStatement(Key key, PreparedStatement statement, int fetchSize) {
+			this.key = key;
+			this.statement = statement;
+			this.fetchSize = fetchSize;
+		}
+
+		private void reset() throws SQLException {
+			statement.clearParameters();
+			statement.clearBatch();
+			statement.clearWarnings();
+			if ( statement.getFetchSize() != fetchSize ) {
+				statement.setFetchSize( fetchSize );
+			}
+			if ( statement.getMaxRows() != 0 ) {
+				statement.setMaxRows( 0 );
+			}
+			if ( statement.getQueryTimeout() != 0 ) {
+				statement.setQueryTimeout( 0 );
+			}
+		}
+	}
+
+	public static final class Key {
+		private final String sql;
+		private final int resultSetType;
+		private final int autoGeneratedKeys;
+		private final String[] columnNames;
+		private final int hashCode;
+
+		private Key(String sql, int resultSetType, int autoGeneratedKeys, String[] columnNames) {
+			this.sql = sql;
+			this.resultSetType = resultSetType;
+			this.autoGeneratedKeys = autoGeneratedKeys;
+			this.columnNames = columnNames;
+			this.hashCode = 31 * ( 31 * ( 31 * sql.hashCode() + resultSetType ) + autoGeneratedKeys )
+					+ Arrays.hashCode( columnNames );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( this == o ) {
+				return true;
+			}
+			if ( !( o instanceof Key ) ) {
+				return false;
+			}
+			final Key that = (Key) o;
+			return hashCode == that.hashCode
+					&& resultSetType == that.resultSetType
+					&& autoGeneratedKeys == that.autoGeneratedKeys
+					&& Objects.equals( sql, that.sql )
+					&& Arrays.equals( columnNames, that.columnNames );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return sql;
+		}
+	}
+}
@@ -34,6 +34,15 @@ public interface JdbcSessionContext {
 	 */
 	Integer getFetchSizeOrNull();
 
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE
+	 *
+	 * @since 6.4
+	 */
+	default int getPreparedStatementCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * @deprecated this is never called, and luckily so, because it's not null-safe
 	 */
@@ -90,6 +90,10 @@ public final class InitializersList {
 		}
 	}
 
+	public boolean isEmpty() {
+		return initializers.length == 0;
+	}
+
 	public boolean hasCollectionInitializers() {
 		return this.hasCollectionInitializers;
 	}
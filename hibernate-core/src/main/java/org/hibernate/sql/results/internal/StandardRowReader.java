@@ -28,7 +28,10 @@ import org.hibernate.type.descriptor.java.JavaType;
 @SuppressWarnings("rawtypes")
 public class StandardRowReader<T> implements RowReader<T> {
 	private final List<DomainResultAssembler<?>> resultAssemblers;
+	private final DomainResultAssembler<?>[] resultAssemblersArray;
 	private final InitializersList initializers;
+	private final boolean hasInitializers;
+	private final boolean singleResultPassThrough;
 	private final RowTransformer<T> rowTransformer;
 	private final Class<T> domainResultJavaType;
 
@@ -40,10 +43,17 @@ public class StandardRowReader<T> implements RowReader<T> {
 			RowTransformer<T> rowTransformer,
 			Class<T> domainResultJavaType) {
 		this.resultAssemblers = resultAssemblers;
+		this.resultAssemblersArray = resultAssemblers.toArray( new DomainResultAssembler<?>[0] );
 		this.initializers = initializers;
+		this.hasInitializers = !initializers.isEmpty();
 		this.rowTransformer = rowTransformer;
 		this.assemblerCount = resultAssemblers.size();
 		this.domainResultJavaType = domainResultJavaType;
+		// when the single result would just be unwrapped from
+		// the row array, avoid allocating the array at all
+		this.singleResultPassThrough = assemblerCount == 1
+				&& ( rowTransformer instanceof RowTransformerStandardImpl
+						|| rowTransformer instanceof RowTransformerSingularReturnImpl );
 	}
 
 	@Override
@@ -80,26 +90,55 @@ public class StandardRowReader<T> implements RowReader<T> {
 		return initializers;
 	}
 
+	/**
+	 * Whether each row is a single result, returned without building the row array.
+	 */
+	public boolean isSingleResultPassThrough() {
+		return singleResultPassThrough;
+	}
+
 	@Override
 	public T readRow(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
-		LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
-		coordinateInitializers( rowProcessingState );
+		if ( LoadingLogger.TRACE_ENABLED ) {
+			LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
+		}
+
+		// a flat projection (scalars, DTOs, tuples) has no initializers,
+		// so the per-row coordination can be skipped entirely
+		if ( hasInitializers ) {
+			coordinateInitializers( rowProcessingState );
+		}
+
+		if ( singleResultPassThrough ) {
+			final Object result = resultAssemblersArray[0].assemble( rowProcessingState, options );
+			if ( hasInitializers ) {
+				afterRow( rowProcessingState );
+			}
+			//noinspection unchecked
+			return (T) result;
+		}
 
 		final Object[] resultRow = new Object[ assemblerCount ];
 
 		for ( int i = 0; i < assemblerCount; i++ ) {
-			final DomainResultAssembler assembler = resultAssemblers.get( i );
-			LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			final DomainResultAssembler<?> assembler = resultAssemblersArray[i];
+			if ( LoadingLogger.DEBUG_ENABLED ) {
+				LoadingLogger.LOGGER.debugf( "Calling top-level assembler (%s / %s) : %s", i, assemblerCount, assembler );
+			}
 			resultRow[i] = assembler.assemble( rowProcessingState, options );
 		}
 
-		afterRow( rowProcessingState );
+		if ( hasInitializers ) {
+			afterRow( rowProcessingState );
+		}
 
 		return rowTransformer.transformRow( resultRow );
 	}
 
 	private void afterRow(RowProcessingState rowProcessingState) {
-		LoadingLogger.LOGGER.trace( "StandardRowReader#afterRow" );
+		if ( LoadingLogger.TRACE_ENABLED ) {
+			LoadingLogger.LOGGER.trace( "StandardRowReader#afterRow" );
+		}
 		initializers.finishUpRow( rowProcessingState );
 	}
 
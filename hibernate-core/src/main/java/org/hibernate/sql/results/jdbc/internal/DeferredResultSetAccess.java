@@ -9,7 +9,9 @@ package org.hibernate.sql.results.jdbc.internal;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 
 import org.hibernate.LockMode;
@@ -26,10 +28,12 @@ import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
 import org.hibernate.resource.jdbc.spi.LogicalConnectionImplementor;
+import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.exec.spi.ExecutionContext;
 import org.hibernate.sql.exec.spi.JdbcLockStrategy;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
+import org.hibernate.sql.exec.spi.JdbcParameterBinding;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 
 /**
@@ -241,7 +245,9 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 			}
 			finally {
 				eventListenerManager.jdbcExecuteStatementEnd();
-				sqlStatementLogger.logSlowQuery( preparedStatement, executeStartNanos, context() );
+				if ( executeStartNanos > 0 ) {
+					logSlowQuery( executeStartNanos );
+				}
 			}
 
 			skipRows( resultSet );
@@ -269,6 +275,31 @@ public class DeferredResultSetAccess extends AbstractResultSetAccess {
 		return executionContext.getSession().getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext();
 	}
 
+	private void logSlowQuery(long executeStartNanos) {
+		final String queryIdentifier = executionContext.getQueryIdentifier( finalSql );
+		sqlStatementLogger.logSlowQuery(
+				finalSql,
+				executeStartNanos,
+				-1,
+				finalSql.equals( queryIdentifier ) ? null : queryIdentifier,
+				this::getBindValues,
+				executionContext.getSession().getSessionIdentifier(),
+				context()
+		);
+	}
+
+	private List<?> getBindValues() {
+		final List<JdbcParameterBinder> parameterBinders = jdbcSelect.getParameterBinders();
+		final List<Object> bindValues = new ArrayList<>( parameterBinders.size() );
+		for ( JdbcParameterBinder parameterBinder : parameterBinders ) {
+			if ( parameterBinder instanceof JdbcParameter ) {
+				final JdbcParameterBinding binding = jdbcParameterBindings.getBinding( (JdbcParameter) parameterBinder );
+				bindValues.add( binding == null ? null : binding.getBindValue() );
+			}
+		}
+		return bindValues;
+	}
+
 	protected void skipRows(ResultSet resultSet) throws SQLException {
 		// For dialects that don't support an offset clause
 		final int rowsToSkip;
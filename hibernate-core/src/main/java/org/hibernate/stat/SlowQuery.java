@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.Incubating;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An execution of a SQL query which took longer than the threshold defined by
+ * {@value org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY}.
+ *
+ * @since 6.4
+ *
+ * @see Statistics#getSlowQueryHistory()
+ */
+@Incubating
+public interface SlowQuery {
+	/**
+	 * The executed SQL.
+	 */
+	String getSql();
+
+	/**
+	 * The executed SQL, with its literals replaced by parameter markers, its lists
+	 * of parameter markers collapsed, and its whitespace normalized, so that all
+	 * executions of a query share the same normalized SQL.
+	 */
+	String getNormalizedSql();
+
+	/**
+	 * A short hash of the {@linkplain #getNormalizedSql() normalized SQL}.
+	 */
+	String getFingerprint();
+
+	/**
+	 * The execution time in milliseconds.
+	 */
+	long getExecutionTime();
+
+	/**
+	 * When the execution completed.
+	 */
+	Instant getTimestamp();
+
+	/**
+	 * The number of rows affected by an insert, update, or delete statement,
+	 * or {@code -1} if not known.
+	 */
+	long getRowCount();
+
+	/**
+	 * The HQL or native query from which the SQL was generated, if any.
+	 */
+	@Nullable String getQueryString();
+
+	/**
+	 * The {@linkplain org.hibernate.engine.spi.SharedSessionContractImplementor#getSessionIdentifier()
+	 * identifier} of the session which executed the query, if known.
+	 */
+	@Nullable UUID getSessionIdentifier();
+
+	/**
+	 * The values bound to the parameters of the query, rendered as strings, if
+	 * {@value org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY_BIND_VALUES} is
+	 * enabled and the values are known.
+	 */
+	@Nullable List<String> getBindValues();
+}
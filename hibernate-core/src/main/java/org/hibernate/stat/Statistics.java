@@ -7,8 +7,11 @@
 package org.hibernate.stat;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 
+import org.hibernate.Incubating;
+
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -30,6 +33,14 @@ public interface Statistics {
 	 */
 	int DEFAULT_QUERY_STATISTICS_MAX_SIZE = 5000;
 
+	/**
+	 * The default value of the configuration property
+	 * {@value org.hibernate.cfg.AvailableSettings#SLOW_QUERY_HISTORY_MAX_SIZE}.
+	 *
+	 * @since 6.4
+	 */
+	int DEFAULT_SLOW_QUERY_HISTORY_MAX_SIZE = 100;
+
 	/**
 	 * Is collection of statistics enabled?
 	 */
@@ -343,6 +354,22 @@ public interface Statistics {
 	 */
 	Map<String,Long> getSlowQueries();
 
+	/**
+	 * If {@value org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY}
+	 * is enabled, the most recent slow queries, oldest first.
+	 * <p>
+	 * The maximum number of slow queries kept by the Hibernate statistics
+	 * is determined by the configuration property
+	 * {@value org.hibernate.cfg.AvailableSettings#SLOW_QUERY_HISTORY_MAX_SIZE}.
+	 *
+	 * @since 6.4
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#LOG_SLOW_QUERY
+	 * @see org.hibernate.cfg.AvailableSettings#SLOW_QUERY_HISTORY_MAX_SIZE
+	 */
+	@Incubating
+	List<SlowQuery> getSlowQueryHistory();
+
 	/**
 	 * The names of all entities.
 	 */
@@ -395,4 +422,40 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of prepared statements reused from the per-session cache
+	 * enabled by {@value org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE}.
+	 *
+	 * @since 6.4
+	 */
+	long getPreparedStatementCacheHitCount();
+
+	/**
+	 * The global number of prepared statements <em>not</em> found in the per-session
+	 * cache enabled by {@value org.hibernate.cfg.AvailableSettings#STATEMENT_CACHE_SIZE}.
+	 *
+	 * @since 6.4
+	 */
+	long getPreparedStatementCacheMissCount();
+
+	/**
+	 * The global number of N+1 selects patterns detected, when detection is
+	 * enabled by {@value org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD}.
+	 *
+	 * @since 6.4
+	 */
+	long getNPlusOneSelectCount();
+
+	/**
+	 * The N+1 selects patterns detected, when detection is enabled by
+	 * {@value org.hibernate.cfg.AvailableSettings#N_PLUS_ONE_SELECT_THRESHOLD},
+	 * as the number of times each was detected, keyed by the role of the
+	 * association, or the name of the entity, which was repeatedly selected.
+	 * The returned map is an immutable snapshot.
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	Map<String,Long> getNPlusOneSelects();
 }
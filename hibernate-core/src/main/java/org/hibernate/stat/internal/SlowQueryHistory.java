@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hibernate.stat.SlowQuery;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * A bounded ring buffer of the most recent {@link SlowQuery}s, overwriting the
+ * oldest entry once full.  Recording never blocks and never allocates.
+ */
+final class SlowQueryHistory {
+	private final AtomicReferenceArray<@Nullable SlowQuery> entries;
+	private final AtomicLong count = new AtomicLong();
+
+	SlowQueryHistory(int maxSize) {
+		this.entries = new AtomicReferenceArray<>( Math.max( maxSize, 0 ) );
+	}
+
+	void add(SlowQuery slowQuery) {
+		final int maxSize = entries.length();
+		if ( maxSize > 0 ) {
+			entries.set( (int) ( count.getAndIncrement() % maxSize ), slowQuery );
+		}
+	}
+
+	/**
+	 * A snapshot of the retained entries, oldest first.
+	 */
+	List<SlowQuery> toList() {
+		final int maxSize = entries.length();
+		final long end = count.get();
+		if ( maxSize == 0 || end == 0 ) {
+			return emptyList();
+		}
+		final long start = Math.max( 0, end - maxSize );
+		final List<SlowQuery> result = new ArrayList<>( (int) ( end - start ) );
+		for ( long i = start; i < end; i++ ) {
+			final SlowQuery slowQuery = entries.get( (int) ( i % maxSize ) );
+			if ( slowQuery != null ) {
+				result.add( slowQuery );
+			}
+		}
+		return result;
+	}
+
+	void clear() {
+		count.set( 0 );
+		for ( int i = 0; i < entries.length(); i++ ) {
+			entries.set( i, null );
+		}
+	}
+}
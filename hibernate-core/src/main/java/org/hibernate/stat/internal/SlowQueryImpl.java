@@ -0,0 +1,208 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import org.hibernate.stat.SlowQuery;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Standard implementation of {@link SlowQuery}.  The normalized SQL and its
+ * fingerprint are only computed when first requested.
+ */
+public class SlowQueryImpl implements SlowQuery {
+	private static final Pattern PARAMETER_LIST = Pattern.compile( "\\?(?:\\s*,\\s*\\?)+" );
+
+	private final String sql;
+	private final long executionTime;
+	private final Instant timestamp;
+	private final long rowCount;
+	private final @Nullable String queryString;
+	private final @Nullable UUID sessionIdentifier;
+	private final @Nullable List<String> bindValues;
+
+	private @Nullable String normalizedSql;
+	private @Nullable String fingerprint;
+
+	public SlowQueryImpl(
+			String sql,
+			long executionTime,
+			long rowCount,
+			@Nullable String queryString,
+			@Nullable UUID sessionIdentifier,
+			@Nullable List<String> bindValues) {
+		this.sql = sql;
+		this.executionTime = executionTime;
+		this.timestamp = Instant.now();
+		this.rowCount = rowCount;
+		this.queryString = queryString;
+		this.sessionIdentifier = sessionIdentifier;
+		this.bindValues = bindValues;
+	}
+
+	@Override
+	public String getSql() {
+		return sql;
+	}
+
+	@Override
+	public String getNormalizedSql() {
+		String normalizedSql = this.normalizedSql;
+		if ( normalizedSql == null ) {
+			this.normalizedSql = normalizedSql = normalize( sql );
+		}
+		return normalizedSql;
+	}
+
+	@Override
+	public String getFingerprint() {
+		String fingerprint = this.fingerprint;
+		if ( fingerprint == null ) {
+			this.fingerprint = fingerprint = fingerprint( getNormalizedSql() );
+		}
+		return fingerprint;
+	}
+
+	@Override
+	public long getExecutionTime() {
+		return executionTime;
+	}
+
+	@Override
+	public Instant getTimestamp() {
+		return timestamp;
+	}
+
+	@Override
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	@Override
+	public @Nullable String getQueryString() {
+		return queryString;
+	}
+
+	@Override
+	public @Nullable UUID getSessionIdentifier() {
+		return sessionIdentifier;
+	}
+
+	@Override
+	public @Nullable List<String> getBindValues() {
+		return bindValues;
+	}
+
+	@Override
+	public String toString() {
+		return "SlowQuery["
+				+ "sql=" + sql
+				+ ",executionTime=" + executionTime
+				+ ",rowCount=" + rowCount
+				+ ",queryString=" + queryString
+				+ ",sessionIdentifier=" + sessionIdentifier
+				+ ",bindValues=" + bindValues
+				+ ']';
+	}
+
+	/**
+	 * Replace the string and numeric literals of the given SQL with parameter markers,
+	 * collapse lists of parameter markers to a single marker, remove comments, and
+	 * normalize whitespace.
+	 */
+	static String normalize(String sql) {
+		final int length = sql.length();
+		final StringBuilder result = new StringBuilder( length );
+		boolean pendingSpace = false;
+		int i = 0;
+		while ( i < length ) {
+			final char c = sql.charAt( i );
+			if ( Character.isWhitespace( c ) ) {
+				pendingSpace = result.length() > 0;
+				i++;
+				continue;
+			}
+			if ( c == '/' && i + 1 < length && sql.charAt( i + 1 ) == '*' ) {
+				final int end = sql.indexOf( "*/", i + 2 );
+				i = end < 0 ? length : end + 2;
+				pendingSpace = result.length() > 0;
+				continue;
+			}
+			if ( c == '-' && i + 1 < length && sql.charAt( i + 1 ) == '-' ) {
+				final int end = sql.indexOf( '\n', i + 2 );
+				i = end < 0 ? length : end + 1;
+				pendingSpace = result.length() > 0;
+				continue;
+			}
+			if ( pendingSpace ) {
+				result.append( ' ' );
+				pendingSpace = false;
+			}
+			if ( c == '\'' ) {
+				// a string literal, with '' as the escaped quote
+				i++;
+				while ( i < length ) {
+					if ( sql.charAt( i ) == '\'' ) {
+						if ( i + 1 < length && sql.charAt( i + 1 ) == '\'' ) {
+							i += 2;
+							continue;
+						}
+						break;
+					}
+					i++;
+				}
+				result.append( '?' );
+				i++;
+			}
+			else if ( c == '"' || c == '`' ) {
+				// a quoted identifier
+				final int end = sql.indexOf( c, i + 1 );
+				final int next = end < 0 ? length : end + 1;
+				result.append( sql, i, next );
+				i = next;
+			}
+			else if ( Character.isDigit( c ) && !isIdentifierPart( result ) ) {
+				// a numeric literal
+				i++;
+				while ( i < length && ( Character.isDigit( sql.charAt( i ) ) || sql.charAt( i ) == '.' ) ) {
+					i++;
+				}
+				result.append( '?' );
+			}
+			else {
+				result.append( c );
+				i++;
+			}
+		}
+		return PARAMETER_LIST.matcher( result ).replaceAll( "?" );
+	}
+
+	private static boolean isIdentifierPart(StringBuilder result) {
+		if ( result.length() == 0 ) {
+			return false;
+		}
+		final char last = result.charAt( result.length() - 1 );
+		return Character.isLetterOrDigit( last ) || last == '_' || last == '$';
+	}
+
+	/**
+	 * A 64-bit FNV-1a hash of the given string, in hexadecimal.
+	 */
+	static String fingerprint(String normalizedSql) {
+		long hash = 0xcbf29ce484222325L;
+		for ( int i = 0; i < normalizedSql.length(); i++ ) {
+			hash ^= normalizedSql.charAt( i );
+			hash *= 0x100000001b3L;
+		}
+		return String.format( "%016x", hash );
+	}
+}
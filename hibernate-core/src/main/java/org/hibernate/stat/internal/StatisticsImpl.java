@@ -28,6 +28,7 @@ import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MappingMetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
+import org.hibernate.stat.SlowQuery;
 import org.hibernate.stat.Statistics;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -99,6 +100,11 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
 
+	private final LongAdder preparedStatementCacheHitCount = new LongAdder();
+	private final LongAdder preparedStatementCacheMissCount = new LongAdder();
+
+	private final LongAdder nPlusOneSelectCount = new LongAdder();
+
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
 	private final LongAdder updateTimestampsCachePutCount = new LongAdder();
@@ -127,6 +133,13 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	 */
 	private final Map<String, Long> slowQueries = new ConcurrentHashMap<>();
 
+	private final SlowQueryHistory slowQueryHistory;
+
+	/**
+	 * Keyed by association role or entity name
+	 */
+	private final Map<String, Long> nPlusOneSelects = new ConcurrentHashMap<>();
+
 	public StatisticsImpl(SessionFactoryImplementor sessionFactory) {
 		Objects.requireNonNull( sessionFactory );
 		SessionFactoryOptions sessionFactoryOptions = sessionFactory.getSessionFactoryOptions();
@@ -134,6 +147,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				sessionFactoryOptions.getQueryStatisticsMaxSize(),
 				20
 		);
+		this.slowQueryHistory = new SlowQueryHistory( sessionFactoryOptions.getSlowQueryHistoryMaxSize() );
 		resetStart();
 		metamodel = sessionFactory.getRuntimeMetamodels().getMappingMetamodel();
 		cache = sessionFactory.getCache();
@@ -210,6 +224,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
 
+		preparedStatementCacheHitCount.reset();
+		preparedStatementCacheMissCount.reset();
+
+		slowQueries.clear();
+		slowQueryHistory.clear();
+
+		nPlusOneSelectCount.reset();
+		nPlusOneSelects.clear();
+
 		resetStart();
 	}
 
@@ -773,6 +796,42 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getPreparedStatementCacheHitCount() {
+		return preparedStatementCacheHitCount.sum();
+	}
+
+	@Override
+	public long getPreparedStatementCacheMissCount() {
+		return preparedStatementCacheMissCount.sum();
+	}
+
+	@Override
+	public void preparedStatementCacheHit() {
+		preparedStatementCacheHitCount.increment();
+	}
+
+	@Override
+	public void preparedStatementCacheMiss() {
+		preparedStatementCacheMissCount.increment();
+	}
+
+	@Override
+	public long getNPlusOneSelectCount() {
+		return nPlusOneSelectCount.sum();
+	}
+
+	@Override
+	public Map<String, Long> getNPlusOneSelects() {
+		return Map.copyOf( nPlusOneSelects );
+	}
+
+	@Override
+	public void nPlusOneSelect(String role) {
+		nPlusOneSelectCount.increment();
+		nPlusOneSelects.merge( role, 1L, Long::sum );
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -974,6 +1033,9 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 				",max query time=" + queryExecutionMaxTime +
 				",query plan cache hits=" + queryPlanCacheHitCount +
 				",query plan cache misses=" + queryPlanCacheMissCount +
+				",prepared statement cache hits=" + preparedStatementCacheHitCount +
+				",prepared statement cache misses=" + preparedStatementCacheMissCount +
+				",N+1 selects detected=" + nPlusOneSelectCount +
 				']';
 	}
 
@@ -1039,4 +1101,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service {
 	public void slowQuery(String sql, long executionTime) {
 		slowQueries.merge( sql, executionTime, Math::max );
 	}
+
+	@Override
+	public List<SlowQuery> getSlowQueryHistory() {
+		return slowQueryHistory.toList();
+	}
+
+	@Override
+	public void slowQuery(SlowQuery slowQuery) {
+		slowQuery( slowQuery.getSql(), slowQuery.getExecutionTime() );
+		slowQueryHistory.add( slowQuery );
+	}
 }
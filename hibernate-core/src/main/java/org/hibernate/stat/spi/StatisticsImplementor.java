@@ -6,12 +6,16 @@
  */
 package org.hibernate.stat.spi;
 
+import org.hibernate.Incubating;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.service.Service;
+import org.hibernate.stat.SlowQuery;
 import org.hibernate.stat.Statistics;
 
+import java.util.List;
 import java.util.Map;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 
 /**
@@ -269,6 +273,33 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a prepared statement was reused from the session's cache.
+	 */
+	default void preparedStatementCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a prepared statement was not found in the session's cache.
+	 */
+	default void preparedStatementCacheMiss() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating an N+1 selects pattern was detected.
+	 *
+	 * @param role The role of the association, or the name of the entity,
+	 *             which was repeatedly selected
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default void nPlusOneSelect(String role) {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
@@ -286,9 +317,31 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Register the execution of a slow SQL query, along with its details.
+	 *
+	 * @since 6.4
+	 */
+	@Incubating
+	default void slowQuery(SlowQuery slowQuery) {
+		slowQuery( slowQuery.getSql(), slowQuery.getExecutionTime() );
+	}
+
 	@Override
 	default Map<String, Long> getSlowQueries() {
 		//For backward compatibility
 		return emptyMap();
 	}
+
+	@Override
+	default List<SlowQuery> getSlowQueryHistory() {
+		//For backward compatibility
+		return emptyList();
+	}
+
+	@Override
+	default Map<String, Long> getNPlusOneSelects() {
+		//For backward compatibility
+		return emptyMap();
+	}
 }
@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.internal.bytebuddy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.invoke.MethodHandles;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.bytecode.enhance.spi.EnhancementInfo;
+import org.hibernate.bytecode.spi.ByteCodeHelper;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
+import org.junit.Test;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.implementation.MethodCall;
+import net.bytebuddy.matcher.ElementMatchers;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * Tests that the proxy and instantiator classes generated at build time are used instead of
+ * generating them at runtime.
+ */
+public class PregeneratedClassesTest {
+
+	@Test
+	public void pregeneratedClassesAreUsed() throws Exception {
+		final BytecodeProviderImpl bytecodeProvider = new BytecodeProviderImpl();
+		final Map<String, byte[]> pregeneratedClasses = buildPregeneratedClasses( bytecodeProvider, Item.class );
+
+		final String proxyClassName = ByteBuddyProxyHelper.getPregeneratedProxyClassName( Item.class.getName() );
+		final String instantiatorClassName = BytecodeProviderImpl.getPregeneratedInstantiatorClassName( Item.class.getName() );
+		final Set<String> expectedClassNames = new HashSet<>();
+		expectedClassNames.add( proxyClassName );
+		expectedClassNames.add( instantiatorClassName );
+		assertEquals( expectedClassNames, pregeneratedClasses.keySet() );
+
+		// as if the classes had been packaged along with the entity
+		final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn( Item.class, MethodHandles.lookup() );
+		for ( byte[] bytes : pregeneratedClasses.values() ) {
+			lookup.defineClass( bytes );
+		}
+
+		final Class<?> proxyClass = bytecodeProvider.getByteBuddyProxyHelper()
+				.buildProxy( Item.class, new Class<?>[] { HibernateProxy.class } );
+		assertEquals( proxyClassName, proxyClass.getName() );
+		assertNotNull( proxyClass.getConstructor().newInstance() );
+
+		final ReflectionOptimizer reflectionOptimizer = bytecodeProvider.getReflectionOptimizer(
+				Item.class,
+				new String[] { "getId" },
+				new String[] { "setId" },
+				new Class<?>[] { Long.class }
+		);
+		assertEquals( instantiatorClassName, reflectionOptimizer.getInstantiationOptimizer().getClass().getName() );
+		assertTrue( reflectionOptimizer.getInstantiationOptimizer().newInstance() instanceof Item );
+	}
+
+	@Test
+	public void pregeneratedClassesOfOtherVersionsAreIgnored() throws Exception {
+		final String instantiatorClassName = BytecodeProviderImpl.getPregeneratedInstantiatorClassName( Stale.class.getName() );
+		final byte[] bytes = new ByteBuddy()
+				.subclass( ReflectionOptimizer.InstantiationOptimizer.class )
+				.name( instantiatorClassName )
+				.annotateType( AnnotationDescription.Builder.ofType( EnhancementInfo.class )
+						.define( "version", "0.0.0.Final" )
+						.build() )
+				.method( ElementMatchers.named( "newInstance" ) )
+				.intercept( MethodCall.construct( Stale.class.getDeclaredConstructor() ) )
+				.make()
+				.getBytes();
+		MethodHandles.privateLookupIn( Stale.class, MethodHandles.lookup() ).defineClass( bytes );
+
+		final ReflectionOptimizer reflectionOptimizer = new BytecodeProviderImpl().getReflectionOptimizer(
+				Stale.class,
+				new String[] { "getId" },
+				new String[] { "setId" },
+				new Class<?>[] { Long.class }
+		);
+		// generated again at runtime
+		assertNotEquals( instantiatorClassName, reflectionOptimizer.getInstantiationOptimizer().getClass().getName() );
+		assertTrue( reflectionOptimizer.getInstantiationOptimizer().newInstance() instanceof Stale );
+	}
+
+	@Test
+	public void embeddablesHaveNoProxy() throws Exception {
+		final Map<String, byte[]> pregeneratedClasses = buildPregeneratedClasses( new BytecodeProviderImpl(), Label.class );
+		assertEquals(
+				Set.of( BytecodeProviderImpl.getPregeneratedInstantiatorClassName( Label.class.getName() ) ),
+				pregeneratedClasses.keySet()
+		);
+	}
+
+	@Test
+	public void otherClassesAreIgnored() throws Exception {
+		assertTrue( buildPregeneratedClasses( new BytecodeProviderImpl(), PregeneratedClassesTest.class ).isEmpty() );
+	}
+
+	private static Map<String, byte[]> buildPregeneratedClasses(BytecodeProviderImpl bytecodeProvider, Class<?> clazz)
+			throws Exception {
+		return bytecodeProvider.buildPregeneratedClasses(
+				clazz.getName(),
+				ByteCodeHelper.readByteCode( clazz.getClassLoader()
+						.getResourceAsStream( clazz.getName().replace( '.', '/' ) + ".class" ) ),
+				clazz.getClassLoader()
+		);
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Stale")
+	public static class Stale {
+		@Id
+		private Long id;
+
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Embeddable
+	public static class Label {
+		private String text;
+	}
+}
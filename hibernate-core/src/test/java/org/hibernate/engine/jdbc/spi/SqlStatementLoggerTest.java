@@ -1,16 +1,27 @@
 package org.hibernate.engine.jdbc.spi;
 
 import java.sql.Statement;
+import java.util.Arrays;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.hibernate.resource.jdbc.spi.JdbcSessionContext;
+import org.hibernate.stat.SlowQuery;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
 import org.hibernate.testing.TestForIssue;
 import org.junit.jupiter.api.Test;
 
+import org.mockito.ArgumentCaptor;
 import org.mockito.stubbing.Answer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -46,6 +57,106 @@ class SqlStatementLoggerTest {
 		assertEquals( 1, callCounterToString.get() );
 	}
 
+	@Test
+	public void testSlowQueryDetails() {
+		long logSlowQueryThresholdMillis = 300L;
+		SqlStatementLogger sqlStatementLogger = new SqlStatementLogger(
+				false,
+				false,
+				false,
+				logSlowQueryThresholdMillis,
+				true
+		);
+		StatisticsImplementor statistics = mockStatistics();
+		UUID sessionIdentifier = UUID.randomUUID();
+
+		long startTimeNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos( logSlowQueryThresholdMillis + 1 );
+		sqlStatementLogger.logSlowQuery(
+				"select b.id from Book b where b.title='Hibernate'  and b.id in (?, ?, ?) and b.pages>100",
+				startTimeNanos,
+				-1,
+				"from Book where title = :title",
+				() -> Arrays.asList( 1, null, new byte[3] ),
+				sessionIdentifier,
+				mockContext( statistics )
+		);
+
+		SlowQuery slowQuery = captureSlowQuery( statistics );
+		assertEquals(
+				"select b.id from Book b where b.title=? and b.id in (?) and b.pages>?",
+				slowQuery.getNormalizedSql()
+		);
+		assertEquals( 16, slowQuery.getFingerprint().length() );
+		assertEquals( "from Book where title = :title", slowQuery.getQueryString() );
+		assertEquals( sessionIdentifier, slowQuery.getSessionIdentifier() );
+		assertEquals( -1, slowQuery.getRowCount() );
+		assertEquals( Arrays.asList( "1", "null", "byte[3]" ), slowQuery.getBindValues() );
+	}
+
+	@Test
+	public void testSlowQueryBindValuesRedactedByDefault() {
+		long logSlowQueryThresholdMillis = 300L;
+		SqlStatementLogger sqlStatementLogger = new SqlStatementLogger(
+				false,
+				false,
+				false,
+				logSlowQueryThresholdMillis
+		);
+		StatisticsImplementor statistics = mockStatistics();
+
+		long startTimeNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos( logSlowQueryThresholdMillis + 1 );
+		sqlStatementLogger.logSlowQuery(
+				"update Book set title = ? where id = ?",
+				startTimeNanos,
+				5,
+				null,
+				() -> Arrays.asList( "secret", 1 ),
+				null,
+				mockContext( statistics )
+		);
+
+		SlowQuery slowQuery = captureSlowQuery( statistics );
+		assertEquals( 5, slowQuery.getRowCount() );
+		assertNull( slowQuery.getBindValues() );
+	}
+
+	@Test
+	public void testSlowQueryFromStatementNotRecorded() {
+		long logSlowQueryThresholdMillis = 300L;
+		SqlStatementLogger sqlStatementLogger = new SqlStatementLogger(
+				false,
+				false,
+				false,
+				logSlowQueryThresholdMillis
+		);
+		StatisticsImplementor statistics = mockStatistics();
+		Statement statement = mockStatementForCountingToString( new AtomicInteger() );
+
+		long startTimeNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos( logSlowQueryThresholdMillis + 1 );
+		sqlStatementLogger.logSlowQuery( statement, startTimeNanos, mockContext( statistics ) );
+
+		// the string form of the statement may include the bind values
+		verify( statistics, never() ).slowQuery( any() );
+	}
+
+	private StatisticsImplementor mockStatistics() {
+		StatisticsImplementor statistics = mock( StatisticsImplementor.class );
+		when( statistics.isStatisticsEnabled() ).thenReturn( true );
+		return statistics;
+	}
+
+	private JdbcSessionContext mockContext(StatisticsImplementor statistics) {
+		JdbcSessionContext context = mock( JdbcSessionContext.class );
+		when( context.getStatistics() ).thenReturn( statistics );
+		return context;
+	}
+
+	private SlowQuery captureSlowQuery(StatisticsImplementor statistics) {
+		ArgumentCaptor<SlowQuery> captor = ArgumentCaptor.forClass( SlowQuery.class );
+		verify( statistics ).slowQuery( captor.capture() );
+		return captor.getValue();
+	}
+
 	private Statement mockStatementForCountingToString(AtomicInteger callCounter) {
 		Statement statement = mock( Statement.class );
 		when( statement.toString() ).then( (Answer<String>) invocation -> {
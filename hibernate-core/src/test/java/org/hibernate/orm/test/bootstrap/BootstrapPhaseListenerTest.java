@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.boot.spi.BootstrapPhaseListener;
+
+import org.hibernate.testing.orm.junit.BootstrapServiceRegistry;
+import org.hibernate.testing.orm.junit.BootstrapServiceRegistry.JavaService;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the phases of bootstrap are reported to the {@link BootstrapPhaseListener}s.
+ */
+@BootstrapServiceRegistry(
+		javaServices = @JavaService(role = BootstrapPhaseListener.class, impl = BootstrapPhaseListenerTest.RecordingListener.class)
+)
+@DomainModel(
+		annotatedClasses = BootstrapPhaseListenerTest.Product.class,
+		xmlMappings = "org/hibernate/orm/test/onetomany/Node.hbm.xml"
+)
+@SessionFactory
+public class BootstrapPhaseListenerTest {
+
+	@Test
+	public void testPhasesAreReported(SessionFactoryScope scope) {
+		scope.getSessionFactory();
+
+		assertThat( RecordingListener.PHASES ).extracting( phase -> phase.phase ).containsSubsequence(
+				BootstrapPhase.XML_BINDING,
+				BootstrapPhase.TYPE_REGISTRATION,
+				BootstrapPhase.MODEL_BINDING,
+				BootstrapPhase.SECOND_PASSES,
+				BootstrapPhase.CACHE_REGION_CREATION,
+				BootstrapPhase.PERSISTER_CREATION,
+				BootstrapPhase.MAPPING_MODEL_CREATION,
+				BootstrapPhase.NAMED_QUERY_VALIDATION,
+				BootstrapPhase.SCHEMA_MANAGEMENT
+		);
+		assertThat( RecordingListener.PHASES ).allSatisfy( phase -> assertThat( phase.duration ).isNotNegative() );
+		assertThat( RecordingListener.PHASES ).filteredOn( phase -> phase.phase == BootstrapPhase.XML_BINDING )
+				.extracting( phase -> phase.detail )
+				.containsExactly( "org/hibernate/orm/test/onetomany/Node.hbm.xml" );
+	}
+
+	public static class RecordingListener implements BootstrapPhaseListener {
+		private static final List<CompletedPhase> PHASES = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void phaseCompleted(BootstrapPhase phase, String detail, Duration duration) {
+			PHASES.add( new CompletedPhase( phase, detail, duration ) );
+		}
+	}
+
+	private static class CompletedPhase {
+		private final BootstrapPhase phase;
+		private final String detail;
+		private final Duration duration;
+
+		private CompletedPhase(BootstrapPhase phase, String detail, Duration duration) {
+			this.phase = phase;
+			this.detail = detail;
+			this.duration = duration;
+		}
+	}
+
+	@Entity(name = "Product")
+	@NamedQuery(name = "Product.byName", query = "from Product where name = :name")
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests a {@link org.hibernate.SessionFactory} built with
+ * {@value AvailableSettings#LAZY_PERSISTER_INITIALIZATION} enabled.
+ */
+@DomainModel(
+		annotatedClasses = {
+				LazyPersisterInitializationTest.Product.class,
+				LazyPersisterInitializationTest.Unused.class
+		}
+)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.LAZY_PERSISTER_INITIALIZATION, value = "true"))
+@SessionFactory
+public class LazyPersisterInitializationTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Product" ).executeUpdate() );
+	}
+
+	@Test
+	public void testMutationsAndLoads(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Product( 1, "soap" ) );
+			session.persist( new Product( 2, "towel" ) );
+		} );
+
+		scope.inTransaction( session -> {
+			final Product product = session.find( Product.class, 1 );
+			assertThat( product.name ).isEqualTo( "soap" );
+			product.name = "shampoo";
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Product> products = session.byMultipleIds( Product.class ).multiLoad( 1, 2 );
+			assertThat( products ).extracting( product -> product.name ).containsExactly( "shampoo", "towel" );
+			assertThat( products.get( 0 ).version ).isEqualTo( 1 );
+			session.remove( products.get( 1 ) );
+		} );
+
+		scope.inTransaction( session -> assertThat( session.find( Product.class, 2 ) ).isNull() );
+	}
+
+	@Test
+	public void testCoordinatorsAreBuiltOnFirstUse(SessionFactoryScope scope) {
+		final AbstractEntityPersister persister = (AbstractEntityPersister) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Unused.class );
+		assertThat( persister.getInsertCoordinator().getStaticInsertGroup() ).isNotNull();
+		assertThat( persister.getDeleteCoordinator().getStaticDeleteGroup() ).isNotNull();
+		assertThat( persister.getInsertCoordinator() ).isSameAs( persister.getInsertCoordinator() );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+		@Version
+		private Integer version;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Unused")
+	public static class Unused {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.bootstrap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.metamodel.MappingMetamodel;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests a {@link org.hibernate.SessionFactory} built with
+ * {@value AvailableSettings#PARALLEL_PERSISTER_CREATION} enabled.
+ */
+@DomainModel(
+		annotatedClasses = {
+				ParallelPersisterCreationTest.Author.class,
+				ParallelPersisterCreationTest.Publication.class,
+				ParallelPersisterCreationTest.Book.class,
+				ParallelPersisterCreationTest.Article.class
+		}
+)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.PARALLEL_PERSISTER_CREATION, value = "true"))
+@SessionFactory
+public class ParallelPersisterCreationTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Publication" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testPersistersAreRegistered(SessionFactoryScope scope) {
+		final MappingMetamodel metamodel = scope.getSessionFactory().getMappingMetamodel();
+		assertThat( metamodel.getEntityDescriptor( Author.class ).getEntityName() )
+				.isEqualTo( Author.class.getName() );
+		assertThat( metamodel.getEntityDescriptor( Book.class ).getSuperMappingType() )
+				.isSameAs( metamodel.getEntityDescriptor( Publication.class ) );
+		assertThat( metamodel.getCollectionDescriptor( Author.class.getName() + ".publications" ).getElementType()
+							.getReturnedClass() ).isEqualTo( Publication.class );
+	}
+
+	@Test
+	public void testPersistAndLoad(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Gavin" );
+			session.persist( author );
+			final Book book = new Book( 1, "Java Persistence with Hibernate", author );
+			final Article article = new Article( 2, "Hibernate 6", author );
+			author.publications.add( book );
+			author.publications.add( article );
+			session.persist( book );
+			session.persist( article );
+		} );
+
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1 );
+			assertThat( author.publications ).hasSize( 2 );
+			assertThat( session.find( Publication.class, 1 ) ).isInstanceOf( Book.class );
+		} );
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "author")
+		private List<Publication> publications = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Publication")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Publication {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Publication() {
+		}
+
+		public Publication(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book extends Publication {
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			super( id, title, author );
+		}
+	}
+
+	@Entity(name = "Article")
+	public static class Article extends Publication {
+		public Article() {
+		}
+
+		public Article(Integer id, String title, Author author) {
+			super( id, title, author );
+		}
+	}
+}
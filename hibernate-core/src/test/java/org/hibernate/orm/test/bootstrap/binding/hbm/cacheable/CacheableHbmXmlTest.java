@@ -7,14 +7,25 @@
 package org.hibernate.orm.test.bootstrap.binding.hbm.cacheable;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.Serializable;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 import org.hibernate.boot.MappingException;
 import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.SourceType;
 import org.hibernate.boot.jaxb.internal.CacheableFileXmlSource;
+import org.hibernate.boot.jaxb.internal.FileXmlSource;
 import org.hibernate.boot.jaxb.internal.MappingBinder;
+import org.hibernate.boot.jaxb.spi.Binding;
 import org.hibernate.boot.registry.StandardServiceRegistry;
 import org.hibernate.boot.spi.XmlMappingBinderAccess;
+import org.hibernate.internal.util.SerializationHelper;
 
 import org.hibernate.testing.orm.junit.ServiceRegistry;
 import org.hibernate.testing.orm.junit.ServiceRegistryScope;
@@ -22,6 +33,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -96,6 +108,48 @@ public class CacheableHbmXmlTest {
 		}
 	}
 
+	@Test
+	public void testNonStrictlyWithChangedMappingFile(ServiceRegistryScope serviceRegistryScope, @TempDir File binOutputDir)
+			throws Exception {
+		final File changedHbmXmlFile = new File( binOutputDir, hbmXmlFile.getName() );
+		Files.copy( hbmXmlFile.toPath(), changedHbmXmlFile.toPath() );
+		final File binFile = new File( binOutputDir, changedHbmXmlFile.getName() + ".bin" );
+		CacheableFileXmlSource.createSerFile( changedHbmXmlFile, binFile, binder );
+		final byte[] originalBinContent = Files.readAllBytes( binFile.toPath() );
+
+		// change the content, but not so that the bin file looks older than the mapping file
+		Files.write( changedHbmXmlFile.toPath(), "<!-- changed -->".getBytes( StandardCharsets.UTF_8 ), StandardOpenOption.APPEND );
+		changedHbmXmlFile.setLastModified( binFile.lastModified() - 10_000 );
+
+		final StandardServiceRegistry ssr = serviceRegistryScope.getRegistry();
+		new MetadataSources( ssr ).addCacheableFile( changedHbmXmlFile, binOutputDir ).buildMetadata();
+
+		// the mapping file was bound again, and the bin file rewritten with the new digest
+		assertFalse( Arrays.equals( originalBinContent, Files.readAllBytes( binFile.toPath() ) ) );
+	}
+
+	@Test
+	public void testStrictlyWithLegacyFile(ServiceRegistryScope serviceRegistryScope, @TempDir File binOutputDir)
+			throws Exception {
+		// a bin file written by Hibernate 6.3 and earlier only holds the binding
+		final Binding<?> binding = FileXmlSource.doBind(
+				binder,
+				hbmXmlFile,
+				new Origin( SourceType.FILE, hbmXmlFile.getAbsolutePath() )
+		);
+		try ( FileOutputStream fos = new FileOutputStream( new File( binOutputDir, hbmXmlFile.getName() + ".bin" ) ) ) {
+			SerializationHelper.serialize( (Serializable) binding.getRoot(), fos );
+		}
+
+		try {
+			final StandardServiceRegistry ssr = serviceRegistryScope.getRegistry();
+			new MetadataSources( ssr ).addCacheableFileStrictly( hbmXmlFile, binOutputDir ).buildMetadata();
+		}
+		catch (MappingException e) {
+			fail( "addCacheableFileStrictly led to MappingException when bin file had the legacy format" );
+		}
+	}
+
 	@Test
 	public void testNonStrictlyWithExistingFile(ServiceRegistryScope serviceRegistryScope, @TempDir File binOutputDir) {
 		final StandardServiceRegistry ssr = serviceRegistryScope.getRegistry();
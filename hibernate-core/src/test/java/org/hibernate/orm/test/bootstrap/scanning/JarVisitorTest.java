@@ -33,7 +33,10 @@ import org.hibernate.boot.archive.scan.spi.ClassDescriptor;
 import org.hibernate.boot.archive.scan.spi.MappingFileDescriptor;
 import org.hibernate.boot.archive.scan.spi.ScanEnvironment;
 import org.hibernate.boot.archive.scan.spi.ScanResult;
+import org.hibernate.boot.archive.spi.ArchiveContext;
 import org.hibernate.boot.archive.spi.ArchiveDescriptor;
+import org.hibernate.boot.archive.spi.ArchiveEntry;
+import org.hibernate.boot.archive.spi.InputStreamAccess;
 import org.hibernate.dialect.H2Dialect;
 import org.hibernate.orm.test.jpa.pack.defaultpar.Version;
 import org.hibernate.orm.test.jpa.pack.explodedpar.Carpet;
@@ -43,6 +46,8 @@ import org.hibernate.testing.orm.junit.RequiresDialect;
 
 import org.junit.jupiter.api.Test;
 
+import org.jboss.jandex.Index;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -123,6 +128,67 @@ public class JarVisitorTest extends PackagingTestCase {
 		validateResults( result, org.hibernate.orm.test.jpa.pack.defaultpar.ApplicationServer.class, Version.class );
 	}
 
+	@Test
+	public void testInputStreamZippedJarWithJandexIndex() throws Exception {
+		File defaultPar = buildDefaultPar();
+		addPackageToClasspath( defaultPar );
+
+		// Version is categorized from the index, the other classes from their class files
+		ScanResult result = new StandardScanner().scan(
+				new ScanEnvironmentImpl( defaultPar.toURL() ),
+				new StandardScanOptions(),
+				new StandardScanParameters( Index.of( Version.class ) )
+		);
+		validateResults( result, org.hibernate.orm.test.jpa.pack.defaultpar.ApplicationServer.class, Version.class );
+	}
+
+	@Test
+	public void testIndexedClassFileIsNotRead() throws Exception {
+		final ScanResultCollector collector = new ScanResultCollector(
+				new ScanEnvironmentImpl( null ),
+				new StandardScanOptions(),
+				StandardScanParameters.INSTANCE
+		);
+		final ArchiveContext context = new AbstractScannerImpl.ArchiveContextImpl(
+				true,
+				collector,
+				Index.of( Version.class )
+		);
+		final ArchiveEntry entry = new ArchiveEntry() {
+			@Override
+			public String getName() {
+				return getNameWithinArchive();
+			}
+
+			@Override
+			public String getNameWithinArchive() {
+				return Version.class.getName().replace( '.', '/' ) + ".class";
+			}
+
+			@Override
+			public InputStreamAccess getStreamAccess() {
+				return new InputStreamAccess() {
+					@Override
+					public String getStreamName() {
+						return getName();
+					}
+
+					@Override
+					public InputStream accessInputStream() {
+						throw new AssertionError( "Class file of an indexed class should not be read" );
+					}
+				};
+			}
+		};
+		context.obtainArchiveEntryHandler( entry ).handleEntry( entry, context );
+
+		final ScanResult result = collector.toScanResult();
+		assertEquals( 1, result.getLocatedClasses().size() );
+		final ClassDescriptor classDescriptor = result.getLocatedClasses().iterator().next();
+		assertEquals( Version.class.getName(), classDescriptor.getName() );
+		assertEquals( ClassDescriptor.Categorization.MODEL, classDescriptor.getCategorization() );
+	}
+
 	private void validateResults(ScanResult scanResult, Class... expectedClasses) throws IOException {
 		assertEquals( 3, scanResult.getLocatedClasses().size() );
 		for ( Class expectedClass : expectedClasses ) {
@@ -0,0 +1,227 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.bytecode.enhancement.basic;
+
+import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.internal.EnhancedStateAccessOptimizer;
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.engine.spi.PersistentStateAccessible;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.hibernate.testing.util.ReflectionUtil;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.hibernate.testing.junit4.ExtraAssertions.assertTyping;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Tests the state accessors generated for enhanced entities, and their use by the persister.
+ */
+@RunWith( BytecodeEnhancerRunner.class )
+public class PersistentStateAccessTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Book.class, Magazine.class, Article.class };
+	}
+
+	@Test
+	public void testGeneratedAccessors() throws Exception {
+		final String[] attributeNames = (String[]) Book.class
+				.getMethod( EnhancerConstants.STATE_ATTRIBUTE_NAMES_GETTER_NAME )
+				.invoke( null );
+		assertArrayEquals( new String[] { "version", "available", "pages", "title" }, attributeNames );
+
+		final Book book = new Book( 1L, "Hibernate in Action", 400 );
+		assertTyping( PersistentStateAccessible.class, book );
+		final PersistentStateAccessible accessible = (PersistentStateAccessible) book;
+
+		final Object[] state = new Object[4];
+		accessible.$$_hibernate_getState( state );
+		assertArrayEquals( new Object[] { 0, false, 400, "Hibernate in Action" }, state );
+
+		accessible.$$_hibernate_setState( new Object[] { 1, true, LazyPropertyInitializer.UNFETCHED_PROPERTY, "Java Persistence with Hibernate" } );
+		assertEquals( 1, book.version );
+		assertEquals( true, book.available );
+		assertEquals( 400, book.pages );
+		assertEquals( "Java Persistence with Hibernate", book.title );
+	}
+
+	@Test
+	public void testPersisterState() {
+		final EntityPersister persister = sessionFactory().getMappingMetamodel().getEntityDescriptor( Book.class );
+		assertTyping( EnhancedStateAccessOptimizer.class, accessOptimizer( persister ) );
+
+		final Book book = new Book( 1L, "Hibernate in Action", 400 );
+		final Object[] values = persister.getValues( book );
+		final String[] propertyNames = persister.getPropertyNames();
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			assertEquals( persister.getPropertyValue( book, propertyNames[i] ), values[i] );
+		}
+
+		doInHibernate( this::sessionFactory, s -> {
+			s.persist( book );
+		} );
+		doInHibernate( this::sessionFactory, s -> {
+			final Book loaded = s.get( Book.class, 1L );
+			assertEquals( "Hibernate in Action", loaded.title );
+			assertEquals( 400, loaded.pages );
+			assertFalse( loaded.available );
+			loaded.title = "Java Persistence with Hibernate";
+		} );
+		doInHibernate( this::sessionFactory, s -> {
+			final Book loaded = s.get( Book.class, 1L );
+			assertEquals( "Java Persistence with Hibernate", loaded.title );
+			assertEquals( 1, loaded.version );
+		} );
+	}
+
+	@Test
+	public void testPrivateMappedSuperclassFieldFallback() {
+		// the enhanced class cannot read the private field of its superclass
+		assertFalse( PersistentStateAccessible.class.isAssignableFrom( Magazine.class ) );
+		final EntityPersister persister = sessionFactory().getMappingMetamodel().getEntityDescriptor( Magazine.class );
+		assertPerAttributeAccess( persister );
+
+		doInHibernate( this::sessionFactory, s -> {
+			s.persist( new Magazine( 1L, "Hibernate Monthly" ) );
+		} );
+		doInHibernate( this::sessionFactory, s -> {
+			final Magazine loaded = s.get( Magazine.class, 1L );
+			assertEquals( "Hibernate Monthly", loaded.title );
+			loaded.title = "Hibernate Weekly";
+		} );
+		doInHibernate( this::sessionFactory, s -> {
+			final Magazine loaded = s.get( Magazine.class, 1L );
+			assertEquals( "Hibernate Weekly", loaded.title );
+			assertEquals( 1, loaded.getRevision() );
+		} );
+	}
+
+	@Test
+	public void testPropertyAccessFallback() {
+		final EntityPersister persister = sessionFactory().getMappingMetamodel().getEntityDescriptor( Article.class );
+		assertPerAttributeAccess( persister );
+
+		doInHibernate( this::sessionFactory, s -> {
+			final Article article = new Article();
+			article.setId( 1L );
+			article.setTitle( "Bytecode enhancement" );
+			s.persist( article );
+		} );
+		doInHibernate( this::sessionFactory, s -> {
+			final Article loaded = s.get( Article.class, 1L );
+			assertEquals( "Bytecode enhancement", loaded.getTitle() );
+			loaded.setTitle( "Bytecode enhancement in Hibernate" );
+		} );
+		doInHibernate( this::sessionFactory, s -> {
+			assertEquals( "Bytecode enhancement in Hibernate", s.get( Article.class, 1L ).getTitle() );
+		} );
+	}
+
+	private static void assertPerAttributeAccess(EntityPersister persister) {
+		final ReflectionOptimizer.AccessOptimizer accessOptimizer = accessOptimizer( persister );
+		assertFalse( accessOptimizer instanceof EnhancedStateAccessOptimizer );
+	}
+
+	private static ReflectionOptimizer.AccessOptimizer accessOptimizer(EntityPersister persister) {
+		try {
+			return (ReflectionOptimizer.AccessOptimizer) ReflectionUtil.getField( persister.getClass(), "accessOptimizer" )
+					.get( persister );
+		}
+		catch (IllegalAccessException e) {
+			throw new AssertionError( e );
+		}
+	}
+
+	@MappedSuperclass
+	public static abstract class Versioned {
+		@Version
+		int version;
+	}
+
+	@Entity(name = "Book")
+	public static class Book extends Versioned {
+		@Id
+		Long id;
+		String title;
+		int pages;
+		boolean available;
+
+		Book() {
+		}
+
+		Book(Long id, String title, int pages) {
+			this.id = id;
+			this.title = title;
+			this.pages = pages;
+		}
+	}
+
+	@MappedSuperclass
+	public static abstract class PrivateVersioned {
+		@Version
+		private int revision;
+
+		public int getRevision() {
+			return revision;
+		}
+	}
+
+	@Entity(name = "Magazine")
+	public static class Magazine extends PrivateVersioned {
+		@Id
+		Long id;
+		String title;
+
+		Magazine() {
+		}
+
+		Magazine(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Article")
+	@Access(AccessType.PROPERTY)
+	public static class Article {
+		private Long id;
+		private String title;
+
+		@Id
+		public Long getId() {
+			return id;
+		}
+
+		public void setId(Long id) {
+			this.id = id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.event.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.boot.spi.BootstrapPhase;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the events emitted to the JDK Flight Recorder, by reading them back from a recording.
+ */
+@DomainModel(annotatedClasses = JfrEventsTest.Item.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"))
+@SessionFactory
+public class JfrEventsTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testSessionEvents(SessionFactoryScope scope) throws Exception {
+		final String[] sessionIdentifier = new String[1];
+		final List<RecordedEvent> events = record(
+				() -> scope.inTransaction( session -> {
+					sessionIdentifier[0] = session.getSessionIdentifier().toString();
+					session.persist( new Item( 1, "anvil" ) );
+				} ),
+				"org.hibernate.orm.SessionOpen",
+				"org.hibernate.orm.SessionClosed",
+				"org.hibernate.orm.Flush"
+		);
+
+		assertThat( events( events, "org.hibernate.orm.SessionOpen" ) )
+				.extracting( event -> event.getString( "sessionIdentifier" ) )
+				.containsExactly( sessionIdentifier[0] );
+		assertThat( events( events, "org.hibernate.orm.SessionClosed" ) )
+				.extracting( event -> event.getString( "sessionIdentifier" ) )
+				.containsExactly( sessionIdentifier[0] );
+
+		final List<RecordedEvent> flushes = events( events, "org.hibernate.orm.Flush" );
+		assertThat( flushes ).hasSize( 1 );
+		assertThat( flushes.get( 0 ).getInt( "numberOfEntitiesProcessed" ) ).isEqualTo( 1 );
+		assertThat( flushes.get( 0 ).getInt( "numberOfCollectionsProcessed" ) ).isEqualTo( 0 );
+		assertThat( flushes.get( 0 ).getBoolean( "partial" ) ).isFalse();
+	}
+
+	@Test
+	public void testQueryAndJdbcEvents(SessionFactoryScope scope) throws Exception {
+		scope.inTransaction( session -> session.persist( new Item( 1, "anvil" ) ) );
+
+		final String[] sessionIdentifier = new String[1];
+		final List<RecordedEvent> events = record(
+				() -> scope.inSession( session -> {
+					sessionIdentifier[0] = session.getSessionIdentifier().toString();
+					assertThat( session.createSelectionQuery( "from Item", Item.class ).getResultList() ).hasSize( 1 );
+				} ),
+				"org.hibernate.orm.QueryExecution",
+				"org.hibernate.orm.JdbcConnectionAcquisition",
+				"org.hibernate.orm.JdbcConnectionRelease",
+				"org.hibernate.orm.JdbcPreparedStatementCreation",
+				"org.hibernate.orm.JdbcPreparedStatementExecution"
+		);
+
+		final List<RecordedEvent> queries = events( events, "org.hibernate.orm.QueryExecution" );
+		assertThat( queries ).hasSize( 1 );
+		assertThat( queries.get( 0 ).getString( "sessionIdentifier" ) ).isEqualTo( sessionIdentifier[0] );
+		assertThat( queries.get( 0 ).getString( "queryString" ) ).isEqualTo( "from Item" );
+		assertThat( queries.get( 0 ).getString( "sql" ) ).containsIgnoringCase( "select" );
+		assertThat( queries.get( 0 ).getInt( "resultCount" ) ).isEqualTo( 1 );
+
+		assertThat( events( events, "org.hibernate.orm.JdbcConnectionAcquisition" ) ).isNotEmpty();
+		assertThat( events( events, "org.hibernate.orm.JdbcConnectionRelease" ) ).isNotEmpty();
+		assertThat( events( events, "org.hibernate.orm.JdbcPreparedStatementCreation" ) ).hasSize( 1 );
+		assertThat( events( events, "org.hibernate.orm.JdbcPreparedStatementExecution" ) ).hasSize( 1 );
+	}
+
+	@Test
+	public void testLoadAndCacheEvents(SessionFactoryScope scope) throws Exception {
+		scope.inTransaction( session -> session.persist( new Item( 1, "anvil" ) ) );
+		scope.getSessionFactory().getCache().evictAllRegions();
+
+		final List<RecordedEvent> events = record(
+				() -> {
+					// puts the item in the cache
+					scope.inSession( session -> session.createSelectionQuery( "from Item", Item.class ).getResultList() );
+					scope.inSession( session -> {
+						assertThat( session.find( Item.class, 1 ) ).isNotNull();
+						assertThat( session.find( Item.class, 2 ) ).isNull();
+					} );
+				},
+				"org.hibernate.orm.EntityLoad",
+				"org.hibernate.orm.CacheGet",
+				"org.hibernate.orm.CachePut"
+		);
+
+		assertThat( events( events, "org.hibernate.orm.CachePut" ) ).isNotEmpty();
+		assertThat( events( events, "org.hibernate.orm.CacheGet" ) )
+				.extracting( event -> event.getBoolean( "hit" ) )
+				.containsSubsequence( true, false );
+
+		final List<RecordedEvent> loads = events( events, "org.hibernate.orm.EntityLoad" );
+		assertThat( loads ).extracting( event -> event.getString( "entityName" ) )
+				.containsExactly( Item.class.getName(), Item.class.getName() );
+		assertThat( loads ).extracting( event -> event.getBoolean( "found" ) )
+				.containsExactly( true, false );
+		assertThat( loads ).allSatisfy( event -> assertThat( event.getString( "loadType" ) ).isNotEmpty() );
+	}
+
+	@Test
+	public void testBootstrapPhaseEvents() throws Exception {
+		final List<RecordedEvent> events = record(
+				() -> {
+					final StandardServiceRegistry registry = new StandardServiceRegistryBuilder().build();
+					try {
+						new MetadataSources( registry ).addAnnotatedClass( Item.class ).buildMetadata();
+					}
+					finally {
+						StandardServiceRegistryBuilder.destroy( registry );
+					}
+				},
+				"org.hibernate.orm.BootstrapPhase"
+		);
+
+		assertThat( events( events, "org.hibernate.orm.BootstrapPhase" ) )
+				.extracting( event -> event.getString( "phase" ) )
+				.contains( BootstrapPhase.MODEL_BINDING.name(), BootstrapPhase.SECOND_PASSES.name() );
+	}
+
+	private static List<RecordedEvent> record(Runnable action, String... eventNames) throws Exception {
+		final Path file = Files.createTempFile( "hibernate-jfr", ".jfr" );
+		try {
+			try ( Recording recording = new Recording() ) {
+				for ( String eventName : eventNames ) {
+					recording.enable( eventName );
+				}
+				recording.start();
+				action.run();
+				recording.stop();
+				recording.dump( file );
+			}
+			return RecordingFile.readAllEvents( file );
+		}
+		finally {
+			Files.deleteIfExists( file );
+		}
+	}
+
+	private static List<RecordedEvent> events(List<RecordedEvent> events, String eventName) {
+		return events.stream()
+				.filter( event -> event.getEventType().getName().equals( eventName ) )
+				.sorted( Comparator.comparing( RecordedEvent::getStartTime ) )
+				.collect( Collectors.toList() );
+	}
+
+	@Entity(name = "Item")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
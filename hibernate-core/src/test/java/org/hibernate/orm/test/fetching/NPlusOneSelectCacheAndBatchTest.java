@@ -0,0 +1,248 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.fetching;
+
+import java.util.List;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that only the secondary selects which actually hit the database count towards
+ * the N+1 selects threshold, not the loads served by a batch or by the second-level cache.
+ */
+@DomainModel(
+		annotatedClasses = {
+				NPlusOneSelectCacheAndBatchTest.Book.class,
+				NPlusOneSelectCacheAndBatchTest.Publisher.class,
+				NPlusOneSelectCacheAndBatchTest.Author.class,
+				NPlusOneSelectCacheAndBatchTest.Editor.class
+		}
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.N_PLUS_ONE_SELECT_THRESHOLD, value = "2"),
+				@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true")
+		}
+)
+@SessionFactory(generateStatistics = true)
+public class NPlusOneSelectCacheAndBatchTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 4; i++ ) {
+						final Publisher publisher = new Publisher( i, "Publisher " + i );
+						final Author author = new Author( i, "Author " + i );
+						final Editor editor = new Editor( i, "Editor " + i );
+						session.persist( publisher );
+						session.persist( author );
+						session.persist( editor );
+						session.persist( new Book( i, publisher, author, editor ) );
+					}
+				}
+		);
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Book" ).executeUpdate();
+					session.createMutationQuery( "delete from Publisher" ).executeUpdate();
+					session.createMutationQuery( "delete from Author" ).executeUpdate();
+					session.createMutationQuery( "delete from Editor" ).executeUpdate();
+				}
+		);
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testBatchFetchedProxies(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+					statistics.clear();
+					for ( Book book : books ) {
+						assertEquals( "Publisher " + book.getId(), book.getPublisher().getName() );
+					}
+					// the first proxy loads the whole batch
+					assertEquals( 1L, statistics.getPrepareStatementCount() );
+				}
+		);
+		assertEquals( 0L, statistics.getNPlusOneSelectCount() );
+		assertTrue( statistics.getNPlusOneSelects().isEmpty() );
+	}
+
+	@Test
+	public void testCachedProxies(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+					statistics.clear();
+					for ( Book book : books ) {
+						assertEquals( "Author " + book.getId(), book.getAuthor().getName() );
+					}
+					assertEquals( 0L, statistics.getPrepareStatementCount() );
+					assertEquals( 4L, statistics.getSecondLevelCacheHitCount() );
+				}
+		);
+		assertEquals( 0L, statistics.getNPlusOneSelectCount() );
+		assertTrue( statistics.getNPlusOneSelects().isEmpty() );
+	}
+
+	@Test
+	public void testCachedSubsequentSelects(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+					for ( Book book : books ) {
+						assertEquals( "Editor " + book.getId(), book.getEditor().getName() );
+					}
+					// only the query itself hits the database
+					assertEquals( 1L, statistics.getPrepareStatementCount() );
+				}
+		);
+		assertEquals( 0L, statistics.getNPlusOneSelectCount() );
+		assertTrue( statistics.getNPlusOneSelects().isEmpty() );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Publisher publisher;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		@ManyToOne
+		@Fetch(FetchMode.SELECT)
+		private Editor editor;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Publisher publisher, Author author, Editor editor) {
+			this.id = id;
+			this.publisher = publisher;
+			this.author = author;
+			this.editor = editor;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public Publisher getPublisher() {
+			return publisher;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+
+		public Editor getEditor() {
+			return editor;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	@BatchSize(size = 10)
+	public static class Publisher {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Editor")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Editor {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Editor() {
+		}
+
+		public Editor(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
@@ -0,0 +1,236 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.fetching;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DomainModel(
+		annotatedClasses = {
+				NPlusOneSelectDetectionTest.Library.class,
+				NPlusOneSelectDetectionTest.Book.class,
+				NPlusOneSelectDetectionTest.Author.class
+		}
+)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.N_PLUS_ONE_SELECT_THRESHOLD, value = "2"))
+@SessionFactory(generateStatistics = true)
+public class NPlusOneSelectDetectionTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 4; i++ ) {
+						final Library library = new Library( i, "Library " + i );
+						final Author author = new Author( i, "Author " + i );
+						final Book book = new Book( i, "Book " + i, library, author );
+						session.persist( library );
+						session.persist( author );
+						session.persist( book );
+					}
+				}
+		);
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Book" ).executeUpdate();
+					session.createMutationQuery( "delete from Library" ).executeUpdate();
+					session.createMutationQuery( "delete from Author" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testLazyCollections(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final List<Library> libraries = session.createSelectionQuery( "from Library", Library.class )
+							.getResultList();
+					for ( Library library : libraries ) {
+						assertEquals( 1, library.getBooks().size() );
+					}
+				}
+		);
+		assertEquals( 1L, statistics.getNPlusOneSelectCount() );
+		assertEquals( 1L, statistics.getNPlusOneSelects().get( Library.class.getName() + ".books" ) );
+	}
+
+	@Test
+	public void testLazyProxies(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final List<Book> books = session.createSelectionQuery( "from Book", Book.class )
+							.getResultList();
+					for ( Book book : books ) {
+						assertEquals( "Author " + book.getId(), book.getAuthor().getName() );
+					}
+				}
+		);
+		assertEquals( 1L, statistics.getNPlusOneSelectCount() );
+		assertEquals( 1L, statistics.getNPlusOneSelects().get( Author.class.getName() ) );
+	}
+
+	@Test
+	public void testBelowThreshold(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					final List<Library> libraries = session.createSelectionQuery(
+									"from Library where id <= 2",
+									Library.class
+							)
+							.getResultList();
+					for ( Library library : libraries ) {
+						assertEquals( 1, library.getBooks().size() );
+					}
+				}
+		);
+		assertEquals( 0L, statistics.getNPlusOneSelectCount() );
+		assertNull( statistics.getNPlusOneSelects().get( Library.class.getName() + ".books" ) );
+	}
+
+	@Test
+	public void testCountsRestartWithEachQuery(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 4; i++ ) {
+						final Library library = session.createSelectionQuery(
+										"from Library where id = :id",
+										Library.class
+								)
+								.setParameter( "id", i )
+								.getSingleResult();
+						assertEquals( 1, library.getBooks().size() );
+					}
+				}
+		);
+		assertEquals( 0L, statistics.getNPlusOneSelectCount() );
+	}
+
+	@Entity(name = "Library")
+	public static class Library {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "library")
+		private List<Book> books = new ArrayList<>();
+
+		public Library() {
+		}
+
+		public Library(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Library library;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Library library, Author author) {
+			this.id = id;
+			this.title = title;
+			this.library = library;
+			this.author = author;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public Library getLibrary() {
+			return library;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
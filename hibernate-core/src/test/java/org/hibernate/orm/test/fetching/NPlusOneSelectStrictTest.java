@@ -0,0 +1,142 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.fetching;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.PersistenceException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DomainModel(
+		annotatedClasses = {
+				NPlusOneSelectStrictTest.Library.class,
+				NPlusOneSelectStrictTest.Book.class
+		}
+)
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.N_PLUS_ONE_SELECT_THRESHOLD, value = "2"),
+				@Setting(name = AvailableSettings.N_PLUS_ONE_SELECT_STRICT, value = "true")
+		}
+)
+@SessionFactory
+public class NPlusOneSelectStrictTest {
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					for ( int i = 1; i <= 4; i++ ) {
+						final Library library = new Library( i );
+						session.persist( library );
+						session.persist( new Book( i, library ) );
+					}
+				}
+		);
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Book" ).executeUpdate();
+					session.createMutationQuery( "delete from Library" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testThresholdExceeded(SessionFactoryScope scope) {
+		final PersistenceException exception = assertThrows(
+				PersistenceException.class,
+				() -> scope.inTransaction(
+						session -> {
+							final List<Library> libraries = session.createSelectionQuery( "from Library", Library.class )
+									.getResultList();
+							for ( Library library : libraries ) {
+								library.getBooks().size();
+							}
+						}
+				)
+		);
+		assertTrue( exception.getMessage().contains( "N+1 selects detected" ) );
+		assertTrue( exception.getMessage().contains( Library.class.getName() + ".books" ) );
+	}
+
+	@Test
+	public void testThresholdNotExceeded(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Library> libraries = session.createSelectionQuery(
+									"from Library where id <= 2",
+									Library.class
+							)
+							.getResultList();
+					for ( Library library : libraries ) {
+						assertEquals( 1, library.getBooks().size() );
+					}
+				}
+		);
+	}
+
+	@Entity(name = "Library")
+	public static class Library {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "library")
+		private List<Book> books = new ArrayList<>();
+
+		public Library() {
+		}
+
+		public Library(Integer id) {
+			this.id = id;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Library library;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Library library) {
+			this.id = id;
+			this.library = library;
+		}
+	}
+}
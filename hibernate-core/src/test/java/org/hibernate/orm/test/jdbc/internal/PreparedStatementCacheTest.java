@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc.internal;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the reuse of prepared statements enabled by {@value AvailableSettings#STATEMENT_CACHE_SIZE}.
+ */
+@DomainModel(annotatedClasses = PreparedStatementCacheTest.Book.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.STATEMENT_CACHE_SIZE, value = "2"))
+@SessionFactory(generateStatistics = true)
+public class PreparedStatementCacheTest {
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Book" ).executeUpdate() );
+	}
+
+	@Test
+	public void testStatementsAreReusedWithinSession(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				session.persist( new Book( i, "Book " + i ) );
+				session.flush();
+			}
+			for ( int i = 1; i <= 3; i++ ) {
+				assertThat( session.createSelectionQuery( "select title from Book where id = :id", String.class )
+						.setParameter( "id", i )
+						.getSingleResult() ).isEqualTo( "Book " + i );
+			}
+		} );
+
+		// one insert and one select prepared, each reused twice
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 4 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testCachedStatementsAreClosedWithConnection(SessionFactoryScope scope) {
+		final StatisticsImplementor statistics = scope.getSessionFactory().getStatistics();
+
+		scope.inTransaction( session -> session.persist( new Book( 1, "Book 1" ) ) );
+		statistics.clear();
+		scope.inTransaction( session -> session.persist( new Book( 2, "Book 2" ) ) );
+
+		assertThat( statistics.getPreparedStatementCacheHitCount() ).isEqualTo( 0 );
+		assertThat( statistics.getPreparedStatementCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
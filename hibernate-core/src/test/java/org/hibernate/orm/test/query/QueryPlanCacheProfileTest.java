@@ -0,0 +1,89 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the warm-up of the query interpretation cache from the queries recorded in the
+ * {@value AvailableSettings#QUERY_PLAN_CACHE_PROFILE} by a previous {@code SessionFactory}.
+ */
+public class QueryPlanCacheProfileTest {
+	private static final String BY_TITLE = "from Book\nwhere title = :title";
+	private static final String TITLES = "select title from Book";
+
+	@Test
+	public void testRecordedQueriesAreCompiledAtStartup(@TempDir Path tempDir) throws Exception {
+		final Path profile = tempDir.resolve( "query-plan-cache.profile" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( profile ) ) {
+			assertThat( sessionFactory.getQueryEngine().getInterpretationCacheWarmUp().toCompletableFuture() ).isDone();
+			assertThat( interpretationCache( sessionFactory ).getNumberOfCachedHqlInterpretations() ).isEqualTo( 0 );
+			sessionFactory.inSession( session -> {
+				session.createSelectionQuery( BY_TITLE, Book.class );
+				session.createSelectionQuery( TITLES );
+			} );
+		}
+		assertThat( Files.readAllLines( profile ) ).hasSize( 2 );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( profile ) ) {
+			sessionFactory.getQueryEngine().getInterpretationCacheWarmUp().toCompletableFuture().get( 30, TimeUnit.SECONDS );
+			final QueryInterpretationCache interpretationCache = interpretationCache( sessionFactory );
+			assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 2 );
+
+			sessionFactory.inSession( session -> {
+				session.createSelectionQuery( BY_TITLE, Book.class );
+				session.createSelectionQuery( TITLES );
+			} );
+			assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 2 );
+		}
+	}
+
+	private static QueryInterpretationCache interpretationCache(SessionFactoryImplementor sessionFactory) {
+		return sessionFactory.getQueryEngine().getInterpretationCache();
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(Path profile) {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.QUERY_PLAN_CACHE_PROFILE, profile.toString() )
+				.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.query.named;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.NamedQuery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the named HQL queries recorded by
+ * {@value AvailableSettings#QUERY_STARTUP_CHECK_MANIFEST} are not checked again.
+ */
+public class NamedQueryValidationManifestTest {
+
+	private static final String SHELF_WITH_STRING_LABELS = "org/hibernate/orm/test/query/named/Shelf-string-labels.hbm.xml";
+	private static final String SHELF_WITH_INTEGER_LABELS = "org/hibernate/orm/test/query/named/Shelf-integer-labels.hbm.xml";
+
+	@Test
+	public void testCheckedQueriesAreSkipped(@TempDir Path tempDir) throws Exception {
+		final Path manifest = tempDir.resolve( "named-queries.manifest" );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( manifest, Book.class ) ) {
+			assertThat( interpretationCache( sessionFactory ).getNumberOfCachedHqlInterpretations() ).isEqualTo( 2 );
+		}
+		assertThat( Files.readAllLines( manifest ) ).filteredOn( line -> !line.startsWith( "#" ) ).hasSize( 2 );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( manifest, Book.class ) ) {
+			final QueryInterpretationCache interpretationCache = interpretationCache( sessionFactory );
+			assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 0 );
+
+			sessionFactory.inSession( session -> session.createNamedQuery( "Book.byTitle", Book.class ) );
+			assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void testChangedModelInvalidatesManifest(@TempDir Path tempDir) throws Exception {
+		final Path manifest = tempDir.resolve( "named-queries.manifest" );
+
+		buildSessionFactory( manifest, Book.class ).close();
+		final String firstManifest = Files.readString( manifest );
+
+		try ( SessionFactoryImplementor sessionFactory = buildSessionFactory( manifest, Book.class, Author.class ) ) {
+			assertThat( interpretationCache( sessionFactory ).getNumberOfCachedHqlInterpretations() ).isEqualTo( 2 );
+		}
+		assertThat( Files.readString( manifest ) ).isNotEqualTo( firstManifest );
+	}
+
+	@Test
+	public void testChangedCollectionElementTypeInvalidatesManifest(@TempDir Path tempDir) throws Exception {
+		final Path manifest = tempDir.resolve( "named-queries.manifest" );
+
+		buildSessionFactory( manifest, false, sources -> sources.addResource( SHELF_WITH_STRING_LABELS ) ).close();
+		final String firstManifest = Files.readString( manifest );
+
+		// only the element type of the collection changes, not the Java type of the attribute
+		try ( SessionFactoryImplementor sessionFactory =
+					buildSessionFactory( manifest, false, sources -> sources.addResource( SHELF_WITH_INTEGER_LABELS ) ) ) {
+			assertThat( interpretationCache( sessionFactory ).getNumberOfCachedHqlInterpretations() ).isEqualTo( 1 );
+		}
+		assertThat( Files.readString( manifest ) ).isNotEqualTo( firstManifest );
+	}
+
+	@Test
+	public void testChangedQueryComplianceInvalidatesManifest(@TempDir Path tempDir) throws Exception {
+		final Path manifest = tempDir.resolve( "named-queries.manifest" );
+
+		buildSessionFactory( manifest, Magazine.class ).close();
+		final String firstManifest = Files.readString( manifest );
+
+		try ( SessionFactoryImplementor sessionFactory =
+					buildSessionFactory( manifest, true, sources -> sources.addAnnotatedClass( Magazine.class ) ) ) {
+			assertThat( interpretationCache( sessionFactory ).getNumberOfCachedHqlInterpretations() ).isEqualTo( 1 );
+		}
+		assertThat( Files.readString( manifest ) ).isNotEqualTo( firstManifest );
+	}
+
+	private static QueryInterpretationCache interpretationCache(SessionFactoryImplementor sessionFactory) {
+		return sessionFactory.getQueryEngine().getInterpretationCache();
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(Path manifest, Class<?>... annotatedClasses) {
+		return buildSessionFactory(
+				manifest,
+				false,
+				sources -> {
+					for ( Class<?> annotatedClass : annotatedClasses ) {
+						sources.addAnnotatedClass( annotatedClass );
+					}
+				}
+		);
+	}
+
+	private static SessionFactoryImplementor buildSessionFactory(
+			Path manifest,
+			boolean queryCompliance,
+			Consumer<MetadataSources> mappings) {
+		final StandardServiceRegistry serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.QUERY_STARTUP_CHECK_MANIFEST, manifest.toString() )
+				.applySetting( AvailableSettings.JPA_QUERY_COMPLIANCE, queryCompliance )
+				.build();
+		try {
+			final MetadataSources metadataSources = new MetadataSources( serviceRegistry );
+			mappings.accept( metadataSources );
+			return (SessionFactoryImplementor) metadataSources.buildMetadata().buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+			throw e;
+		}
+	}
+
+	@Entity(name = "Book")
+	@NamedQuery(name = "Book.byTitle", query = "from Book where title = :title")
+	@NamedQuery(name = "Book.count", query = "select count(*) from Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+	}
+
+	@Entity(name = "Magazine")
+	@NamedQuery(name = "Magazine.byTitle", query = "select m from Magazine m where m.title = :title")
+	public static class Magazine {
+		@Id
+		private Integer id;
+		private String title;
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+	}
+}
@@ -0,0 +1,451 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.orm.test.sql.results;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ScrollableResults;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.results.graph.AssemblerCreationState;
+import org.hibernate.sql.results.graph.DomainResult;
+import org.hibernate.sql.results.graph.DomainResultAssembler;
+import org.hibernate.sql.results.internal.StandardRowReader;
+import org.hibernate.sql.results.jdbc.internal.JdbcValuesMappingProducerProviderStandard;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMapping;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducer;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMappingProducerProvider;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesMetadata;
+import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
+import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
+import org.hibernate.sql.results.spi.RowReader;
+import org.hibernate.type.descriptor.java.JavaType;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the results of {@link org.hibernate.sql.results.internal.StandardRowReader}
+ * for the different shapes of rows it handles specially, and that the row reader
+ * actually takes the path meant for each shape.
+ */
+@DomainModel(annotatedClasses = { RowReaderShapeTests.Vendor.class, RowReaderShapeTests.Product.class })
+@ServiceRegistry(services = @ServiceRegistry.Service(
+		role = JdbcValuesMappingProducerProvider.class,
+		impl = RowReaderShapeTests.RowReaderCapturingProvider.class
+))
+@SessionFactory
+public class RowReaderShapeTests {
+
+	private static RowReader<?> capturedRowReader;
+
+	@BeforeEach
+	public void setUp(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final Vendor vendor = new Vendor( 1, "Acme" );
+					session.persist( vendor );
+					session.persist( new Product( 1, "anvil", 100, vendor ) );
+					session.persist( new Product( 2, "rocket", 250, vendor ) );
+				}
+		);
+		capturedRowReader = null;
+	}
+
+	@AfterEach
+	public void tearDown(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					session.createMutationQuery( "delete from Product" ).executeUpdate();
+					session.createMutationQuery( "delete from Vendor" ).executeUpdate();
+				}
+		);
+	}
+
+	// flat projections, which have no initializers
+
+	@Test
+	public void testScalarTuple(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Object[]> rows = session.createSelectionQuery(
+									"select p.name, p.price from Product p order by p.id",
+									Object[].class
+							)
+							.getResultList();
+					assertThat( rows ).hasSize( 2 );
+					assertThat( rows.get( 0 ) ).containsExactly( "anvil", 100 );
+					assertThat( rows.get( 1 ) ).containsExactly( "rocket", 250 );
+					assertFlatRows();
+					assertThat( rowReader().isSingleResultPassThrough() ).isFalse();
+				}
+		);
+	}
+
+	@Test
+	public void testDynamicInstantiation(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<ProductSummary> rows = session.createSelectionQuery(
+									"select new " + ProductSummary.class.getName() + "( p.name, p.price ) from Product p order by p.id",
+									ProductSummary.class
+							)
+							.getResultList();
+					assertThat( rows ).extracting( ProductSummary::getName ).containsExactly( "anvil", "rocket" );
+					assertThat( rows ).extracting( ProductSummary::getPrice ).containsExactly( 100, 250 );
+					assertFlatRows();
+					// the instantiation is the single result of the row
+					assertThat( rowReader().isSingleResultPassThrough() ).isTrue();
+				}
+		);
+	}
+
+	@Test
+	public void testJpaTuple(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Tuple> rows = session.createQuery(
+									"select p.name as name, p.price as price from Product p order by p.id",
+									Tuple.class
+							)
+							.getResultList();
+					assertThat( rows ).hasSize( 2 );
+					assertThat( rows.get( 0 ).get( "name" ) ).isEqualTo( "anvil" );
+					assertThat( rows.get( 1 ).get( "price" ) ).isEqualTo( 250 );
+					assertFlatRows();
+					assertThat( rowReader().isSingleResultPassThrough() ).isFalse();
+				}
+		);
+	}
+
+	@Test
+	public void testMap(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Map> rows = session.createSelectionQuery(
+									"select p.name as name, p.price as price from Product p order by p.id",
+									Map.class
+							)
+							.getResultList();
+					assertThat( rows ).hasSize( 2 );
+					assertThat( rows.get( 0 ) ).containsEntry( "name", "anvil" ).containsEntry( "price", 100 );
+					assertFlatRows();
+					assertThat( rowReader().isSingleResultPassThrough() ).isFalse();
+				}
+		);
+	}
+
+	@Test
+	public void testFlatProjectionWithEntityResult(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					// mixes a scalar with an entity, which does have initializers
+					final List<Object[]> rows = session.createSelectionQuery(
+									"select p.name, v from Product p join p.vendor v order by p.id",
+									Object[].class
+							)
+							.getResultList();
+					assertThat( rows ).hasSize( 2 );
+					assertThat( rows.get( 0 )[0] ).isEqualTo( "anvil" );
+					assertThat( ( (Vendor) rows.get( 0 )[1] ).getName() ).isEqualTo( "Acme" );
+					assertThat( rows.get( 1 )[1] ).isSameAs( rows.get( 0 )[1] );
+					assertThat( rowReader().getInitializersList().isEmpty() ).isFalse();
+					assertThat( rowReader().isSingleResultPassThrough() ).isFalse();
+				}
+		);
+	}
+
+	// single results, returned without building the row array
+
+	@Test
+	public void testSingleScalarStandardTransformer(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					// no result type, so RowTransformerStandardImpl
+					final List<?> rows = session.createQuery( "select p.name from Product p order by p.id" )
+							.getResultList();
+					assertThat( rows ).containsExactly( "anvil", "rocket" );
+					assertFlatRows();
+					assertThat( rowReader().isSingleResultPassThrough() ).isTrue();
+				}
+		);
+	}
+
+	@Test
+	public void testSingleEntityStandardTransformer(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<?> rows = session.createQuery( "from Product p join fetch p.vendor order by p.id" )
+							.getResultList();
+					assertThat( rows ).hasSize( 2 );
+					assertThat( rows ).allSatisfy( row -> assertThat( row ).isInstanceOf( Product.class ) );
+					assertThat( ( (Product) rows.get( 0 ) ).getVendor().getName() ).isEqualTo( "Acme" );
+					assertThat( rowReader().getInitializersList().isEmpty() ).isFalse();
+					assertThat( rowReader().isSingleResultPassThrough() ).isTrue();
+				}
+		);
+	}
+
+	@Test
+	public void testSingleScalarSingularReturnTransformer(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					// an explicit result type, so RowTransformerSingularReturnImpl
+					final List<Integer> rows = session.createSelectionQuery(
+									"select p.price from Product p order by p.id",
+									Integer.class
+							)
+							.getResultList();
+					assertThat( rows ).containsExactly( 100, 250 );
+					assertFlatRows();
+					assertThat( rowReader().isSingleResultPassThrough() ).isTrue();
+				}
+		);
+	}
+
+	@Test
+	public void testSingleEntitySingularReturnTransformer(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					final List<Product> rows = session.createSelectionQuery(
+									"from Product p join fetch p.vendor order by p.id",
+									Product.class
+							)
+							.getResultList();
+					assertThat( rows ).extracting( Product::getName ).containsExactly( "anvil", "rocket" );
+					assertThat( rows.get( 0 ).getVendor() ).isSameAs( rows.get( 1 ).getVendor() );
+					assertThat( rowReader().getInitializersList().isEmpty() ).isFalse();
+					assertThat( rowReader().isSingleResultPassThrough() ).isTrue();
+				}
+		);
+	}
+
+	@Test
+	public void testSingleResultKeepsArrayForArrayResultType(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					// RowTransformerArrayImpl must still see the row array
+					final List<Object[]> rows = session.createSelectionQuery(
+									"select p.name from Product p order by p.id",
+									Object[].class
+							)
+							.getResultList();
+					assertThat( rows ).hasSize( 2 );
+					assertThat( rows.get( 0 ) ).containsExactly( "anvil" );
+					assertThat( rowReader().isSingleResultPassThrough() ).isFalse();
+				}
+		);
+	}
+
+	@Test
+	public void testSingleResultScroll(SessionFactoryScope scope) {
+		scope.inTransaction(
+				session -> {
+					try ( ScrollableResults<String> results = session.createSelectionQuery(
+									"select p.name from Product p order by p.id",
+									String.class
+							)
+							.scroll() ) {
+						assertThat( results.next() ).isTrue();
+						assertThat( results.get() ).isEqualTo( "anvil" );
+						assertThat( results.next() ).isTrue();
+						assertThat( results.get() ).isEqualTo( "rocket" );
+						assertThat( results.next() ).isFalse();
+						assertThat( rowReader().isSingleResultPassThrough() ).isTrue();
+					}
+				}
+		);
+	}
+
+	private static StandardRowReader<?> rowReader() {
+		assertThat( capturedRowReader ).isInstanceOf( StandardRowReader.class );
+		return (StandardRowReader<?>) capturedRowReader;
+	}
+
+	private static void assertFlatRows() {
+		// no initializers, so no per-row initializer coordination
+		assertThat( rowReader().getInitializersList().isEmpty() ).isTrue();
+	}
+
+	/**
+	 * Wraps the top-level assemblers, so that the tests can get hold of the row reader using them.
+	 */
+	public static class RowReaderCapturingProvider extends JdbcValuesMappingProducerProviderStandard {
+		@Override
+		public JdbcValuesMappingProducer buildMappingProducer(
+				SelectStatement sqlAst,
+				SessionFactoryImplementor sessionFactory) {
+			final JdbcValuesMappingProducer producer = super.buildMappingProducer( sqlAst, sessionFactory );
+			return new JdbcValuesMappingProducer() {
+				@Override
+				public JdbcValuesMapping resolve(
+						JdbcValuesMetadata jdbcResultsMetadata,
+						LoadQueryInfluencers loadQueryInfluencers,
+						SessionFactoryImplementor sessionFactory) {
+					return new RowReaderCapturingMapping(
+							producer.resolve( jdbcResultsMetadata, loadQueryInfluencers, sessionFactory )
+					);
+				}
+
+				@Override
+				public void addAffectedTableNames(Set<String> affectedTableNames, SessionFactoryImplementor sessionFactory) {
+					producer.addAffectedTableNames( affectedTableNames, sessionFactory );
+				}
+			};
+		}
+	}
+
+	private static class RowReaderCapturingMapping implements JdbcValuesMapping {
+		private final JdbcValuesMapping delegate;
+
+		private RowReaderCapturingMapping(JdbcValuesMapping delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public List<SqlSelection> getSqlSelections() {
+			return delegate.getSqlSelections();
+		}
+
+		@Override
+		public int getRowSize() {
+			return delegate.getRowSize();
+		}
+
+		@Override
+		public List<DomainResult<?>> getDomainResults() {
+			return delegate.getDomainResults();
+		}
+
+		@Override
+		public List<DomainResultAssembler<?>> resolveAssemblers(AssemblerCreationState creationState) {
+			final List<DomainResultAssembler<?>> assemblers = delegate.resolveAssemblers( creationState );
+			final List<DomainResultAssembler<?>> capturingAssemblers = new ArrayList<>( assemblers.size() );
+			for ( DomainResultAssembler<?> assembler : assemblers ) {
+				capturingAssemblers.add( new RowReaderCapturingAssembler<>( assembler ) );
+			}
+			return capturingAssemblers;
+		}
+	}
+
+	private static class RowReaderCapturingAssembler<J> implements DomainResultAssembler<J> {
+		private final DomainResultAssembler<J> delegate;
+
+		private RowReaderCapturingAssembler(DomainResultAssembler<J> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public J assemble(RowProcessingState rowProcessingState, JdbcValuesSourceProcessingOptions options) {
+			capturedRowReader = rowProcessingState.getRowReader();
+			return delegate.assemble( rowProcessingState, options );
+		}
+
+		@Override
+		public JavaType<J> getAssembledJavaType() {
+			return delegate.getAssembledJavaType();
+		}
+	}
+
+	@Entity(name = "Vendor")
+	public static class Vendor {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Vendor() {
+		}
+
+		public Vendor(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private Integer price;
+
+		@ManyToOne
+		private Vendor vendor;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, Integer price, Vendor vendor) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+			this.vendor = vendor;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Integer getPrice() {
+			return price;
+		}
+
+		public Vendor getVendor() {
+			return vendor;
+		}
+	}
+
+	public static class ProductSummary {
+		private final String name;
+		private final Integer price;
+
+		public ProductSummary(String name, Integer price) {
+			this.name = name;
+			this.price = price;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Integer getPrice() {
+			return price;
+		}
+	}
+}
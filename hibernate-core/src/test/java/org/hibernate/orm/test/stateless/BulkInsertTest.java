@@ -0,0 +1,331 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLCopyBulkInsertStrategy;
+import org.hibernate.engine.jdbc.bulk.spi.BulkInsertStrategy;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.DiscriminatorColumn;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Runs the {@code copy} based bulk insert against H2, using a stand-in
+ * for the PostgreSQL driver which decodes the text format of
+ * {@code copy} and inserts the rows using plain JDBC.
+ */
+@RequiresDialect(H2Dialect.class)
+@ServiceRegistry(
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.DIALECT,
+				provider = BulkInsertTest.DialectProvider.class
+		)
+)
+@SessionFactory
+@DomainModel(annotatedClasses = {
+		BulkInsertTest.Measurement.class,
+		BulkInsertTest.Note.class,
+		BulkInsertTest.Reading.class
+})
+public class BulkInsertTest {
+
+	private static final AtomicInteger copiedRows = new AtomicInteger();
+
+	@BeforeEach
+	public void reset() {
+		copiedRows.set( 0 );
+	}
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( s -> {
+			s.createMutationQuery( "delete from Measurement" ).executeUpdate();
+			s.createMutationQuery( "delete from Note" ).executeUpdate();
+			s.createMutationQuery( "delete from Reading" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBulkInsert(SessionFactoryScope scope) {
+		final List<Measurement> measurements = new ArrayList<>();
+		for ( long id = 0; id < 100; id++ ) {
+			measurements.add( new Measurement(
+					id,
+					"sensor\t" + id + "\n\\",
+					id % 3 == 0 ? null : (int) id,
+					LocalDate.of( 2023, 1, 1 ).plusDays( id ),
+					id % 2 == 0,
+					Unit.values()[(int) ( id % 3 )],
+					new byte[] { (byte) id, (byte) 0xFF }
+			) );
+		}
+
+		scope.inStatelessTransaction( s -> s.bulkInsert( measurements ) );
+		assertEquals( 100, copiedRows.get() );
+
+		scope.inStatelessTransaction( s -> {
+			for ( long id = 0; id < 100; id++ ) {
+				final Measurement measurement = s.get( Measurement.class, id );
+				assertEquals( "sensor\t" + id + "\n\\", measurement.sensor );
+				if ( id % 3 == 0 ) {
+					assertNull( measurement.reading );
+				}
+				else {
+					assertEquals( Integer.valueOf( (int) id ), measurement.reading );
+				}
+				assertEquals( LocalDate.of( 2023, 1, 1 ).plusDays( id ), measurement.takenOn );
+				assertEquals( id % 2 == 0, measurement.valid );
+				assertEquals( Unit.values()[(int) ( id % 3 )], measurement.unit );
+				assertArrayEquals( new byte[] { (byte) id, (byte) 0xFF }, measurement.raw );
+				assertEquals( 0, measurement.version );
+			}
+		} );
+	}
+
+	@Test
+	public void testFallbackToBatchedInserts(SessionFactoryScope scope) {
+		final List<Object> entities = new ArrayList<>();
+		for ( long id = 0; id < 10; id++ ) {
+			entities.add( new Note( "note " + id ) );
+			entities.add( new Measurement( id, "sensor " + id, null, null, true, Unit.KELVIN, null ) );
+		}
+
+		scope.inStatelessTransaction( s -> s.bulkInsert( entities ) );
+		// identity columns are not bulk loaded
+		assertEquals( 10, copiedRows.get() );
+
+		scope.inStatelessTransaction( s -> {
+			for ( Object entity : entities ) {
+				if ( entity instanceof Note ) {
+					final Note note = (Note) entity;
+					assertNotNull( note.id );
+					assertEquals( note.text, s.get( Note.class, note.id ).text );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testDiscriminatorColumnIsInserted(SessionFactoryScope scope) {
+		final List<Reading> readings = new ArrayList<>();
+		for ( long id = 0; id < 10; id++ ) {
+			readings.add( new Reading( id, (int) id ) );
+		}
+
+		scope.inStatelessTransaction( s -> s.bulkInsert( readings ) );
+		// entities with a discriminator column are written using insert statements
+		assertEquals( 0, copiedRows.get() );
+
+		scope.inStatelessTransaction( s -> {
+			final List<?> kinds = s.createNativeQuery( "select kind from Reading" ).getResultList();
+			assertEquals( 10, kinds.size() );
+			for ( Object kind : kinds ) {
+				assertEquals( "R", kind );
+			}
+			assertEquals( Integer.valueOf( 5 ), s.get( Reading.class, 5L ).reading );
+		} );
+	}
+
+	public static class DialectProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return BulkCopyH2Dialect.class.getName();
+		}
+	}
+
+	public static class BulkCopyH2Dialect extends H2Dialect {
+		private final BulkInsertStrategy bulkInsertStrategy =
+				new PostgreSQLCopyBulkInsertStrategy( BulkCopyH2Dialect::copyIn );
+
+		public BulkCopyH2Dialect() {
+		}
+
+		@Override
+		public BulkInsertStrategy getBulkInsertStrategy() {
+			return bulkInsertStrategy;
+		}
+
+		private static final Pattern COPY = Pattern.compile( "copy (\\S+) \\((.*)\\) from stdin" );
+
+		private static long copyIn(Connection connection, String sql, Reader data) throws SQLException {
+			final Matcher matcher = COPY.matcher( sql );
+			if ( !matcher.matches() ) {
+				throw new SQLException( "Unexpected statement: " + sql );
+			}
+			final int columnCount = matcher.group( 2 ).split( ", " ).length;
+			final StringBuilder insert = new StringBuilder( "insert into " )
+					.append( matcher.group( 1 ) )
+					.append( " (" )
+					.append( matcher.group( 2 ) )
+					.append( ") values (?" );
+			for ( int i = 1; i < columnCount; i++ ) {
+				insert.append( ",?" );
+			}
+			insert.append( ')' );
+
+			long rowCount = 0;
+			try ( PreparedStatement statement = connection.prepareStatement( insert.toString() ) ) {
+				final BufferedReader reader = new BufferedReader( data );
+				String line;
+				while ( ( line = reader.readLine() ) != null ) {
+					final String[] fields = line.split( "\t", -1 );
+					assertEquals( columnCount, fields.length );
+					for ( int i = 0; i < columnCount; i++ ) {
+						statement.setObject( i + 1, decode( fields[i] ) );
+					}
+					statement.executeUpdate();
+					rowCount++;
+				}
+			}
+			catch (IOException e) {
+				throw new SQLException( e );
+			}
+			copiedRows.addAndGet( (int) rowCount );
+			return rowCount;
+		}
+
+		private static Object decode(String field) {
+			if ( "\\N".equals( field ) ) {
+				return null;
+			}
+			final StringBuilder value = new StringBuilder();
+			for ( int i = 0; i < field.length(); i++ ) {
+				final char c = field.charAt( i );
+				if ( c == '\\' ) {
+					final char escaped = field.charAt( ++i );
+					value.append( escaped == 't' ? '\t' : escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped );
+				}
+				else {
+					value.append( c );
+				}
+			}
+			final String text = value.toString();
+			if ( text.startsWith( "\\x" ) ) {
+				final byte[] bytes = new byte[( text.length() - 2 ) / 2];
+				for ( int i = 0; i < bytes.length; i++ ) {
+					bytes[i] = (byte) Integer.parseInt( text.substring( 2 + 2 * i, 4 + 2 * i ), 16 );
+				}
+				return bytes;
+			}
+			switch ( text ) {
+				case "t":
+					return true;
+				case "f":
+					return false;
+				default:
+					return text;
+			}
+		}
+	}
+
+	public enum Unit {
+		CELSIUS, FAHRENHEIT, KELVIN
+	}
+
+	@Entity(name = "Measurement")
+	static class Measurement {
+		@Id
+		Long id;
+		String sensor;
+		Integer reading;
+		LocalDate takenOn;
+		boolean valid;
+		@Enumerated(EnumType.ORDINAL)
+		Unit unit;
+		byte[] raw;
+		@Version
+		int version;
+
+		Measurement(
+				Long id,
+				String sensor,
+				Integer reading,
+				LocalDate takenOn,
+				boolean valid,
+				Unit unit,
+				byte[] raw) {
+			this.id = id;
+			this.sensor = sensor;
+			this.reading = reading;
+			this.takenOn = takenOn;
+			this.valid = valid;
+			this.unit = unit;
+			this.raw = raw;
+		}
+
+		Measurement() {
+		}
+	}
+
+	@Entity(name = "Note")
+	static class Note {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		Long id;
+		String text;
+
+		Note(String text) {
+			this.text = text;
+		}
+
+		Note() {
+		}
+	}
+
+	@Entity(name = "Reading")
+	@DiscriminatorColumn(name = "kind")
+	@DiscriminatorValue("R")
+	static class Reading {
+		@Id
+		Long id;
+		Integer reading;
+
+		Reading(Long id, Integer reading) {
+			this.id = id;
+			this.reading = reading;
+		}
+
+		Reading() {
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@ServiceRegistry(
+		settings = {
+				@Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "3"),
+				@Setting(name = AvailableSettings.ORDER_INSERTS, value = "true"),
+				@Setting(name = AvailableSettings.ORDER_UPDATES, value = "true")
+		}
+)
+@SessionFactory
+@DomainModel(annotatedClasses = {
+		StatelessSessionMultipleOperationsTest.Book.class,
+		StatelessSessionMultipleOperationsTest.Author.class
+})
+public class StatelessSessionMultipleOperationsTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( s -> {
+			s.createMutationQuery( "delete from Book" ).executeUpdate();
+			s.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertUpdateDeleteMultiple(SessionFactoryScope scope) {
+		final List<Object> entities = new ArrayList<>();
+		for ( long id = 0; id < 10; id++ ) {
+			entities.add( new Book( id, "Book " + id ) );
+			entities.add( new Author( id, "Author " + id ) );
+		}
+
+		scope.inStatelessTransaction( s -> s.insertMultiple( entities ) );
+		scope.inStatelessTransaction( s -> {
+			for ( long id = 0; id < 10; id++ ) {
+				assertEquals( "Book " + id, s.get( Book.class, id ).title );
+				assertEquals( 0, s.get( Book.class, id ).version );
+				assertEquals( "Author " + id, s.get( Author.class, id ).name );
+			}
+		} );
+
+		for ( Object entity : entities ) {
+			if ( entity instanceof Book ) {
+				( (Book) entity ).title += " (2nd edition)";
+			}
+			else {
+				( (Author) entity ).name += " Jr.";
+			}
+		}
+		scope.inStatelessTransaction( s -> s.updateMultiple( entities ) );
+		scope.inStatelessTransaction( s -> {
+			for ( long id = 0; id < 10; id++ ) {
+				assertEquals( "Book " + id + " (2nd edition)", s.get( Book.class, id ).title );
+				assertEquals( 1, s.get( Book.class, id ).version );
+				assertEquals( "Author " + id + " Jr.", s.get( Author.class, id ).name );
+			}
+		} );
+
+		scope.inStatelessTransaction( s -> s.deleteMultiple( entities.subList( 0, 10 ) ) );
+		scope.inStatelessTransaction( s -> {
+			for ( long id = 0; id < 5; id++ ) {
+				assertNull( s.get( Book.class, id ) );
+				assertNull( s.get( Author.class, id ) );
+			}
+			for ( long id = 5; id < 10; id++ ) {
+				assertEquals( 1, s.get( Book.class, id ).version );
+				assertEquals( "Author " + id + " Jr.", s.get( Author.class, id ).name );
+			}
+		} );
+	}
+
+	@Entity(name = "Book")
+	static class Book {
+		@Id
+		Long id;
+		String title;
+		@Version
+		int version;
+
+		Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		Book() {
+		}
+	}
+
+	@Entity(name = "Author")
+	static class Author {
+		@Id
+		Long id;
+		String name;
+
+		Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		Author() {
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.STATEMENT_BATCH_SIZE, value = "5"))
+@SessionFactory
+@DomainModel(annotatedClasses = UpsertMultipleTest.Record.class)
+public class UpsertMultipleTest {
+
+	@AfterEach
+	public void cleanup(SessionFactoryScope scope) {
+		scope.inTransaction( s -> s.createMutationQuery( "delete from Record" ).executeUpdate() );
+	}
+
+	@Test
+	public void testUpsertMultiple(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( s -> s.upsertMultiple( records( 12, "hello" ) ) );
+		scope.inStatelessTransaction( s -> {
+			for ( long id = 0; id < 12; id++ ) {
+				assertEquals( "hello " + id, s.get( Record.class, id ).message );
+			}
+		} );
+
+		scope.inStatelessTransaction( s -> s.upsertMultiple( records( 17, "goodbye" ) ) );
+		scope.inStatelessTransaction( s -> {
+			for ( long id = 0; id < 17; id++ ) {
+				assertEquals( "goodbye " + id, s.get( Record.class, id ).message );
+			}
+		} );
+	}
+
+	@Test
+	public void testUpdateThenUpsert(SessionFactoryScope scope) {
+		scope.inStatelessTransaction( s -> s.upsertMultiple( records( 3, "hello" ) ) );
+		scope.inStatelessTransaction( s -> {
+			// the update and the merge must not end up in the same batch
+			s.update( new Record( 0L, "updated" ) );
+			s.upsert( new Record( 1L, "merged" ) );
+			s.upsert( new Record( 3L, "inserted" ) );
+		} );
+		scope.inStatelessTransaction( s -> {
+			assertEquals( "updated", s.get( Record.class, 0L ).message );
+			assertEquals( "merged", s.get( Record.class, 1L ).message );
+			assertEquals( "hello 2", s.get( Record.class, 2L ).message );
+			assertEquals( "inserted", s.get( Record.class, 3L ).message );
+		} );
+	}
+
+	private static List<Record> records(int count, String message) {
+		final List<Record> records = new ArrayList<>( count );
+		for ( long id = 0; id < count; id++ ) {
+			records.add( new Record( id, message + " " + id ) );
+		}
+		return records;
+	}
+
+	@Entity(name = "Record")
+	static class Record {
+		@Id
+		Long id;
+		String message;
+
+		Record(Long id, String message) {
+			this.id = id;
+			this.message = message;
+		}
+
+		Record() {
+		}
+	}
+}
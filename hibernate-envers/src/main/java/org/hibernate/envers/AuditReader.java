@@ -148,6 +148,51 @@ public interface AuditReader {
 			Number revision, boolean includeDeletions) throws IllegalArgumentException,
 			NotAuditedException, IllegalStateException;
 
+	/**
+	 * Find several entities by primary key at the given revision. The entities are loaded by
+	 * a few queries, each restricted to a chunk of the given primary keys, instead of a query
+	 * per entity.
+	 *
+	 * @param cls Class of the entities.
+	 * @param primaryKeys Primary keys of the entities.
+	 * @param revision Revision in which to get the entities.
+	 * @param <T> The type of the entities to find
+	 *
+	 * @return A list with an element for each of the given primary keys, in the same order: the found entity
+	 *         instance at the given revision, or null, if an entity with that id didn't exist at that revision.
+	 *
+	 * @throws IllegalArgumentException If cls or primaryKeys is null or revision is less or equal to 0.
+	 * @throws NotAuditedException When entities of the given class are not audited.
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 *
+	 * @since 6.4
+	 */
+	<T> List<T> findAll(Class<T> cls, List<?> primaryKeys, Number revision) throws
+			IllegalArgumentException, NotAuditedException, IllegalStateException;
+
+	/**
+	 * Find several entities by primary key at the given revision with the specified entityName.
+	 *
+	 * @param cls Class of the entities.
+	 * @param entityName Name of the entities (if it can't be guessed basing on the {@code cls}).
+	 * @param primaryKeys Primary keys of the entities.
+	 * @param revision Revision in which to get the entities.
+	 * @param <T> The type of the entities to find
+	 *
+	 * @return A list with an element for each of the given primary keys, in the same order: the found entity
+	 *         instance at the given revision, or null, if an entity with that id didn't exist at that revision.
+	 *
+	 * @throws IllegalArgumentException If cls or primaryKeys is null or revision is less or equal to 0.
+	 * @throws NotAuditedException When entities of the given class are not audited.
+	 * @throws IllegalStateException If the associated entity manager is closed.
+	 *
+	 * @see #findAll(Class, List, Number)
+	 *
+	 * @since 6.4
+	 */
+	<T> List<T> findAll(Class<T> cls, String entityName, List<?> primaryKeys, Number revision) throws
+			IllegalArgumentException, NotAuditedException, IllegalStateException;
+
 	/**
 	 * Get a list of revision numbers, at which an entity was modified.
 	 *
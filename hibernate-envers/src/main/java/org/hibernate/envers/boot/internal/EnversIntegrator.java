@@ -20,6 +20,7 @@ import org.hibernate.envers.event.spi.EnversPostUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionRemoveEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreCollectionUpdateEventListenerImpl;
 import org.hibernate.envers.event.spi.EnversPreUpdateEventListenerImpl;
+import org.hibernate.envers.internal.synchronization.DeferredAuditWriter;
 import org.hibernate.event.service.spi.EventListenerRegistry;
 import org.hibernate.event.spi.EventType;
 import org.hibernate.integrator.spi.Integrator;
@@ -80,6 +81,13 @@ public class EnversIntegrator implements Integrator {
 			return;
 		}
 
+		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+		// Start the writer of the deferred audit rows, if enabled
+		final DeferredAuditWriter deferredAuditWriter = enversService.getAuditProcessManager().getDeferredAuditWriter();
+		if ( deferredAuditWriter != null ) {
+			deferredAuditWriter.start( sessionFactory );
+		}
+
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 		// Do the registrations
 		final EventListenerRegistry listenerRegistry = serviceRegistry.getService( EventListenerRegistry.class );
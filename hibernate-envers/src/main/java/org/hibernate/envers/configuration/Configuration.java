@@ -68,6 +68,10 @@ public class Configuration {
 	private final boolean doNotAuditOptimisticLockingField;
 	private final boolean storeDeleteData;
 	private final boolean cascadeDeleteRevision;
+	private final boolean directAuditWrites;
+	private final boolean deferredAuditWrites;
+	private final int deferredAuditWritesInterval;
+	private final boolean queryCacheEnabled;
 	private final boolean modifiedFlagsEnabled;
 	private final boolean modifiedFlagsDefined;
 	private final boolean findByRevisionExactMatch;
@@ -87,6 +91,7 @@ public class Configuration {
 	private final String revisionEndFieldName;
 	private final String revisionEndTimestampFieldName;
 	private final String embeddableSetOrdinalPropertyName;
+	private final String queryCacheRegion;
 	private final boolean revisionEndTimestampEnabled;
 	private final boolean revisionEndTimestampNumeric;
 	private final boolean revisionEndTimestampUseLegacyPlacement;
@@ -124,8 +129,14 @@ public class Configuration {
 
 		storeDeleteData = configProps.getBoolean( EnversSettings.STORE_DATA_AT_DELETE, false );
 		cascadeDeleteRevision = configProps.getBoolean( EnversSettings.CASCADE_DELETE_REVISION, false );
+		directAuditWrites = configProps.getBoolean( EnversSettings.USE_DIRECT_AUDIT_WRITES, false );
+		deferredAuditWrites = configProps.getBoolean( EnversSettings.USE_DEFERRED_AUDIT_WRITES, false );
+		deferredAuditWritesInterval = configProps.getInt( EnversSettings.DEFERRED_AUDIT_WRITES_INTERVAL, 1000 );
 		trackEntitiesChanged = configProps.getBoolean( EnversSettings.TRACK_ENTITIES_CHANGED_IN_REVISION, false );
 
+		queryCacheEnabled = configProps.getBoolean( EnversSettings.USE_QUERY_CACHE, false );
+		queryCacheRegion = configProps.getString( EnversSettings.QUERY_CACHE_REGION );
+
 		modifiedFlagsDefined = properties.get( EnversSettings.GLOBAL_WITH_MODIFIED_FLAG ) != null;
 		modifiedFlagsEnabled = configProps.getBoolean( EnversSettings.GLOBAL_WITH_MODIFIED_FLAG, false );
 
@@ -228,6 +239,26 @@ public class Configuration {
 		return cascadeDeleteRevision;
 	}
 
+	public boolean isDirectAuditWritesEnabled() {
+		return directAuditWrites;
+	}
+
+	public boolean isDeferredAuditWritesEnabled() {
+		return deferredAuditWrites;
+	}
+
+	public int getDeferredAuditWritesInterval() {
+		return deferredAuditWritesInterval;
+	}
+
+	public boolean isQueryCacheEnabled() {
+		return queryCacheEnabled;
+	}
+
+	public String getQueryCacheRegion() {
+		return queryCacheRegion;
+	}
+
 	public boolean isAllowIdentifierReuse() {
 		return allowIdentifierReuse;
 	}
@@ -439,6 +470,10 @@ public class Configuration {
 			return ConfigurationHelper.getBoolean( propertyName, properties, defaultValue );
 		}
 
+		int getInt(String propertyName, int defaultValue) {
+			return ConfigurationHelper.getInt( propertyName, properties, defaultValue );
+		}
+
 		boolean getBooleanWithFallback(String basePropertyName, String newPropertyName, boolean defaultValue) {
 			if ( !properties.containsKey( basePropertyName ) ) {
 				return getBoolean( newPropertyName, defaultValue );
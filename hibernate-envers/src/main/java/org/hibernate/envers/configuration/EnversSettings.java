@@ -186,6 +186,87 @@ public interface EnversSettings {
 	 */
 	String GLOBAL_RELATION_NOT_FOUND_LEGACY_FLAG = "org.hibernate.envers.global_relation_not_found_legacy_flag";
 
+	/**
+	 * Whether the rows of audit data should be inserted directly by the entity persisters of the audit
+	 * entities, bypassing the event listeners and the persistence context of the session, instead of being
+	 * saved through the session. The rows are still written in the same transaction, using the JDBC
+	 * batching of the session.
+	 * <p>
+	 * Audit entities which are cached, or which have generated values, are always saved through the session.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 6.4
+	 */
+	String USE_DIRECT_AUDIT_WRITES = "org.hibernate.envers.use_direct_audit_writes";
+
+	/**
+	 * Whether the rows of audit data should be written after the transaction commits, by a background
+	 * worker, instead of right before the transaction commits. The revision entity is still saved in the
+	 * transaction which changes the audited entities, while the audit rows of the transactions committed
+	 * since the previous run of the worker are written together, in separate transactions which never
+	 * contain two revisions of the same entity.
+	 * <p>
+	 * The {@link org.hibernate.envers.AuditReader} writes any pending audit rows before executing a query,
+	 * so that it does not read stale history.
+	 * <p>
+	 * <em>This setting trades the durability of the audit trail for throughput.</em> The pending audit rows
+	 * are only kept in memory, they are not written to an outbox table. They are lost when the JVM crashes,
+	 * is killed, or is redeployed before the next run of the worker, and the audit rows of a revision which
+	 * cannot be written are logged and dropped. In both cases, the revision entity is committed while its
+	 * audit rows are missing, and the audit tables are no longer consistent with the audited tables.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @see #DEFERRED_AUDIT_WRITES_INTERVAL
+	 *
+	 * @since 6.4
+	 */
+	String USE_DEFERRED_AUDIT_WRITES = "org.hibernate.envers.use_deferred_audit_writes";
+
+	/**
+	 * The interval, in milliseconds, between two runs of the background worker which writes the pending
+	 * audit rows, when {@value #USE_DEFERRED_AUDIT_WRITES} is enabled.
+	 *
+	 * Defaults to {@literal 1000}.
+	 *
+	 * @since 6.4
+	 */
+	String DEFERRED_AUDIT_WRITES_INTERVAL = "org.hibernate.envers.deferred_audit_writes_interval";
+
+	/**
+	 * Whether the results of the historical lookups of the {@link org.hibernate.envers.AuditReader},
+	 * that is {@code find()} and {@code getRevisions()}, should be stored in the query cache.
+	 * Requires the query cache to be enabled using {@value org.hibernate.cfg.AvailableSettings#USE_QUERY_CACHE}.
+	 * <p>
+	 * Audit data is immutable once a revision is committed. Every write to an audit table invalidates the
+	 * cached results which were read from that table: audit rows saved through the session are invalidated
+	 * by the action queue, while the audit rows inserted directly, when {@value #USE_DIRECT_AUDIT_WRITES}
+	 * is enabled, and the batched updates of the end revision of the previous audit rows by the validity
+	 * audit strategy, which both bypass the action queue, register the table spaces they write to with the
+	 * action queue of the session.
+	 * <p>
+	 * The invalidation is per table, not per entity: a new revision of any entity invalidates all the cached
+	 * results read from the audit table of its entity type. Historical lookups of entity types which are
+	 * changed frequently therefore rarely hit the cache, and mostly pay the cost of caching their results.
+	 * This setting pays off for entity types whose history is read much more often than they are changed.
+	 *
+	 * Defaults to {@literal false}.
+	 *
+	 * @since 6.4
+	 */
+	String USE_QUERY_CACHE = "org.hibernate.envers.use_query_cache";
+
+	/**
+	 * The query cache region in which the results of the historical lookups of the
+	 * {@link org.hibernate.envers.AuditReader} are stored, when {@value #USE_QUERY_CACHE} is enabled.
+	 *
+	 * Defaults to the default query cache region.
+	 *
+	 * @since 6.4
+	 */
+	String QUERY_CACHE_REGION = "org.hibernate.envers.query_cache_region";
+
 	/**
 	 * Whether to apply a nocache configuration for the revision sequence.
 	 * This is mostly interesting for testing.
@@ -7,6 +7,7 @@
 package org.hibernate.envers.internal.reader;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -19,15 +20,22 @@ import jakarta.persistence.NoResultException;
 import org.hibernate.HibernateException;
 import org.hibernate.NonUniqueResultException;
 import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.CrossTypeRevisionChangesReader;
 import org.hibernate.envers.boot.internal.EnversService;
+import org.hibernate.envers.configuration.Configuration;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.exception.RevisionDoesNotExistException;
+import org.hibernate.envers.internal.entities.mapper.id.IdMapper;
+import org.hibernate.envers.internal.entities.mapper.id.SingleIdMapper;
 import org.hibernate.envers.internal.synchronization.AuditProcess;
 import org.hibernate.envers.query.AuditEntity;
+import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.AuditQueryCreator;
+import org.hibernate.envers.query.criteria.AuditCriterion;
+import org.hibernate.envers.query.criteria.AuditDisjunction;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.query.Query;
@@ -43,6 +51,8 @@ import static org.hibernate.envers.internal.tools.EntityTools.getTargetClassIfPr
  * @author Chris Cranford
  */
 public class AuditReaderImpl implements AuditReaderImplementor {
+	private static final int DEFAULT_FIND_ALL_CHUNK_SIZE = 100;
+
 	private final EnversService enversService;
 	private final SessionImplementor sessionImplementor;
 	private final Session session;
@@ -118,8 +128,9 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		Object result;
 		try {
 			// The result is put into the cache by the entity instantiator called from the query
-			result = createQuery().forEntitiesAtRevision( cls, entityName, revision, includeDeletions )
-					.add( AuditEntity.id().eq( primaryKey ) ).getSingleResult();
+			final AuditQuery query = createQuery().forEntitiesAtRevision( cls, entityName, revision, includeDeletions )
+					.add( AuditEntity.id().eq( primaryKey ) );
+			result = applyQueryCacheSettings( query ).getSingleResult();
 		}
 		catch (NoResultException e) {
 			result = null;
@@ -131,6 +142,86 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		return (T) result;
 	}
 
+	@Override
+	public <T> List<T> findAll(Class<T> cls, List<?> primaryKeys, Number revision)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
+		cls = getTargetClassIfProxied( cls );
+		return this.findAll( cls, cls.getName(), primaryKeys, revision );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> List<T> findAll(Class<T> cls, String entityName, List<?> primaryKeys, Number revision)
+			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
+		cls = getTargetClassIfProxied( cls );
+		checkNotNull( cls, "Entity class" );
+		checkNotNull( entityName, "Entity name" );
+		checkNotNull( primaryKeys, "Primary keys" );
+		checkNotNull( revision, "Entity revision" );
+		checkPositive( revision, "Entity revision" );
+		checkSession();
+
+		if ( !enversService.getEntitiesConfigurations().isVersioned( entityName ) ) {
+			throw new NotAuditedException( entityName, "Entity [" + entityName + "] is not versioned" );
+		}
+
+		final List<Object> missingPrimaryKeys = new ArrayList<>( primaryKeys.size() );
+		for ( Object primaryKey : primaryKeys ) {
+			checkNotNull( primaryKey, "Primary key" );
+			if ( !firstLevelCache.contains( entityName, revision, primaryKey ) ) {
+				missingPrimaryKeys.add( primaryKey );
+			}
+		}
+
+		final Map<Object, Object> entitiesByPrimaryKey = new HashMap<>();
+		if ( !missingPrimaryKeys.isEmpty() ) {
+			final IdMapper idMapper = enversService.getEntitiesConfigurations().get( entityName ).getIdMapper();
+			final int chunkSize = getFindAllChunkSize();
+			for ( int start = 0; start < missingPrimaryKeys.size(); start += chunkSize ) {
+				final List<Object> chunk = missingPrimaryKeys.subList(
+						start,
+						Math.min( start + chunkSize, missingPrimaryKeys.size() )
+				);
+				final AuditQuery query = createQuery().forEntitiesAtRevision( cls, entityName, revision, false )
+						.add( idsIn( idMapper, chunk ) );
+				for ( Object entity : applyQueryCacheSettings( query ).getResultList() ) {
+					entitiesByPrimaryKey.put( idMapper.mapToIdFromEntity( entity ), entity );
+				}
+			}
+		}
+
+		final List<T> result = new ArrayList<>( primaryKeys.size() );
+		for ( Object primaryKey : primaryKeys ) {
+			if ( firstLevelCache.contains( entityName, revision, primaryKey ) ) {
+				result.add( (T) firstLevelCache.get( entityName, revision, primaryKey ) );
+			}
+			else {
+				result.add( (T) entitiesByPrimaryKey.get( primaryKey ) );
+			}
+		}
+		return result;
+	}
+
+	private static AuditCriterion idsIn(IdMapper idMapper, List<Object> primaryKeys) {
+		if ( idMapper.getClass() == SingleIdMapper.class ) {
+			return AuditEntity.id().in( primaryKeys );
+		}
+		// composite and entity identifiers can't be used in an in-list, so match them one by one
+		final AuditDisjunction disjunction = AuditEntity.disjunction();
+		for ( Object primaryKey : primaryKeys ) {
+			disjunction.add( AuditEntity.id().eq( primaryKey ) );
+		}
+		return disjunction;
+	}
+
+	private int getFindAllChunkSize() {
+		final SessionFactoryImplementor factory = sessionImplementor.getFactory();
+		final int batchFetchSize = factory.getSessionFactoryOptions().getDefaultBatchFetchSize();
+		final int chunkSize = batchFetchSize > 1 ? batchFetchSize : DEFAULT_FIND_ALL_CHUNK_SIZE;
+		final int inExpressionCountLimit = factory.getJdbcServices().getDialect().getInExpressionCountLimit();
+		return inExpressionCountLimit > 0 ? Math.min( chunkSize, inExpressionCountLimit ) : chunkSize;
+	}
+
 	@Override
 	public List<Number> getRevisions(Class<?> cls, Object primaryKey)
 			throws IllegalArgumentException, NotAuditedException, IllegalStateException {
@@ -161,11 +252,24 @@ public class AuditReaderImpl implements AuditReaderImplementor {
 		checkNotNull( primaryKey, "Primary key" );
 		checkSession();
 
-		return createQuery().forRevisionsOfEntity( cls, entityName, false, true )
+		final AuditQuery query = createQuery().forRevisionsOfEntity( cls, entityName, false, true )
 				.addProjection( AuditEntity.revisionNumber() )
 				.addOrder( AuditEntity.revisionNumber().asc() )
-				.add( AuditEntity.id().eq( primaryKey ) )
-				.getResultList();
+				.add( AuditEntity.id().eq( primaryKey ) );
+		return applyQueryCacheSettings( query ).getResultList();
+	}
+
+	private AuditQuery applyQueryCacheSettings(AuditQuery query) {
+		final Configuration configuration = enversService.getConfig();
+		if ( configuration.isQueryCacheEnabled() ) {
+			// any write to the audit table invalidates the cached results of all its entities,
+			// so only rarely changed entity types benefit from caching
+			query.setCacheable( true );
+			if ( configuration.getQueryCacheRegion() != null ) {
+				query.setCacheRegion( configuration.getQueryCacheRegion() );
+			}
+		}
+		return query;
 	}
 
 	@Override
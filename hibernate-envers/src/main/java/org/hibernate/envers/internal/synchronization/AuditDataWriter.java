@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.envers.configuration.Configuration;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Class responsible for writing the rows of audit data.
+ * <p>
+ * By default, audit data is saved through the session, and scheduled for removal from the session level
+ * cache after transaction completion. When {@value EnversSettings#USE_DIRECT_AUDIT_WRITES} is enabled, the
+ * rows are instead inserted directly by the entity persister of the audit entity, in the JDBC batches of
+ * the session, without firing any events and without registering the audit data in the persistence context.
+ * The table spaces of the audit entity are then registered with the {@link QuerySpaceInvalidator}, as the
+ * action queue does not know about these inserts.
+ */
+public class AuditDataWriter {
+	private final SessionCacheCleaner sessionCacheCleaner;
+	private final QuerySpaceInvalidator querySpaceInvalidator = new QuerySpaceInvalidator();
+
+	public AuditDataWriter(SessionCacheCleaner sessionCacheCleaner) {
+		this.sessionCacheCleaner = sessionCacheCleaner;
+	}
+
+	/**
+	 * Writes a new row of audit data.
+	 *
+	 * @param session Active Hibernate session.
+	 * @param configuration The Envers configuration.
+	 * @param auditEntityName The name of the audit entity.
+	 * @param data The audit data.
+	 * @param revision The revision entity the audit data refers to.
+	 */
+	public void write(Session session, Configuration configuration, String auditEntityName, Object data, Object revision) {
+		if ( configuration.isDirectAuditWritesEnabled() ) {
+			final SessionImplementor sessionImplementor = (SessionImplementor) session;
+			final EntityPersister persister = sessionImplementor.getFactory()
+					.getMappingMetamodel()
+					.getEntityDescriptor( auditEntityName );
+			if ( isDirectlyInsertable( persister ) ) {
+				ensureRevisionInserted( sessionImplementor, revision );
+				querySpaceInvalidator.invalidate( sessionImplementor, persister.getQuerySpaces() );
+				final Object id = persister.getIdentifier( data, sessionImplementor );
+				persister.insert( id, persister.getValues( data ), data, sessionImplementor );
+				return;
+			}
+		}
+
+		session.save( auditEntityName, data );
+		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
+	}
+
+	private static boolean isDirectlyInsertable(EntityPersister persister) {
+		return !persister.canWriteToCache()
+				&& !persister.getGenerator().generatedOnExecution()
+				&& !persister.hasInsertGeneratedProperties();
+	}
+
+	/**
+	 * The audit rows reference the revision entity, so the revision entity must be inserted first, but its
+	 * insert may still be waiting in the action queue.
+	 */
+	private static void ensureRevisionInserted(SessionImplementor session, Object revision) {
+		if ( revision != null ) {
+			final EntityEntry entry = session.getPersistenceContextInternal().getEntry( revision );
+			if ( entry != null && !entry.isExistsInDatabase() ) {
+				session.flush();
+			}
+		}
+	}
+}
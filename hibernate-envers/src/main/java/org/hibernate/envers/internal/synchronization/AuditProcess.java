@@ -6,19 +6,23 @@
  */
 package org.hibernate.envers.internal.synchronization;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
 import org.hibernate.FlushMode;
 import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.envers.exception.AuditException;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoGenerator;
 import org.hibernate.envers.internal.synchronization.work.AuditWorkUnit;
 import org.hibernate.envers.tools.Pair;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
 import org.jboss.logging.Logger;
 
@@ -37,11 +41,20 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 	private final Map<Pair<String, Object>, AuditWorkUnit> usedIds;
 	private final Map<Pair<String, Object>, Object[]> entityStateCache;
 	private final EntityChangeNotifier entityChangeNotifier;
+	private final DeferredAuditWriter deferredAuditWriter;
 	private Object revisionData;
 
 	public AuditProcess(RevisionInfoGenerator revisionInfoGenerator, SessionImplementor session) {
+		this( revisionInfoGenerator, session, null );
+	}
+
+	public AuditProcess(
+			RevisionInfoGenerator revisionInfoGenerator,
+			SessionImplementor session,
+			DeferredAuditWriter deferredAuditWriter) {
 		this.revisionInfoGenerator = revisionInfoGenerator;
 		this.session = session;
+		this.deferredAuditWriter = deferredAuditWriter;
 
 		workUnits = new LinkedList<>();
 		undoQueue = new LinkedList<>();
@@ -121,10 +134,40 @@ public class AuditProcess implements BeforeTransactionCompletionProcess {
 			vwu.undo( session );
 		}
 
+		if ( deferredAuditWriter != null ) {
+			deferWorkUnits( session, currentRevisionData );
+		}
+		else {
+			while ( (vwu = workUnits.poll()) != null ) {
+				vwu.perform( session, revisionData );
+				entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
+			}
+
+			// Audit rows written directly may still be waiting in a JDBC batch
+			( (SessionImplementor) session ).getJdbcCoordinator().executeBatch();
+		}
+	}
+
+	/**
+	 * Hands the work units over to the {@link DeferredAuditWriter} once the transaction has committed. Only the
+	 * revision entity, and the tracking of the entities changed in the revision, are written in this transaction.
+	 */
+	private void deferWorkUnits(Session session, Object currentRevisionData) {
+		final List<AuditWorkUnit> deferredWorkUnits = new ArrayList<>( workUnits.size() );
+		AuditWorkUnit vwu;
 		while ( (vwu = workUnits.poll()) != null ) {
-			vwu.perform( session, revisionData );
+			deferredWorkUnits.add( vwu );
 			entityChangeNotifier.entityChanged( session, currentRevisionData, vwu );
 		}
+
+		final Object deferredRevisionData = revisionData;
+		( (EventSource) this.session ).getActionQueue().registerProcess(
+				(AfterTransactionCompletionProcess) (success, sessionImplementor) -> {
+					if ( success ) {
+						deferredAuditWriter.submit( deferredRevisionData, deferredWorkUnits );
+					}
+				}
+		);
 	}
 
 	public Object getCurrentRevisionData(Session session, boolean persist) {
@@ -23,11 +23,24 @@ import org.hibernate.event.spi.EventSource;
 public class AuditProcessManager {
 	private final Map<Transaction, AuditProcess> auditProcesses;
 	private final RevisionInfoGenerator revisionInfoGenerator;
+	private final DeferredAuditWriter deferredAuditWriter;
 
 	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator) {
+		this( revisionInfoGenerator, null );
+	}
+
+	public AuditProcessManager(RevisionInfoGenerator revisionInfoGenerator, DeferredAuditWriter deferredAuditWriter) {
 		auditProcesses = new ConcurrentHashMap<>();
 
 		this.revisionInfoGenerator = revisionInfoGenerator;
+		this.deferredAuditWriter = deferredAuditWriter;
+	}
+
+	/**
+	 * @return The writer of the deferred audit rows, or {@code null} if audit rows are not deferred.
+	 */
+	public DeferredAuditWriter getDeferredAuditWriter() {
+		return deferredAuditWriter;
 	}
 
 	public AuditProcess get(EventSource session) {
@@ -36,7 +49,7 @@ public class AuditProcessManager {
 		AuditProcess auditProcess = auditProcesses.get( transaction );
 		if ( auditProcess == null ) {
 			// No worries about registering a transaction twice - a transaction is single thread
-			auditProcess = new AuditProcess( revisionInfoGenerator, session );
+			auditProcess = new AuditProcess( revisionInfoGenerator, session, deferredAuditWriter );
 			auditProcesses.put( transaction, auditProcess );
 
 			session.getActionQueue().registerProcess(
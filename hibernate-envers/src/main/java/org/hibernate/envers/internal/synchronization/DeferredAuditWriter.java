@@ -0,0 +1,258 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.internal.synchronization.work.AuditWorkUnit;
+import org.hibernate.envers.tools.Pair;
+import org.hibernate.exception.JDBCConnectionException;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Writes the audit rows of committed transactions in the background, when
+ * {@value EnversSettings#USE_DEFERRED_AUDIT_WRITES} is enabled.
+ * <p>
+ * The work units of each committed transaction are queued, along with the revision entity they belong to,
+ * and performed by a worker thread every {@value EnversSettings#DEFERRED_AUDIT_WRITES_INTERVAL} milliseconds.
+ * The work units pending at that time are performed in order, in as few transactions as possible, so that their
+ * audit rows are written in large JDBC batches. A transaction never contains two revisions of the same entity,
+ * since the {@link org.hibernate.envers.strategy.internal.ValidityAuditStrategy} only updates the end revision
+ * of the previous audit row when the transaction completes. The {@link org.hibernate.envers.AuditReader} calls
+ * {@link #flush()} before executing a query.
+ * <p>
+ * A revision whose audit rows cannot be written is logged and dropped, so that it does not hold up the others.
+ * The pending work units are only kept in memory: they are lost if the application stops before they are written.
+ */
+public class DeferredAuditWriter implements Runnable, SessionFactoryObserver {
+	private static final Logger log = Logger.getLogger( DeferredAuditWriter.class );
+
+	private final long interval;
+
+	private final Deque<PendingRevision> pendingRevisions = new ArrayDeque<>();
+	private final Object writeLock = new Object();
+
+	private SessionFactoryImplementor sessionFactory;
+	private ScheduledExecutorService executorService;
+
+	public DeferredAuditWriter(long interval) {
+		this.interval = interval;
+	}
+
+	/**
+	 * Starts the worker writing the audit rows with sessions of the given factory, and stops it
+	 * when the factory is closed.
+	 *
+	 * @param sessionFactory The session factory.
+	 */
+	public synchronized void start(SessionFactoryImplementor sessionFactory) {
+		if ( executorService != null ) {
+			return;
+		}
+		this.sessionFactory = sessionFactory;
+		sessionFactory.addObserver( this );
+		executorService = Executors.newSingleThreadScheduledExecutor( new DeferredAuditWriterThreadFactory() );
+		executorService.scheduleWithFixedDelay( this, interval, interval, TimeUnit.MILLISECONDS );
+	}
+
+	/**
+	 * Queues the work units of a committed transaction.
+	 *
+	 * @param revisionData The revision entity of the transaction.
+	 * @param workUnits The work units of the transaction.
+	 */
+	public void submit(Object revisionData, List<AuditWorkUnit> workUnits) {
+		synchronized ( pendingRevisions ) {
+			pendingRevisions.add( new PendingRevision( revisionData, workUnits ) );
+		}
+	}
+
+	/**
+	 * Writes the audit rows of all the queued work units, in revision order.
+	 * <p>
+	 * Never fails: a revision whose audit rows cannot be written is logged and dropped. If the database
+	 * cannot be reached at all, the remaining work units stay queued until the next flush.
+	 */
+	public void flush() {
+		synchronized ( writeLock ) {
+			final List<PendingRevision> revisions;
+			synchronized ( pendingRevisions ) {
+				if ( pendingRevisions.isEmpty() ) {
+					return;
+				}
+				revisions = new ArrayList<>( pendingRevisions );
+				pendingRevisions.clear();
+			}
+
+			final List<List<PendingRevision>> segments = segments( revisions );
+			for ( int i = 0; i < segments.size(); i++ ) {
+				final List<PendingRevision> segment = segments.get( i );
+				try {
+					write( segment );
+				}
+				catch (JDBCConnectionException e) {
+					log.warnf( "Unable to write the deferred audit data, it will be written later: %s", e.getMessage() );
+					requeue( segments.subList( i, segments.size() ) );
+					return;
+				}
+				catch (RuntimeException e) {
+					if ( segment.size() == 1 ) {
+						deadLetter( segment.get( 0 ), e );
+						continue;
+					}
+					// find the revisions at fault, so that they do not hold up the others
+					for ( int j = 0; j < segment.size(); j++ ) {
+						try {
+							write( Collections.singletonList( segment.get( j ) ) );
+						}
+						catch (JDBCConnectionException revisionException) {
+							log.warnf(
+									"Unable to write the deferred audit data, it will be written later: %s",
+									revisionException.getMessage()
+							);
+							requeue( segments.subList( i + 1, segments.size() ) );
+							requeue( Collections.singletonList( segment.subList( j, segment.size() ) ) );
+							return;
+						}
+						catch (RuntimeException revisionException) {
+							deadLetter( segment.get( j ), revisionException );
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Splits the revisions, in order, into runs which can be written in the same transaction, that is,
+	 * runs which never change the same entity, or the same collection, twice.
+	 */
+	private static List<List<PendingRevision>> segments(List<PendingRevision> revisions) {
+		final List<List<PendingRevision>> segments = new ArrayList<>();
+		List<PendingRevision> segment = new ArrayList<>();
+		final Set<Pair<String, Object>> changed = new HashSet<>();
+		for ( PendingRevision revision : revisions ) {
+			final Set<Pair<String, Object>> revisionChanges = new HashSet<>();
+			for ( AuditWorkUnit workUnit : revision.workUnits ) {
+				revisionChanges.add( Pair.make( workUnit.getEntityName(), workUnit.getEntityId() ) );
+			}
+			if ( !Collections.disjoint( changed, revisionChanges ) ) {
+				segments.add( segment );
+				segment = new ArrayList<>();
+				changed.clear();
+			}
+			segment.add( revision );
+			changed.addAll( revisionChanges );
+		}
+		segments.add( segment );
+		return segments;
+	}
+
+	private void write(List<PendingRevision> revisions) {
+		try ( Session session = sessionFactory.withOptions().noInterceptor().openSession() ) {
+			final Transaction transaction = session.beginTransaction();
+			try {
+				for ( PendingRevision revision : revisions ) {
+					for ( AuditWorkUnit workUnit : revision.workUnits ) {
+						workUnit.perform( session, revision.revisionData );
+					}
+				}
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+	}
+
+	private void requeue(List<List<PendingRevision>> segments) {
+		// keep the work units in order, ahead of the ones queued since
+		synchronized ( pendingRevisions ) {
+			for ( int i = segments.size() - 1; i >= 0; i-- ) {
+				final List<PendingRevision> segment = segments.get( i );
+				for ( int j = segment.size() - 1; j >= 0; j-- ) {
+					pendingRevisions.addFirst( segment.get( j ) );
+				}
+			}
+		}
+	}
+
+	private static void deadLetter(PendingRevision revision, RuntimeException e) {
+		final List<String> changes = new ArrayList<>( revision.workUnits.size() );
+		for ( AuditWorkUnit workUnit : revision.workUnits ) {
+			changes.add( workUnit.getEntityName() + "#" + workUnit.getEntityId() );
+		}
+		log.errorf(
+				e,
+				"Unable to write the deferred audit data of revision %s, which is dropped; changes: %s",
+				revision.revisionData,
+				changes
+		);
+	}
+
+	@Override
+	public void run() {
+		try {
+			flush();
+		}
+		catch (RuntimeException e) {
+			// keep the worker scheduled
+			log.error( "Unexpected failure of the deferred audit writer", e );
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		synchronized ( this ) {
+			if ( executorService != null ) {
+				executorService.shutdown();
+			}
+		}
+		// write whatever is left, while sessions can still be opened
+		flush();
+	}
+
+	private static class PendingRevision {
+		private final Object revisionData;
+		private final List<AuditWorkUnit> workUnits;
+
+		private PendingRevision(Object revisionData, List<AuditWorkUnit> workUnits) {
+			this.revisionData = revisionData;
+			this.workUnits = workUnits;
+		}
+	}
+
+	private static class DeferredAuditWriterThreadFactory implements ThreadFactory {
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Envers Deferred Audit Writer" );
+			return thread;
+		}
+	}
+}
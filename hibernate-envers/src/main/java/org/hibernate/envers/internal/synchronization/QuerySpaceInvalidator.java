@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.envers.internal.synchronization;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.hibernate.Session;
+import org.hibernate.action.internal.BulkOperationCleanupAction;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionImplementor;
+
+import static java.util.Collections.synchronizedMap;
+
+/**
+ * Invalidates the query cache for audit rows which are written with plain JDBC, or directly by the entity
+ * persister, instead of through the {@link ActionQueue}.
+ * <p>
+ * The table spaces are registered with the action queue of the session, so that the
+ * {@link org.hibernate.cache.spi.TimestampsCache} is pre-invalidated immediately and invalidated after
+ * transaction completion, exactly as for an insert or update executed by the action queue. Each table space
+ * is registered at most once per session and transaction.
+ */
+public class QuerySpaceInvalidator {
+	/**
+	 * The table spaces already registered in the current transaction, by session
+	 */
+	private final Map<Session, Set<Serializable>> registeredSpaces = synchronizedMap( new WeakHashMap<>() );
+
+	/**
+	 * Registers the given table spaces with the action queue of the session, if the query cache is enabled.
+	 *
+	 * @param session Active Hibernate session.
+	 * @param spaces The table spaces that are written to.
+	 */
+	public void invalidate(SessionImplementor session, Serializable[] spaces) {
+		if ( !session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
+			return;
+		}
+
+		final Set<Serializable> registered = getRegisteredSpaces( session );
+		Set<String> newSpaces = null;
+		for ( Serializable space : spaces ) {
+			if ( registered.add( space ) ) {
+				if ( newSpaces == null ) {
+					newSpaces = new HashSet<>();
+				}
+				newSpaces.add( (String) space );
+			}
+		}
+
+		if ( newSpaces != null ) {
+			session.getActionQueue().addAction( new BulkOperationCleanupAction( session, newSpaces ) );
+		}
+	}
+
+	private Set<Serializable> getRegisteredSpaces(SessionImplementor session) {
+		Set<Serializable> registered = registeredSpaces.get( session );
+		if ( registered == null ) {
+			final Set<Serializable> spaces = new HashSet<>();
+			registeredSpaces.put( session, spaces );
+			// start over in the next transaction of the session
+			session.getActionQueue().registerProcess(
+					(AfterTransactionCompletionProcess) (success, sessionImplementor) ->
+							registeredSpaces.remove( sessionImplementor, spaces )
+			);
+			registered = spaces;
+		}
+		return registered;
+	}
+}
@@ -25,6 +25,7 @@ import org.hibernate.envers.exception.NotAuditedException;
 import org.hibernate.envers.internal.entities.EntityConfiguration;
 import org.hibernate.envers.internal.entities.EntityInstantiator;
 import org.hibernate.envers.internal.reader.AuditReaderImplementor;
+import org.hibernate.envers.internal.synchronization.DeferredAuditWriter;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.query.AuditAssociationQuery;
 import org.hibernate.envers.query.AuditQuery;
@@ -98,6 +99,12 @@ public abstract class AbstractAuditQuery implements AuditQueryImplementor {
 	}
 	
 	protected Query buildQuery() {
+		// never read stale history when audit rows are written in the background
+		final DeferredAuditWriter deferredAuditWriter = enversService.getAuditProcessManager().getDeferredAuditWriter();
+		if ( deferredAuditWriter != null ) {
+			deferredAuditWriter.flush();
+		}
+
 		Query query = qb.toQuery( versionsReader.getSessionImplementor() );
 		setQueryProperties( query );
 		return query;
@@ -8,16 +8,22 @@ package org.hibernate.envers.strategy.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.hibernate.LockOptions;
 import org.hibernate.Session;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.ActionQueue;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -32,12 +38,15 @@ import org.hibernate.envers.internal.entities.mapper.PersistentCollectionChangeD
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleComponentData;
 import org.hibernate.envers.internal.entities.mapper.relation.MiddleIdData;
 import org.hibernate.envers.internal.revisioninfo.RevisionInfoNumberReader;
+import org.hibernate.envers.internal.synchronization.AuditDataWriter;
+import org.hibernate.envers.internal.synchronization.QuerySpaceInvalidator;
 import org.hibernate.envers.internal.synchronization.SessionCacheCleaner;
 import org.hibernate.envers.internal.tools.query.Parameters;
 import org.hibernate.envers.internal.tools.query.QueryBuilder;
 import org.hibernate.envers.strategy.AuditStrategy;
 import org.hibernate.envers.strategy.spi.AuditStrategyContext;
 import org.hibernate.envers.strategy.spi.MappingContext;
+import org.hibernate.envers.tools.Pair;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.ModelPart;
@@ -54,6 +63,7 @@ import org.hibernate.type.MapType;
 import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.Type;
 
+import static java.util.Collections.synchronizedMap;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.MIDDLE_ENTITY_ALIAS;
 import static org.hibernate.envers.internal.entities.mapper.relation.query.QueryConstants.REVISION_PARAMETER;
 
@@ -86,9 +96,17 @@ public class ValidityAuditStrategy implements AuditStrategy {
 	private Getter revisionTimestampGetter;
 
 	private final SessionCacheCleaner sessionCacheCleaner;
+	private final AuditDataWriter auditDataWriter;
+	private final QuerySpaceInvalidator querySpaceInvalidator = new QuerySpaceInvalidator();
+
+	/**
+	 * The pending updates of the end revision of previous audit rows, by session
+	 */
+	private final Map<Session, RevisionEndUpdates> revisionEndUpdates = synchronizedMap( new WeakHashMap<>() );
 
 	public ValidityAuditStrategy() {
 		sessionCacheCleaner = new SessionCacheCleaner();
+		auditDataWriter = new AuditDataWriter( sessionCacheCleaner );
 	}
 
 	@Override
@@ -162,7 +180,7 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		final String auditedEntityName = configuration.getAuditEntityName( entityName );
 
 		// Save the audit data
-		session.save( auditedEntityName, data );
+		auditDataWriter.write( session, configuration, auditedEntityName, data, revision );
 
 		// Update the end date of the previous row.
 		//
@@ -172,50 +190,22 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		// reused, this guarantees correct strategy behavior: exactly one row with
 		// null end date exists for each identifier.
 		final boolean reuseEntityIdentifier = configuration.isAllowIdentifierReuse();
-		if ( reuseEntityIdentifier || getRevisionType( configuration, data ) != RevisionType.ADD ) {
-			// Register transaction completion process to guarantee execution of UPDATE statement after INSERT.
-			( (EventSource) session ).getActionQueue().registerProcess( sessionImplementor -> {
-				// Construct the update contexts
-				final List<UpdateContext> contexts = getUpdateContexts(
-						entityName,
-						auditedEntityName,
-						sessionImplementor,
-						configuration,
-						id,
-						revision
-				);
-
-				if ( contexts.isEmpty() ) {
-					throw new AuditException(
-							String.format(
-									Locale.ENGLISH,
-									"Failed to build update contexts for entity %s and id %s",
-									auditedEntityName,
-									id
-							)
-					);
-				}
-
-				for ( UpdateContext context : contexts ) {
-					final int rows = executeUpdate( sessionImplementor, context );
-					if ( rows != 1 ) {
-						final RevisionType revisionType = getRevisionType( configuration, data );
-						if ( !reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
-							throw new AuditException(
-									String.format(
-											Locale.ENGLISH,
-											"Cannot update previous revision for entity %s and id %s (%s rows modified).",
-											auditedEntityName,
-											id,
-											rows
-									)
-							);
-						}
-					}
-				}
-			} );
+		final RevisionType revisionType = getRevisionType( configuration, data );
+		if ( reuseEntityIdentifier || revisionType != RevisionType.ADD ) {
+			// Register the UPDATE to be executed, along with the other updates of the same
+			// audit table, by a transaction completion process, to guarantee its execution
+			// after the INSERT.
+			getRevisionEndUpdates( session ).add(
+					new RevisionEndUpdate(
+							entityName,
+							auditedEntityName,
+							configuration,
+							id,
+							revision,
+							!reuseEntityIdentifier || revisionType != RevisionType.ADD
+					)
+			);
 		}
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, data );
 	}
 
 	@Override
@@ -270,8 +260,13 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		}
 
 		// Save the audit data
-		session.save( persistentCollectionChangeData.getEntityName(), persistentCollectionChangeData.getData() );
-		sessionCacheCleaner.scheduleAuditDataRemoval( session, persistentCollectionChangeData.getData() );
+		auditDataWriter.write(
+				session,
+				configuration,
+				persistentCollectionChangeData.getEntityName(),
+				persistentCollectionChangeData.getData(),
+				revision
+		);
 	}
 
 	/**
@@ -458,34 +453,90 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return false;
 	}
 
+	private RevisionEndUpdates getRevisionEndUpdates(Session session) {
+		RevisionEndUpdates updates = revisionEndUpdates.get( session );
+		if ( updates == null || updates.completed ) {
+			updates = new RevisionEndUpdates();
+			revisionEndUpdates.put( session, updates );
+			final ActionQueue actionQueue = ( (EventSource) session ).getActionQueue();
+			actionQueue.registerProcess( (BeforeTransactionCompletionProcess) updates );
+			// make sure the pending updates are discarded if the transaction is rolled back
+			actionQueue.registerProcess( (AfterTransactionCompletionProcess) updates );
+		}
+		return updates;
+	}
+
 	/**
-	 * Executes the {@link UpdateContext} within the scope of the specified session.
+	 * Executes the {@link UpdateContext}s of the given updates, which all share the same SQL,
+	 * as JDBC batches, within the scope of the specified session.
 	 *
 	 * @param session the session
-	 * @param context the update context to be executed
-	 * @return the number of rows affected by the operation
+	 * @param sql the SQL of the update contexts
+	 * @param updates the updates, along with their update context
 	 */
-	private int executeUpdate(SessionImplementor session, UpdateContext context) {
-		final String sql = context.toStatementString();
+	private void executeBatchedUpdates(
+			SessionImplementor session,
+			String sql,
+			List<Pair<RevisionEndUpdate, UpdateContext>> updates) {
 		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final Integer configuredBatchSize = session.getConfiguredJdbcBatchSize();
+		final int batchSize = configuredBatchSize != null && configuredBatchSize > 1
+				? configuredBatchSize
+				: updates.size();
 
 		final PreparedStatement statement = jdbcCoordinator.getStatementPreparer().prepareStatement( sql );
-		return session.doReturningWork(
-				connection -> {
+		try {
+			int batchStart = 0;
+			for ( int i = 0; i < updates.size(); i++ ) {
+				int index = 1;
+				for ( QueryParameterBinding binding : updates.get( i ).getSecond().getBindings() ) {
+					index += binding.bind( index, statement, session );
+				}
+				statement.addBatch();
+
+				final int batchEnd = i + 1;
+				if ( batchEnd - batchStart == batchSize || batchEnd == updates.size() ) {
+					final int[] rowCounts;
 					try {
-						int index = 1;
-						for ( QueryParameterBinding binding : context.getBindings() ) {
-							index += binding.bind( index, statement, session );
-						}
-						int result = jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
-						return result;
+						session.getEventListenerManager().jdbcExecuteBatchStart();
+						rowCounts = statement.executeBatch();
 					}
 					finally {
-						jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
-						jdbcCoordinator.afterStatementExecution();
+						session.getEventListenerManager().jdbcExecuteBatchEnd();
 					}
+					checkRowCounts( rowCounts, updates.subList( batchStart, batchEnd ) );
+					batchStart = batchEnd;
 				}
-		);
+			}
+		}
+		catch (SQLException e) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert( e, "could not execute batch", sql );
+		}
+		finally {
+			jdbcCoordinator.getLogicalConnection().getResourceRegistry().release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
+	private void checkRowCounts(int[] rowCounts, List<Pair<RevisionEndUpdate, UpdateContext>> updates) {
+		for ( int i = 0; i < rowCounts.length && i < updates.size(); i++ ) {
+			final int rows = rowCounts[i];
+			// some drivers do not report the row counts of batched statements
+			if ( rows != 1 && rows != Statement.SUCCESS_NO_INFO ) {
+				final RevisionEndUpdate update = updates.get( i ).getFirst();
+				if ( update.isSingleRowExpected() ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Cannot update previous revision for entity %s and id %s (%s rows modified).",
+									update.getAuditedEntityName(),
+									update.getId(),
+									rows
+							)
+					);
+				}
+			}
+		}
 	}
 
 	private List<UpdateContext> getUpdateContexts(
@@ -658,6 +709,115 @@ public class ValidityAuditStrategy implements AuditStrategy {
 		return rootAuditEntity.getMappedTableDetails().getTableName();
 	}
 
+	/**
+	 * A pending update of the end revision of the previous audit row of an entity.
+	 */
+	private static class RevisionEndUpdate {
+		private final String entityName;
+		private final String auditedEntityName;
+		private final Configuration configuration;
+		private final Object id;
+		private final Object revision;
+		private final boolean singleRowExpected;
+
+		public RevisionEndUpdate(
+				String entityName,
+				String auditedEntityName,
+				Configuration configuration,
+				Object id,
+				Object revision,
+				boolean singleRowExpected) {
+			this.entityName = entityName;
+			this.auditedEntityName = auditedEntityName;
+			this.configuration = configuration;
+			this.id = id;
+			this.revision = revision;
+			this.singleRowExpected = singleRowExpected;
+		}
+
+		public String getAuditedEntityName() {
+			return auditedEntityName;
+		}
+
+		public Object getId() {
+			return id;
+		}
+
+		/**
+		 * Whether exactly one previous audit row must be updated. When identifiers are reused, an
+		 * {@link RevisionType#ADD} may have no previous row.
+		 */
+		public boolean isSingleRowExpected() {
+			return singleRowExpected;
+		}
+	}
+
+	/**
+	 * Collects the {@link RevisionEndUpdate}s of a session, and executes them at before transaction
+	 * completion time, as one JDBC batch per audit table, instead of one statement per audited change.
+	 */
+	private class RevisionEndUpdates implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+		private final List<RevisionEndUpdate> updates = new ArrayList<>();
+		private boolean completed;
+
+		public void add(RevisionEndUpdate update) {
+			updates.add( update );
+		}
+
+		@Override
+		public void doBeforeTransactionCompletion(SessionImplementor sessionImplementor) {
+			completed = true;
+			revisionEndUpdates.remove( sessionImplementor, this );
+
+			// Construct the update contexts, grouping them by statement
+			final Map<String, List<Pair<RevisionEndUpdate, UpdateContext>>> updatesBySql = new LinkedHashMap<>();
+			for ( RevisionEndUpdate update : updates ) {
+				final List<UpdateContext> contexts = getUpdateContexts(
+						update.entityName,
+						update.auditedEntityName,
+						sessionImplementor,
+						update.configuration,
+						update.id,
+						update.revision
+				);
+
+				if ( contexts.isEmpty() ) {
+					throw new AuditException(
+							String.format(
+									Locale.ENGLISH,
+									"Failed to build update contexts for entity %s and id %s",
+									update.auditedEntityName,
+									update.id
+							)
+					);
+				}
+
+				for ( UpdateContext context : contexts ) {
+					updatesBySql.computeIfAbsent( context.toStatementString(), sql -> new ArrayList<>() )
+							.add( Pair.make( update, context ) );
+				}
+
+				// the updates are executed with plain JDBC, so the action queue does not know about them
+				querySpaceInvalidator.invalidate(
+						sessionImplementor,
+						sessionImplementor.getFactory()
+								.getMappingMetamodel()
+								.getEntityDescriptor( update.auditedEntityName )
+								.getQuerySpaces()
+				);
+			}
+			updates.clear();
+
+			updatesBySql.forEach( (sql, sqlUpdates) -> executeBatchedUpdates( sessionImplementor, sql, sqlUpdates ) );
+		}
+
+		@Override
+		public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor sessionImplementor) {
+			completed = true;
+			revisionEndUpdates.remove( sessionImplementor, this );
+		}
+	}
+
 	/**
 	 * An {@link Update} that can also track parameter bindings.
 	 */
@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.basic;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.IntTestEntity;
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that a revision whose deferred audit rows cannot be written is dropped, without holding
+ * up the other revisions, and without failing the {@link org.hibernate.envers.AuditReader}.
+ */
+public class DeferredAuditWritesFailureTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { IntTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.USE_DEFERRED_AUDIT_WRITES, "true" );
+		// long enough for the worker not to run during the test
+		options.put( EnversSettings.DEFERRED_AUDIT_WRITES_INTERVAL, "600000" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final IntTestEntity entity1 = new IntTestEntity( 10 );
+			entityManager.persist( entity1 );
+			id1 = entity1.getId();
+		} );
+
+		// Revision 2
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( IntTestEntity.class, id1 ).setNumber( 11 );
+		} );
+
+		// Revision 3
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final IntTestEntity entity2 = new IntTestEntity( 20 );
+			entityManager.persist( entity2 );
+			id2 = entity2.getId();
+		} );
+
+		// the audit rows of revision 2 can no longer reference their revision
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.createNativeQuery( "delete from REVINFO where REV = 2" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testFailingRevisionIsDropped() {
+		assertEquals( Collections.singletonList( 1 ), getAuditReader().getRevisions( IntTestEntity.class, id1 ) );
+		assertEquals( Collections.singletonList( 3 ), getAuditReader().getRevisions( IntTestEntity.class, id2 ) );
+	}
+
+	@Test
+	public void testFailingRevisionIsNotRetried() {
+		getAuditReader().getRevisions( IntTestEntity.class, id1 );
+		getAuditReader().getRevisions( IntTestEntity.class, id2 );
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			assertEquals(
+					2,
+					( (Number) entityManager.createNativeQuery( "select count(*) from IntTestEntity_AUD" )
+							.getSingleResult() ).intValue()
+			);
+		} );
+	}
+}
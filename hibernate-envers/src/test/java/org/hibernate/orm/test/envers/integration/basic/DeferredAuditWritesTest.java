@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.basic;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.IntTestEntity;
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that audit rows are written after the transaction commits when they are deferred,
+ * and that the {@link org.hibernate.envers.AuditReader} writes the pending rows before reading.
+ */
+public class DeferredAuditWritesTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id1;
+	private Integer id2;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { IntTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.USE_DEFERRED_AUDIT_WRITES, "true" );
+		// long enough for the worker not to run during the test
+		options.put( EnversSettings.DEFERRED_AUDIT_WRITES_INTERVAL, "600000" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final IntTestEntity entity1 = new IntTestEntity( 10 );
+			final IntTestEntity entity2 = new IntTestEntity( 20 );
+			entityManager.persist( entity1 );
+			entityManager.persist( entity2 );
+			id1 = entity1.getId();
+			id2 = entity2.getId();
+		} );
+
+		// Revision 2
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( IntTestEntity.class, id1 ).setNumber( 11 );
+		} );
+
+		// Revision 3
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.remove( entityManager.find( IntTestEntity.class, id2 ) );
+		} );
+	}
+
+	@Test
+	@Priority(5)
+	public void testAuditRowsAreDeferred() {
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			assertEquals(
+					0,
+					( (Number) entityManager.createNativeQuery( "select count(*) from IntTestEntity_AUD" )
+							.getSingleResult() ).intValue()
+			);
+			// the revisions themselves are written in the audited transactions
+			assertEquals(
+					3,
+					( (Number) entityManager.createNativeQuery( "select count(*) from REVINFO" )
+							.getSingleResult() ).intValue()
+			);
+		} );
+	}
+
+	@Test
+	public void testRevisionsCounts() {
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( IntTestEntity.class, id1 ) );
+		assertEquals( Arrays.asList( 1, 3 ), getAuditReader().getRevisions( IntTestEntity.class, id2 ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( Integer.valueOf( 10 ), getAuditReader().find( IntTestEntity.class, id1, 1 ).getNumber() );
+		assertEquals( Integer.valueOf( 11 ), getAuditReader().find( IntTestEntity.class, id1, 2 ).getNumber() );
+		assertEquals( Integer.valueOf( 20 ), getAuditReader().find( IntTestEntity.class, id2, 2 ).getNumber() );
+		assertNull( getAuditReader().find( IntTestEntity.class, id2, 3 ) );
+	}
+}
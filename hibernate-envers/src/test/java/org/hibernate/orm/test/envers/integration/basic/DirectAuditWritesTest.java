@@ -0,0 +1,108 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.basic;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.IntNoAutoIdTestEntity;
+import org.hibernate.orm.test.envers.entities.StrTestEntity;
+import org.hibernate.orm.test.envers.entities.collection.StringSetEntity;
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests that audit data is written correctly when the rows are inserted directly,
+ * in JDBC batches, instead of through the session.
+ */
+public class DirectAuditWritesTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 12;
+
+	private Integer strId;
+	private Integer setId;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { IntNoAutoIdTestEntity.class, StrTestEntity.class, StringSetEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.USE_DIRECT_AUDIT_WRITES, "true" );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int id = 0; id < ENTITY_COUNT; id++ ) {
+				entityManager.persist( new IntNoAutoIdTestEntity( id, id ) );
+			}
+			final StrTestEntity str = new StrTestEntity( "first" );
+			entityManager.persist( str );
+			strId = str.getId();
+			final StringSetEntity set = new StringSetEntity();
+			set.getStrings().add( "a" );
+			entityManager.persist( set );
+			setId = set.getId();
+		} );
+
+		// Revision 2
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int id = 0; id < ENTITY_COUNT; id++ ) {
+				entityManager.find( IntNoAutoIdTestEntity.class, id ).setNumVal( id * 10 );
+			}
+			entityManager.find( StrTestEntity.class, strId ).setStr( "second" );
+			entityManager.find( StringSetEntity.class, setId ).getStrings().add( "b" );
+		} );
+
+		// Revision 3
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.remove( entityManager.find( IntNoAutoIdTestEntity.class, 0 ) );
+			entityManager.find( StringSetEntity.class, setId ).getStrings().remove( "a" );
+		} );
+	}
+
+	@Test
+	public void testRevisionCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( IntNoAutoIdTestEntity.class, 0 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( IntNoAutoIdTestEntity.class, 1 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( StrTestEntity.class, strId ) );
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( StringSetEntity.class, setId ) );
+	}
+
+	@Test
+	public void testHistory() {
+		for ( int id = 0; id < ENTITY_COUNT; id++ ) {
+			assertEquals( Integer.valueOf( id ), getAuditReader().find( IntNoAutoIdTestEntity.class, id, 1 ).getNumVal() );
+			assertEquals( Integer.valueOf( id * 10 ), getAuditReader().find( IntNoAutoIdTestEntity.class, id, 2 ).getNumVal() );
+		}
+		assertNull( getAuditReader().find( IntNoAutoIdTestEntity.class, 0, 3 ) );
+
+		assertEquals( "first", getAuditReader().find( StrTestEntity.class, strId, 1 ).getStr() );
+		assertEquals( "second", getAuditReader().find( StrTestEntity.class, strId, 2 ).getStr() );
+
+		assertEquals( Collections.singleton( "a" ), getAuditReader().find( StringSetEntity.class, setId, 1 ).getStrings() );
+		assertEquals(
+				new HashSet<>( Arrays.asList( "a", "b" ) ),
+				getAuditReader().find( StringSetEntity.class, setId, 2 ).getStrings()
+		);
+		assertEquals( Collections.singleton( "b" ), getAuditReader().find( StringSetEntity.class, setId, 3 ).getStrings() );
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.basic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.AuditReader;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.IntNoAutoIdTestEntity;
+import org.hibernate.orm.test.envers.entities.ids.EmbId;
+import org.hibernate.orm.test.envers.entities.ids.EmbIdTestEntity;
+import org.hibernate.stat.Statistics;
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests {@link org.hibernate.envers.AuditReader#findAll(Class, List, Number)}.
+ */
+public class FindAllTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 12;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { IntNoAutoIdTestEntity.class, EmbIdTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "5" );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int id = 0; id < ENTITY_COUNT; id++ ) {
+				entityManager.persist( new IntNoAutoIdTestEntity( id, id ) );
+			}
+			entityManager.persist( new EmbIdTestEntity( new EmbId( 1, 1 ), "a" ) );
+			entityManager.persist( new EmbIdTestEntity( new EmbId( 1, 2 ), "b" ) );
+		} );
+
+		// Revision 2
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int id = 0; id < ENTITY_COUNT; id++ ) {
+				entityManager.find( IntNoAutoIdTestEntity.class, id ).setNumVal( id * 10 );
+			}
+			entityManager.remove( entityManager.find( EmbIdTestEntity.class, new EmbId( 1, 1 ) ) );
+		} );
+	}
+
+	@Test
+	public void testFindAllInChunks() {
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+		final List<Integer> ids = new ArrayList<>();
+		for ( int id = ENTITY_COUNT - 1; id >= 0; id-- ) {
+			ids.add( id );
+		}
+		// an id which doesn't exist
+		ids.add( ENTITY_COUNT );
+
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			statistics.clear();
+			final List<IntNoAutoIdTestEntity> entities = AuditReaderFactory.get( entityManager )
+					.findAll( IntNoAutoIdTestEntity.class, ids, 2 );
+			// 13 ids in chunks of 5
+			assertEquals( 3, statistics.getQueryExecutionCount() );
+
+			assertEquals( ids.size(), entities.size() );
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				assertEquals( ids.get( i ), entities.get( i ).getId() );
+				assertEquals( Integer.valueOf( ids.get( i ) * 10 ), entities.get( i ).getNumVal() );
+			}
+			assertNull( entities.get( ENTITY_COUNT ) );
+		} );
+	}
+
+	@Test
+	public void testFindAllUsesFirstLevelCache() {
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final AuditReader auditReader = AuditReaderFactory.get( entityManager );
+			final IntNoAutoIdTestEntity found = auditReader.find( IntNoAutoIdTestEntity.class, 3, 1 );
+			final List<IntNoAutoIdTestEntity> entities = auditReader.findAll(
+					IntNoAutoIdTestEntity.class,
+					Arrays.asList( 3, 4 ),
+					1
+			);
+			assertSame( found, entities.get( 0 ) );
+			assertEquals( Integer.valueOf( 4 ), entities.get( 1 ).getNumVal() );
+		} );
+	}
+
+	@Test
+	public void testFindAllWithEmbeddedId() {
+		final List<EmbId> ids = Arrays.asList( new EmbId( 1, 2 ), new EmbId( 1, 1 ) );
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final List<EmbIdTestEntity> atRevision1 = AuditReaderFactory.get( entityManager )
+					.findAll( EmbIdTestEntity.class, ids, 1 );
+			assertEquals( "b", atRevision1.get( 0 ).getStr1() );
+			assertEquals( "a", atRevision1.get( 1 ).getStr1() );
+
+			final List<EmbIdTestEntity> atRevision2 = AuditReaderFactory.get( entityManager )
+					.findAll( EmbIdTestEntity.class, ids, 2 );
+			assertEquals( "b", atRevision2.get( 0 ).getStr1() );
+			assertNull( atRevision2.get( 1 ) );
+		} );
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.cache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.IntTestEntity;
+import org.hibernate.stat.Statistics;
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that the historical lookups of the {@link org.hibernate.envers.AuditReader} are served
+ * from the query cache, and that writing a new revision invalidates the cached results.
+ */
+public class AuditReaderQueryCacheTest extends BaseEnversJPAFunctionalTestCase {
+	private Integer id;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { IntTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.USE_QUERY_CACHE, "true" );
+		options.put( EnversSettings.QUERY_CACHE_REGION, "envers-history" );
+		options.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		options.put( AvailableSettings.CACHE_REGION_FACTORY, CachingRegionFactory.class.getName() );
+		options.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final IntTestEntity entity = new IntTestEntity( 10 );
+			entityManager.persist( entity );
+			id = entity.getId();
+		} );
+	}
+
+	@Test
+	public void testHistoryIsCachedAndInvalidated() {
+		final Statistics statistics = entityManagerFactory().unwrap( SessionFactoryImplementor.class ).getStatistics();
+
+		assertEquals( Integer.valueOf( 10 ), findNumber( 1 ) );
+		assertEquals( Arrays.asList( 1 ), getRevisions() );
+
+		statistics.clear();
+		// every lookup uses a new reader, so that the first level cache of the reader is not involved
+		assertEquals( Integer.valueOf( 10 ), findNumber( 1 ) );
+		assertEquals( Arrays.asList( 1 ), getRevisions() );
+		assertEquals( 2, statistics.getQueryCacheHitCount() );
+		assertEquals( 0, statistics.getQueryCacheMissCount() );
+		assertEquals( 2, statistics.getQueryRegionStatistics( "envers-history" ).getHitCount() );
+
+		// Revision 2
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( IntTestEntity.class, id ).setNumber( 20 );
+		} );
+
+		statistics.clear();
+		assertEquals( Integer.valueOf( 10 ), findNumber( 1 ) );
+		assertEquals( Integer.valueOf( 20 ), findNumber( 2 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getRevisions() );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+	}
+
+	private Integer findNumber(int revision) {
+		return TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			return AuditReaderFactory.get( entityManager ).find( IntTestEntity.class, id, revision ).getNumber();
+		} );
+	}
+
+	private List<Number> getRevisions() {
+		return TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			return AuditReaderFactory.get( entityManager ).getRevisions( IntTestEntity.class, id );
+		} );
+	}
+}
@@ -0,0 +1,23 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.cache;
+
+import java.util.Map;
+
+import org.hibernate.envers.configuration.EnversSettings;
+
+/**
+ * Tests that audit rows inserted directly, bypassing the action queue, still invalidate
+ * the cached results of the {@link org.hibernate.envers.AuditReader}.
+ */
+public class DirectAuditWritesQueryCacheTest extends AuditReaderQueryCacheTest {
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.USE_DIRECT_AUDIT_WRITES, "true" );
+	}
+}
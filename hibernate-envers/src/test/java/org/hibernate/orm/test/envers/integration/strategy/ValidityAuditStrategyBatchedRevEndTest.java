@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.IntNoAutoIdTestEntity;
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * A {@link ValidityAuditStrategy} test that verifies that the {@code REVEND} field
+ * is updated for every entity changed in a transaction, when there are more changed
+ * entities than the JDBC batch size.
+ */
+public class ValidityAuditStrategyBatchedRevEndTest extends BaseEnversJPAFunctionalTestCase {
+	private static final int ENTITY_COUNT = 25;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { IntNoAutoIdTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int id = 0; id < ENTITY_COUNT; id++ ) {
+				entityManager.persist( new IntNoAutoIdTestEntity( 0, id ) );
+			}
+		} );
+
+		// Revision 2
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int id = 0; id < ENTITY_COUNT; id++ ) {
+				entityManager.find( IntNoAutoIdTestEntity.class, id ).setNumVal( 1 );
+			}
+		} );
+
+		// Revision 3
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			for ( int id = 0; id < ENTITY_COUNT; id += 2 ) {
+				entityManager.remove( entityManager.find( IntNoAutoIdTestEntity.class, id ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testRevisionCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3 ), getAuditReader().getRevisions( IntNoAutoIdTestEntity.class, 0 ) );
+		assertEquals( Arrays.asList( 1, 2 ), getAuditReader().getRevisions( IntNoAutoIdTestEntity.class, 1 ) );
+	}
+
+	@Test
+	public void testEntitiesAtRevisions() {
+		assertNumValues( 1, ENTITY_COUNT, 0 );
+		assertNumValues( 2, ENTITY_COUNT, 1 );
+		assertNumValues( 3, ENTITY_COUNT / 2, 1 );
+	}
+
+	@Test
+	public void testSingleOpenRowPerEntity() {
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final Number openRows = (Number) entityManager.createNativeQuery(
+					"select count(*) from IntNoAutoIdTestEntity_AUD where REVEND is null"
+			).getSingleResult();
+			// every entity has exactly one row without an end revision
+			assertEquals( ENTITY_COUNT, openRows.intValue() );
+		} );
+	}
+
+	private void assertNumValues(int revision, int expectedCount, int expectedNumVal) {
+		final List<?> entities = getAuditReader().createQuery()
+				.forEntitiesAtRevision( IntNoAutoIdTestEntity.class, revision )
+				.getResultList();
+		assertEquals( expectedCount, entities.size() );
+		for ( Object entity : entities ) {
+			assertEquals( Integer.valueOf( expectedNumVal ), ( (IntNoAutoIdTestEntity) entity ).getNumVal() );
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.envers.integration.strategy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.envers.configuration.EnversSettings;
+import org.hibernate.envers.strategy.ValidityAuditStrategy;
+import org.hibernate.orm.test.envers.BaseEnversJPAFunctionalTestCase;
+import org.hibernate.orm.test.envers.Priority;
+import org.hibernate.orm.test.envers.entities.IntNoAutoIdTestEntity;
+import org.hibernate.testing.transaction.TransactionUtil;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * A {@link ValidityAuditStrategy} test that verifies that the {@code REVEND} field is correct when
+ * the audit rows of several revisions of the same entity are written by a single deferred flush.
+ */
+public class ValidityAuditStrategyDeferredWritesTest extends BaseEnversJPAFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { IntNoAutoIdTestEntity.class };
+	}
+
+	@Override
+	protected void addConfigOptions(Map options) {
+		super.addConfigOptions( options );
+		options.put( EnversSettings.AUDIT_STRATEGY, ValidityAuditStrategy.class.getName() );
+		options.put( EnversSettings.USE_DEFERRED_AUDIT_WRITES, "true" );
+		// long enough for the worker not to run during the test
+		options.put( EnversSettings.DEFERRED_AUDIT_WRITES_INTERVAL, "600000" );
+	}
+
+	@Test
+	@Priority(10)
+	public void initData() {
+		// Revision 1
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.persist( new IntNoAutoIdTestEntity( 0, 1 ) );
+			entityManager.persist( new IntNoAutoIdTestEntity( 0, 2 ) );
+		} );
+
+		// Revision 2
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( IntNoAutoIdTestEntity.class, 1 ).setNumVal( 1 );
+		} );
+
+		// Revision 3
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.find( IntNoAutoIdTestEntity.class, 1 ).setNumVal( 2 );
+			entityManager.find( IntNoAutoIdTestEntity.class, 2 ).setNumVal( 2 );
+		} );
+
+		// Revision 4
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			entityManager.remove( entityManager.find( IntNoAutoIdTestEntity.class, 1 ) );
+		} );
+	}
+
+	@Test
+	@Priority(5)
+	public void testAuditRowsAreDeferred() {
+		TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			assertEquals(
+					0,
+					( (Number) entityManager.createNativeQuery( "select count(*) from IntNoAutoIdTestEntity_AUD" )
+							.getSingleResult() ).intValue()
+			);
+		} );
+	}
+
+	@Test
+	public void testRevisionCounts() {
+		assertEquals( Arrays.asList( 1, 2, 3, 4 ), getAuditReader().getRevisions( IntNoAutoIdTestEntity.class, 1 ) );
+		assertEquals( Arrays.asList( 1, 3 ), getAuditReader().getRevisions( IntNoAutoIdTestEntity.class, 2 ) );
+	}
+
+	@Test
+	public void testEndRevisions() {
+		// the first query writes the deferred audit rows of all the revisions at once
+		getAuditReader().getRevisions( IntNoAutoIdTestEntity.class, 1 );
+
+		assertEquals( Arrays.asList( 2, 3, 4, null ), endRevisions( 1 ) );
+		assertEquals( Arrays.asList( 3, null ), endRevisions( 2 ) );
+	}
+
+	@Test
+	public void testHistory() {
+		assertEquals( Integer.valueOf( 0 ), find( 1, 1 ).getNumVal() );
+		assertEquals( Integer.valueOf( 1 ), find( 1, 2 ).getNumVal() );
+		assertEquals( Integer.valueOf( 2 ), find( 1, 3 ).getNumVal() );
+		assertNull( find( 1, 4 ) );
+		assertEquals( Integer.valueOf( 0 ), find( 2, 2 ).getNumVal() );
+		assertEquals( Integer.valueOf( 2 ), find( 2, 4 ).getNumVal() );
+	}
+
+	private IntNoAutoIdTestEntity find(int id, int revision) {
+		return getAuditReader().find( IntNoAutoIdTestEntity.class, id, revision );
+	}
+
+	private List<Integer> endRevisions(int id) {
+		return TransactionUtil.doInJPA( this::entityManagerFactory, entityManager -> {
+			final List<?> rows = entityManager.createNativeQuery(
+					"select REVEND from IntNoAutoIdTestEntity_AUD where id = :id order by REV"
+			).setParameter( "id", id ).getResultList();
+			final Integer[] endRevisions = new Integer[rows.size()];
+			for ( int i = 0; i < endRevisions.length; i++ ) {
+				endRevisions[i] = rows.get( i ) == null ? null : ( (Number) rows.get( i ) ).intValue();
+			}
+			return Arrays.asList( endRevisions );
+		} );
+	}
+}
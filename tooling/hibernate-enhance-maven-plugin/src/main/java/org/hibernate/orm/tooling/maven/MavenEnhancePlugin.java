@@ -15,9 +15,11 @@ import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.maven.artifact.Artifact;
@@ -38,6 +40,7 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
 import org.hibernate.bytecode.spi.BytecodeProvider;
 
 import org.sonatype.plexus.build.incremental.BuildContext;
@@ -82,6 +85,9 @@ public class MavenEnhancePlugin extends AbstractMojo {
 	@Parameter(property = "enableExtendedEnhancement", defaultValue = "false")
 	private boolean enableExtendedEnhancement;
 
+	@Parameter(property = "enableBuildTimeProxies", defaultValue = "false")
+	private boolean enableBuildTimeProxies;
+
 	private boolean shouldApply() {
 		return enableLazyInitialization || enableDirtyTracking || enableAssociationManagement || enableExtendedEnhancement;
 	}
@@ -179,6 +185,12 @@ public class MavenEnhancePlugin extends AbstractMojo {
 					log.debug( "Successfully enhanced class [" + file + "]" );
 				}
 			}
+			if ( enableBuildTimeProxies ) {
+				final BytecodeProviderImpl proxyGenerator = new BytecodeProviderImpl();
+				for ( File file : sourceSet ) {
+					generateProxies( file, proxyGenerator, classLoader );
+				}
+			}
 		}
 		finally {
 			bytecodeProvider.resetCaches();
@@ -258,6 +270,48 @@ public class MavenEnhancePlugin extends AbstractMojo {
 		}
 	}
 
+	private void generateProxies(File javaClassFile, BytecodeProviderImpl proxyGenerator, ClassLoader classLoader)
+			throws MojoExecutionException {
+		final Map<String, byte[]> generatedClasses;
+		try {
+			String className = javaClassFile.getAbsolutePath().substring(
+					base.length() + 1,
+					javaClassFile.getAbsolutePath().length() - ".class".length()
+			).replace( File.separatorChar, '.' );
+			generatedClasses = proxyGenerator.buildPregeneratedClasses(
+					className,
+					Files.readAllBytes( javaClassFile.toPath() ),
+					classLoader
+			);
+		}
+		catch (Exception e) {
+			String msg = "Unable to generate proxies for class: " + javaClassFile.getName();
+			if ( failOnError ) {
+				throw new MojoExecutionException( msg, e );
+			}
+			buildContext.addMessage( javaClassFile, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+			return;
+		}
+
+		for ( Map.Entry<String, byte[]> generatedClass : generatedClasses.entrySet() ) {
+			final File file = new File( base, generatedClass.getKey().replace( '.', File.separatorChar ) + ".class" );
+			try ( OutputStream outputStream = buildContext.newFileOutputStream( file ) ) {
+				outputStream.write( generatedClass.getValue() );
+			}
+			catch (IOException e) {
+				String msg = String.format( "Error writing generated class [%s] to file [%s]", generatedClass.getKey(), file.getAbsolutePath() );
+				if ( failOnError ) {
+					throw new MojoExecutionException( msg, e );
+				}
+				buildContext.addMessage( javaClassFile, 0, 0, msg, BuildContext.SEVERITY_WARNING, e );
+				continue;
+			}
+			if ( getLog().isDebugEnabled() ) {
+				getLog().debug( "Successfully generated class [" + file + "]" );
+			}
+		}
+	}
+
 	private void discoverTypes(File javaClassFile, Enhancer enhancer) throws MojoExecutionException {
 		try {
 			String className = javaClassFile.getAbsolutePath().substring(
@@ -10,6 +10,7 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Map;
 
 import org.gradle.api.GradleException;
 import org.gradle.api.Project;
@@ -22,6 +23,7 @@ import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
 import org.hibernate.bytecode.enhance.spi.UnloadedClass;
 import org.hibernate.bytecode.enhance.spi.UnloadedField;
+import org.hibernate.bytecode.internal.bytebuddy.BytecodeProviderImpl;
 import org.hibernate.orm.tooling.gradle.HibernateOrmSpec;
 
 import static org.hibernate.bytecode.internal.BytecodeProviderInitiator.buildDefaultBytecodeProvider;
@@ -50,6 +52,51 @@ public class EnhancementHelper {
 
 		discoverTypes( classesDir, classesDir, enhancer, project );
 		doEnhancement( classesDir, classesDir, enhancer, project );
+
+		if ( enhancementDsl.getEnableBuildTimeProxies().get() ) {
+			generateProxies( classesDir, classesDir, new BytecodeProviderImpl(), classLoader, project );
+		}
+	}
+
+	private static void generateProxies(
+			File classesDir,
+			File dir,
+			BytecodeProviderImpl proxyGenerator,
+			ClassLoader classLoader,
+			Project project) {
+		for ( File subLocation : dir.listFiles() ) {
+			if ( subLocation.isDirectory() ) {
+				generateProxies( classesDir, subLocation, proxyGenerator, classLoader, project );
+			}
+			else if ( subLocation.isFile() && subLocation.getName().endsWith( ".class" ) ) {
+				final String className = determineClassName( classesDir, subLocation );
+				final Map<String, byte[]> generatedClasses;
+				try {
+					generatedClasses = proxyGenerator.buildPregeneratedClasses(
+							className,
+							Files.readAllBytes( subLocation.toPath() ),
+							classLoader
+					);
+				}
+				catch (Exception e) {
+					throw new GradleException( "Unable to generate proxies for class : " + className, e );
+				}
+
+				for ( Map.Entry<String, byte[]> generatedClass : generatedClasses.entrySet() ) {
+					final File file = new File(
+							classesDir,
+							generatedClass.getKey().replace( '.', File.separatorChar ) + ".class"
+					);
+					try {
+						Files.write( file.toPath(), generatedClass.getValue() );
+					}
+					catch (IOException e) {
+						throw new GradleException( "Error writing generated class to file [" + file.getAbsolutePath() + "]", e );
+					}
+					project.getLogger().info( "Successfully generated class : " + generatedClass.getKey() );
+				}
+			}
+		}
 	}
 
 	private static void discoverTypes(File classesDir, File dir, Enhancer enhancer, Project project) {
@@ -28,6 +28,7 @@ public class EnhancementSpec {
 	private final Property<Boolean> enableDirtyTracking;
 	private final Property<Boolean> enableAssociationManagement;
 	private final Property<Boolean> enableExtendedEnhancement;
+	private final Property<Boolean> enableBuildTimeProxies;
 
 
 	@Inject
@@ -38,6 +39,7 @@ public class EnhancementSpec {
 		enableDirtyTracking = makeProperty( project ).convention( true );
 		enableAssociationManagement = makeProperty( project ).convention( false );
 		enableExtendedEnhancement = makeProperty( project ).convention( false );
+		enableBuildTimeProxies = makeProperty( project ).convention( false );
 	}
 
 	@SuppressWarnings( "UnstableApiUsage" )
@@ -83,6 +85,14 @@ public class EnhancementSpec {
 		return enableExtendedEnhancement;
 	}
 
+	/**
+	 * Whether the entity proxies and instantiators, otherwise generated when the SessionFactory
+	 * is built, should be generated at build time.
+	 */
+	public Property<Boolean> getEnableBuildTimeProxies() {
+		return enableBuildTimeProxies;
+	}
+
 
 	/**
 	 * @deprecated See the Gradle property naming <a href="https://docs.gradle.org/current/userguide/lazy_configuration.html#lazy_configuration_faqs">guidelines</a>
@@ -0,0 +1,88 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.tooling.gradle.misc;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.gradle.api.GradleException;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.SourceTask;
+import org.gradle.api.tasks.TaskAction;
+
+import org.hibernate.boot.jaxb.internal.CacheableFileXmlSource;
+import org.hibernate.boot.jaxb.internal.MappingBinder;
+
+/**
+ * Task to bind mapping files ({@code `hbm.xml`} or {@code `orm.xml`}) at build time,
+ * and to write the bound mappings as the cache files used by
+ * {@link org.hibernate.boot.MetadataSources#addCacheableFileStrictly(File, File)},
+ * so that the XML is neither parsed nor validated when the application boots.
+ * <p>
+ * The cache files are written into the specified {@link #getOutputDirectory() output directory},
+ * which should then be passed as the cache directory when adding the mapping files at runtime.
+ * A cache file is named after its mapping file, with an additional {@code `.bin`} extension,
+ * so the task fails if two mapping files have the same name.
+ * <p>
+ * A cache file records the Hibernate version which wrote it, and a digest of its mapping file.
+ * At runtime, the mapping file is bound instead of a cache file written by another version of
+ * Hibernate.
+ * <p>
+ * Only the binding of the XML is cached. This task does not write a snapshot of the completed
+ * {@link org.hibernate.boot.spi.MetadataImplementor}: the metadata, including the annotations
+ * of the domain model, is still built on each boot.
+ *
+ * @see CacheableFileXmlSource
+ */
+public abstract class CacheMappingXmlTask extends SourceTask {
+	private final DirectoryProperty outputDirectory;
+
+	public CacheMappingXmlTask() {
+		this.outputDirectory = getProject().getObjects().directoryProperty();
+	}
+
+	/**
+	 * The directory into which the cache files are written.
+	 */
+	@OutputDirectory
+	public DirectoryProperty getOutputDirectory() {
+		return outputDirectory;
+	}
+
+	@TaskAction
+	public void cacheFiles() {
+		// a validating binder, so that invalid mappings fail the build instead of the boot
+		final MappingBinder mappingBinder = new MappingBinder(
+				MappingBinder.class.getClassLoader()::getResourceAsStream,
+				(Function<String, Object>) null
+		);
+
+		final File cacheDirectory = outputDirectory.get().getAsFile();
+		//noinspection ResultOfMethodCallIgnored
+		cacheDirectory.mkdirs();
+
+		// the cache directory is flat, as expected by CacheableFileXmlSource
+		final Map<String, File> xmlFilesByName = new HashMap<>();
+		getSource().forEach( (xmlFile) -> {
+			final File sameNameFile = xmlFilesByName.put( xmlFile.getName(), xmlFile );
+			if ( sameNameFile != null ) {
+				throw new GradleException(
+						"Mapping files `" + sameNameFile.getAbsolutePath() + "` and `" + xmlFile.getAbsolutePath()
+								+ "` have the same name, and cannot be cached into the same directory"
+				);
+			}
+			CacheableFileXmlSource.createSerFile(
+					xmlFile,
+					new File( cacheDirectory, xmlFile.getName() + ".bin" ),
+					mappingBinder
+			);
+		} );
+	}
+}
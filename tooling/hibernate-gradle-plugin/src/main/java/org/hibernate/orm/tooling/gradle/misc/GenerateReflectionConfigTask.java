@@ -0,0 +1,255 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.tooling.gradle.misc;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.tasks.Classpath;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.TaskAction;
+
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.pool.TypePool;
+
+import static org.hibernate.orm.tooling.gradle.Helper.determineClassName;
+
+/**
+ * Task to generate the GraalVM reflection configuration ({@code `reflect-config.json`})
+ * needed by the domain model at build time.
+ * <p>
+ * The compiled classes in the {@link #getClassesDirectories() classes directories} are
+ * inspected without being loaded.  Entities, mapped-superclasses and embeddables are
+ * registered with all their constructors, fields and methods, while attribute converters
+ * and user types are only registered with their constructors.
+ * <p>
+ * When the entity proxies and instantiators are generated at build time, using
+ * {@code enableBuildTimeProxies}, the generated {@code `Foo$HibernateProxy`} and
+ * {@code `Foo$HibernateInstantiator`} classes are found in the classes directories as well,
+ * and are registered with their constructors, since they are looked up by name and
+ * instantiated reflectively at runtime.  Proxies and instantiators generated at boot
+ * cannot be registered, as their names are random: with a native image, enable
+ * {@code enableBuildTimeProxies}.
+ * <p>
+ * The {@code `reflect-config.json`} file is written into the specified
+ * {@link #getOutputDirectory() output directory}, which should be a
+ * {@code `META-INF/native-image`} sub-directory of a resources directory,
+ * so that it is picked up by the {@code native-image} tool.
+ */
+public abstract class GenerateReflectionConfigTask extends DefaultTask {
+	public static final String REFLECT_CONFIG_FILE_NAME = "reflect-config.json";
+
+	private static final Set<String> MODEL_ANNOTATIONS = Set.of(
+			"jakarta.persistence.Entity",
+			"jakarta.persistence.MappedSuperclass",
+			"jakarta.persistence.Embeddable"
+	);
+
+	private static final Set<String> CONVERTER_ANNOTATIONS = Set.of( "jakarta.persistence.Converter" );
+
+	private static final Set<String> CONVERTER_CONTRACTS = Set.of(
+			"jakarta.persistence.AttributeConverter",
+			"org.hibernate.usertype.UserType",
+			"org.hibernate.usertype.CompositeUserType"
+	);
+
+	/**
+	 * The name suffixes of the classes generated at build time by {@code enableBuildTimeProxies},
+	 * along with the contract which they implement.
+	 */
+	private static final Map<String, String> PREGENERATED_CLASS_CONTRACTS = Map.of(
+			"$HibernateProxy", "org.hibernate.proxy.ProxyConfiguration",
+			"$HibernateInstantiator", "org.hibernate.bytecode.spi.ReflectionOptimizer$InstantiationOptimizer"
+	);
+
+	private final ConfigurableFileCollection classesDirectories;
+	private final ConfigurableFileCollection classpath;
+	private final DirectoryProperty outputDirectory;
+
+	public GenerateReflectionConfigTask() {
+		this.classesDirectories = getProject().getObjects().fileCollection();
+		this.classpath = getProject().getObjects().fileCollection();
+		this.outputDirectory = getProject().getObjects().directoryProperty();
+	}
+
+	/**
+	 * The directories containing the compiled domain model, usually the
+	 * {@code `output.classesDirs`} of the source-set.
+	 */
+	@InputFiles
+	public ConfigurableFileCollection getClassesDirectories() {
+		return classesDirectories;
+	}
+
+	/**
+	 * The classpath used to resolve the super-types of the domain model classes,
+	 * usually the {@code `compileClasspath`} of the source-set.
+	 */
+	@Classpath
+	public ConfigurableFileCollection getClasspath() {
+		return classpath;
+	}
+
+	/**
+	 * The directory into which the {@code `reflect-config.json`} file is written.
+	 */
+	@OutputDirectory
+	public DirectoryProperty getOutputDirectory() {
+		return outputDirectory;
+	}
+
+	@TaskAction
+	public void generateReflectionConfig() {
+		// sorted, so that the generated file is reproducible
+		final Map<String, Boolean> registrations = new TreeMap<>();
+
+		try ( ClassFileLocator classFileLocator = buildClassFileLocator() ) {
+			final TypePool typePool = TypePool.Default.of( classFileLocator );
+			for ( File classesDirectory : classesDirectories.getFiles() ) {
+				if ( !classesDirectory.isDirectory() ) {
+					continue;
+				}
+				getProject().fileTree( classesDirectory ).matching( (filter) -> filter.include( "**/*.class" )
+								.exclude( "**/module-info.class", "**/package-info.class" ) )
+						.forEach( (classFile) -> {
+							final String className = determineClassName( classesDirectory, classFile );
+							final TypeDescription type = typePool.describe( className ).resolve();
+							if ( isModel( type ) ) {
+								registrations.put( className, true );
+							}
+							else if ( isConverter( type ) || isPregenerated( type ) ) {
+								registrations.put( className, false );
+							}
+						} );
+			}
+		}
+		catch (IOException e) {
+			throw new GradleException( "Unable to read the domain model classes", e );
+		}
+
+		final File outputDir = outputDirectory.get().getAsFile();
+		//noinspection ResultOfMethodCallIgnored
+		outputDir.mkdirs();
+		final File reflectConfigFile = new File( outputDir, REFLECT_CONFIG_FILE_NAME );
+		try {
+			Files.writeString( reflectConfigFile.toPath(), toJson( registrations ), StandardCharsets.UTF_8 );
+		}
+		catch (IOException e) {
+			throw new GradleException( "Unable to write " + reflectConfigFile.getAbsolutePath(), e );
+		}
+
+		getLogger().info( "Registered {} domain model classes for reflection", registrations.size() );
+	}
+
+	private ClassFileLocator buildClassFileLocator() throws IOException {
+		final List<ClassFileLocator> locators = new ArrayList<>();
+		for ( File classesDirectory : classesDirectories.getFiles() ) {
+			locators.add( new ClassFileLocator.ForFolder( classesDirectory ) );
+		}
+		for ( File entry : classpath.getFiles() ) {
+			if ( entry.isDirectory() ) {
+				locators.add( new ClassFileLocator.ForFolder( entry ) );
+			}
+			else if ( entry.isFile() ) {
+				locators.add( ClassFileLocator.ForJarFile.of( entry ) );
+			}
+		}
+		locators.add( ClassFileLocator.ForClassLoader.ofBootLoader() );
+		return new ClassFileLocator.Compound( locators );
+	}
+
+	private static boolean isModel(TypeDescription type) {
+		return hasAnnotation( type, MODEL_ANNOTATIONS );
+	}
+
+	private static boolean isConverter(TypeDescription type) {
+		if ( hasAnnotation( type, CONVERTER_ANNOTATIONS ) ) {
+			return true;
+		}
+		// unannotated converters and user types are instantiated when named by the mappings
+		return !type.isInterface()
+				&& !type.isAbstract()
+				&& implementsAny( type, CONVERTER_CONTRACTS );
+	}
+
+	private static boolean isPregenerated(TypeDescription type) {
+		// loaded by name, and instantiated through their constructor, by the bytecode provider
+		for ( Map.Entry<String, String> pregenerated : PREGENERATED_CLASS_CONTRACTS.entrySet() ) {
+			if ( type.getName().endsWith( pregenerated.getKey() )
+					&& implementsAny( type, Set.of( pregenerated.getValue() ) ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasAnnotation(TypeDescription type, Set<String> annotationNames) {
+		for ( AnnotationDescription annotation : type.getDeclaredAnnotations() ) {
+			if ( annotationNames.contains( annotation.getAnnotationType().getName() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean implementsAny(TypeDefinition type, Set<String> contractNames) {
+		if ( type == null || type.represents( Object.class ) ) {
+			return false;
+		}
+		try {
+			if ( contractNames.contains( type.asErasure().getName() ) ) {
+				return true;
+			}
+			for ( TypeDefinition contract : type.getInterfaces() ) {
+				if ( implementsAny( contract, contractNames ) ) {
+					return true;
+				}
+			}
+			return implementsAny( type.getSuperClass(), contractNames );
+		}
+		catch (IllegalStateException e) {
+			// a super-type which is not on the classpath cannot be one of the contracts
+			return false;
+		}
+	}
+
+	private static String toJson(Map<String, Boolean> registrations) {
+		final StringBuilder json = new StringBuilder( "[" );
+		String separator = "\n";
+		for ( Map.Entry<String, Boolean> registration : registrations.entrySet() ) {
+			json.append( separator )
+					.append( "  {\n" )
+					.append( "    \"name\": \"" ).append( registration.getKey() ).append( "\",\n" );
+			if ( registration.getValue() ) {
+				json.append( "    \"allDeclaredConstructors\": true,\n" )
+						.append( "    \"allDeclaredFields\": true,\n" )
+						.append( "    \"allDeclaredMethods\": true\n" );
+			}
+			else {
+				json.append( "    \"allDeclaredConstructors\": true\n" );
+			}
+			json.append( "  }" );
+			separator = ",\n";
+		}
+		return json.append( "\n]\n" ).toString();
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.tooling.gradle;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.BuildTask;
+import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
+
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.SourceType;
+import org.hibernate.boot.jaxb.internal.CacheableFileXmlSource;
+import org.hibernate.boot.jaxb.internal.MappingBinder;
+import org.hibernate.boot.jaxb.mapping.JaxbEntityMappings;
+import org.hibernate.boot.jaxb.spi.Binding;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Functional tests of {@link org.hibernate.orm.tooling.gradle.misc.CacheMappingXmlTask}
+ */
+class CacheMappingXmlTaskTests {
+
+	@Test
+	public void testCacheFilesAreWritten(@TempDir Path projectDir) {
+		Copier.copyProject( "cache-mapping-xml/build.gradle", projectDir );
+
+		final BuildResult result = GradleRunner.create()
+				.withProjectDir( projectDir.toFile() )
+				.withPluginClasspath()
+				.withDebug( true )
+				.withArguments( "cacheMappingXml", "--stacktrace", "--no-build-cache" )
+				.forwardOutput()
+				.build();
+		final BuildTask task = result.task( ":cacheMappingXml" );
+		assertThat( task ).isNotNull();
+		assertThat( task.getOutcome() ).isEqualTo( TaskOutcome.SUCCESS );
+
+		final File xmlFile = new File( projectDir.toFile(), "src/main/resources/META-INF/orm.xml" );
+		final File cacheDirectory = new File( projectDir.toFile(), "build/hibernate/mapping-cache" );
+		assertThat( new File( cacheDirectory, "orm.xml.bin" ) ).isFile();
+
+		// the cache file is accepted at runtime, as if the mapping file was added strictly
+		final MappingBinder mappingBinder = new MappingBinder(
+				MappingBinder.class.getClassLoader()::getResourceAsStream,
+				(Function<String, Object>) null
+		);
+		final Binding<?> binding = new CacheableFileXmlSource(
+				new Origin( SourceType.FILE, xmlFile.getAbsolutePath() ),
+				xmlFile,
+				cacheDirectory,
+				true
+		).doBind( mappingBinder );
+		assertThat( binding.getRoot() ).isInstanceOf( JaxbEntityMappings.class );
+		assertThat( ( (JaxbEntityMappings) binding.getRoot() ).getPackage() ).isEqualTo( "org.hibernate.orm.tooling.gradle.main" );
+	}
+
+	@Test
+	public void testMappingFilesWithSameNameFail(@TempDir Path projectDir) {
+		Copier.copyProject( "cache-mapping-xml/build.gradle", projectDir );
+
+		final BuildResult result = GradleRunner.create()
+				.withProjectDir( projectDir.toFile() )
+				.withPluginClasspath()
+				.withDebug( true )
+				.withArguments( "cacheDuplicateMappingXml", "--stacktrace", "--no-build-cache" )
+				.forwardOutput()
+				.buildAndFail();
+		final BuildTask task = result.task( ":cacheDuplicateMappingXml" );
+		assertThat( task ).isNotNull();
+		assertThat( task.getOutcome() ).isEqualTo( TaskOutcome.FAILED );
+		assertThat( result.getOutput() ).contains( "have the same name" );
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.tooling.gradle;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.BuildTask;
+import org.gradle.testkit.runner.GradleRunner;
+import org.gradle.testkit.runner.TaskOutcome;
+
+import org.hibernate.orm.tooling.gradle.misc.GenerateReflectionConfigTask;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Functional tests of {@link GenerateReflectionConfigTask}
+ */
+class GenerateReflectionConfigTaskTests {
+
+	@Test
+	public void testReflectionConfig(@TempDir Path projectDir) throws Exception {
+		Copier.copyProject( "reflection-config/build.gradle", projectDir );
+
+		final BuildResult result = GradleRunner.create()
+				.withProjectDir( projectDir.toFile() )
+				.withPluginClasspath()
+				.withDebug( true )
+				.withArguments( "generateReflectionConfig", "--stacktrace", "--no-build-cache" )
+				.forwardOutput()
+				.build();
+		final BuildTask task = result.task( ":generateReflectionConfig" );
+		assertThat( task ).isNotNull();
+		assertThat( task.getOutcome() ).isEqualTo( TaskOutcome.SUCCESS );
+
+		final Path reflectConfigFile = projectDir.resolve(
+				"build/generated/native-image/META-INF/native-image/" + GenerateReflectionConfigTask.REFLECT_CONFIG_FILE_NAME
+		);
+		assertThat( reflectConfigFile ).isRegularFile();
+
+		// the domain model is fully registered, the converters and the classes generated at build time
+		// only with their constructors, and classes unrelated to the domain model are not registered at all
+		assertThat( Files.readString( reflectConfigFile, StandardCharsets.UTF_8 ) ).isEqualTo(
+				"[\n"
+						+ converter( "TheConverter" ) + ",\n"
+						+ model( "TheEmbeddable" ) + ",\n"
+						+ model( "TheEntity" ) + ",\n"
+						+ converter( "TheEntity$HibernateInstantiator" ) + ",\n"
+						+ converter( "TheEntity$HibernateProxy" ) + ",\n"
+						+ model( "TheMappedSuperclass" ) + ",\n"
+						+ converter( "TheUnannotatedConverter" ) + "\n"
+						+ "]\n"
+		);
+	}
+
+	@Test
+	public void testReflectionConfigUpToDate(@TempDir Path projectDir) {
+		Copier.copyProject( "reflection-config/build.gradle", projectDir );
+
+		final GradleRunner gradleRunner = GradleRunner.create()
+				.withProjectDir( projectDir.toFile() )
+				.withPluginClasspath()
+				.withDebug( true )
+				.withArguments( "generateReflectionConfig", "--stacktrace", "--no-build-cache" )
+				.forwardOutput();
+
+		assertThat( gradleRunner.build().task( ":generateReflectionConfig" ).getOutcome() )
+				.isEqualTo( TaskOutcome.SUCCESS );
+		assertThat( gradleRunner.build().task( ":generateReflectionConfig" ).getOutcome() )
+				.isEqualTo( TaskOutcome.UP_TO_DATE );
+	}
+
+	private static String model(String className) {
+		return "  {\n"
+				+ "    \"name\": \"" + className + "\",\n"
+				+ "    \"allDeclaredConstructors\": true,\n"
+				+ "    \"allDeclaredFields\": true,\n"
+				+ "    \"allDeclaredMethods\": true\n"
+				+ "  }";
+	}
+
+	private static String converter(String className) {
+		return "  {\n"
+				+ "    \"name\": \"" + className + "\",\n"
+				+ "    \"allDeclaredConstructors\": true\n"
+				+ "  }";
+	}
+}
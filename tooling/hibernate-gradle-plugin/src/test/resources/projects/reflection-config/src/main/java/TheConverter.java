@@ -0,0 +1,21 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter( autoApply = true )
+public class TheConverter implements AttributeConverter<Character, String> {
+	@Override
+	public String convertToDatabaseColumn(Character attribute) {
+		return attribute == null ? null : attribute.toString();
+	}
+
+	@Override
+	public Character convertToEntityAttribute(String dbData) {
+		return dbData == null ? null : dbData.charAt( 0 );
+	}
+}
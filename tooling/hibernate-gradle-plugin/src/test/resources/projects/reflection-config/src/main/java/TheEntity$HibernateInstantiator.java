@@ -0,0 +1,17 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+import org.hibernate.bytecode.spi.ReflectionOptimizer;
+
+/**
+ * Stands in for the instantiator generated at build time by {@code enableBuildTimeProxies}
+ */
+public class TheEntity$HibernateInstantiator implements ReflectionOptimizer.InstantiationOptimizer {
+	@Override
+	public Object newInstance() {
+		return new TheEntity();
+	}
+}
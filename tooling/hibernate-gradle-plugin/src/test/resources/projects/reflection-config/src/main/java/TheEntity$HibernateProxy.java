@@ -0,0 +1,13 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+import org.hibernate.proxy.ProxyConfiguration;
+
+/**
+ * Stands in for the proxy generated at build time by {@code enableBuildTimeProxies}
+ */
+public abstract class TheEntity$HibernateProxy extends TheEntity implements ProxyConfiguration {
+}
@@ -0,0 +1,20 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+
+@Entity
+public class TheEntity extends TheMappedSuperclass {
+	private String name;
+
+	@Embedded
+	private TheEmbeddable theEmbeddable;
+
+	@Convert( converter = TheUnannotatedConverter.class )
+	private Boolean flag;
+}
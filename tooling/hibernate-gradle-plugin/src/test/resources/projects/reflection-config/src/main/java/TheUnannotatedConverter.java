@@ -0,0 +1,19 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+import jakarta.persistence.AttributeConverter;
+
+public class TheUnannotatedConverter implements AttributeConverter<Boolean, String> {
+	@Override
+	public String convertToDatabaseColumn(Boolean attribute) {
+		return attribute == null ? null : attribute ? "Y" : "N";
+	}
+
+	@Override
+	public Boolean convertToEntityAttribute(String dbData) {
+		return dbData == null ? null : "Y".equals( dbData );
+	}
+}